@@ -54,3 +54,47 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// SSE 부하 테스트 (src/loadtest) - 실행 중인 서버에 대해 수행, 빌드/테스트에는 포함되지 않음
+sourceSets {
+    create("loadtest") {
+        java.srcDir("src/loadtest/java")
+    }
+}
+
+dependencies {
+    "loadtestImplementation"("com.fasterxml.jackson.core:jackson-databind")
+}
+
+tasks.register<JavaExec>("sseLoadTest") {
+    group = "verification"
+    description = "SSE 부하 테스트 (-Dloadtest.connections=10000 등으로 설정)"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("com.taskflow.loadtest.SseLoadTest")
+    jvmArgs("-Xmx1g")
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") }
+        .mapKeys { it.key.toString() })
+}
+
+// JMH 벤치마크 (src/jmh) - 빌드/테스트에는 포함되지 않음
+sourceSets {
+    create("jmh") {
+        java.srcDir("src/jmh/java")
+        compileClasspath += sourceSets["main"].output + sourceSets["test"].compileClasspath
+        runtimeClasspath += sourceSets["main"].output + sourceSets["test"].runtimeClasspath
+    }
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "JMH 벤치마크 (-Djmh.include=JwtFilterBenchmark 등으로 대상 지정)"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(System.getProperty("jmh.include", ".*Benchmark.*"))
+}
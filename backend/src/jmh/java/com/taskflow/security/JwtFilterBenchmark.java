@@ -0,0 +1,78 @@
+package com.taskflow.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 벤치마크
+ *
+ * 실행: ./gradlew jmh -Djmh.include=JwtFilterBenchmark
+ *
+ * - filterCached: 검증 캐시 사용 (같은 토큰 반복 요청)
+ * - filterUncached: 검증 캐시 미사용 (요청당 1회 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "bG9jYWwtZGV2LWp3dC1zZWNyZXQta2V5LW11c3QtYmUtYXQtbGVhc3QtMjU2LWJpdHMtbG9uZy1mb3ItaHMyNTY=";
+    private static final long ACCESS_VALIDITY = 1_800_000L;
+    private static final long REFRESH_VALIDITY = 604_800_000L;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, ACCESS_VALIDITY, REFRESH_VALIDITY, 10_000);
+        JwtTokenProvider uncachedProvider = new JwtTokenProvider(SECRET, ACCESS_VALIDITY, REFRESH_VALIDITY, 0);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider);
+        uncachedFilter = new JwtAuthenticationFilter(uncachedProvider);
+        token = cachedProvider.createAccessToken(1L, "admin");
+    }
+
+    @Benchmark
+    public void filterCached(Blackhole blackhole) throws ServletException, IOException {
+        runFilter(cachedFilter, blackhole);
+    }
+
+    @Benchmark
+    public void filterUncached(Blackhole blackhole) throws ServletException, IOException {
+        runFilter(uncachedFilter, blackhole);
+    }
+
+    private void runFilter(JwtAuthenticationFilter filter, Blackhole blackhole) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        request.setServletPath("/api/boards");
+        request.addHeader("Authorization", "Bearer " + token);
+        FilterChain chain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
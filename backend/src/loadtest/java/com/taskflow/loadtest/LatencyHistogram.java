@@ -0,0 +1,63 @@
+package com.taskflow.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 1ms 단위 지연시간 히스토그램
+ *
+ * 수십만 건의 수신 지연을 잠금 없이 기록하고 백분위수를 계산합니다.
+ * 최대 범위를 넘는 값은 마지막 구간에 합산됩니다.
+ */
+public class LatencyHistogram {
+
+    private final AtomicLongArray buckets;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+
+    public LatencyHistogram(int maxMillis) {
+        this.buckets = new AtomicLongArray(maxMillis + 1);
+    }
+
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        buckets.incrementAndGet((int) Math.min(value, buckets.length() - 1));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * 백분위수 (0 < percentile <= 100)
+     */
+    public long percentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return buckets.length() - 1;
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 부하 테스트용 REST/SSE 클라이언트
+ *
+ * 서버의 JSON 명명 규칙(snake_case)에 맞춰 요청 본문을 구성합니다.
+ */
+public class LoadTestApiClient {
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoadTestApiClient(String baseUrl, HttpClient httpClient) {
+        this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
+    }
+
+    // =============================================
+    // 인증/준비
+    // =============================================
+
+    public boolean isHealthy() {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/api/health"))
+                            .timeout(Duration.ofSeconds(2))
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 로그인 (실패 시 null)
+     *
+     * @return data 노드 (access_token, user.user_id)
+     */
+    public JsonNode login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST", "/api/auth/login", null,
+                Map.of("username", username, "password", password));
+        return response.statusCode() == 200 ? data(response) : null;
+    }
+
+    public void createUser(String token, String username, String password) throws IOException, InterruptedException {
+        expect(send("POST", "/api/users", token, Map.of(
+                "username", username,
+                "password", password,
+                "password_confirm", password,
+                "name", "부하테스트")), 201);
+    }
+
+    public long createBoard(String token, String boardName) throws IOException, InterruptedException {
+        JsonNode board = data(expect(send("POST", "/api/boards", token, Map.of("board_name", boardName)), 201));
+        return board.path("board_id").asLong();
+    }
+
+    public void shareBoard(String token, long boardId, long userId) throws IOException, InterruptedException {
+        expect(send("POST", "/api/boards/" + boardId + "/shares", token,
+                Map.of("user_id", userId, "permission", "VIEW")), 201);
+    }
+
+    public void deleteBoard(String token, long boardId) throws IOException, InterruptedException {
+        send("DELETE", "/api/boards/" + boardId, token, null);
+    }
+
+    public long createItem(String token, long boardId, String title) throws IOException, InterruptedException {
+        JsonNode item = data(expect(send("POST", "/api/boards/" + boardId + "/items", token,
+                Map.of("title", title)), 201));
+        return item.path("item_id").asLong();
+    }
+
+    // =============================================
+    // 부하
+    // =============================================
+
+    /**
+     * 아이템 제목 변경 (SSE item:updated 유발)
+     */
+    public boolean updateItemTitle(String token, long boardId, long itemId, String title) {
+        try {
+            return send("PUT", "/api/boards/" + boardId + "/items/" + itemId, token,
+                    Map.of("title", title)).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * SSE 연결 (응답 상태 코드로 완료)
+     */
+    public CompletableFuture<HttpResponse<Void>> subscribe(String token, long boardId, SseStreamSubscriber subscriber) {
+        String query = "?token=" + URLEncoder.encode(token, StandardCharsets.UTF_8) + "&boardId=" + boardId;
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/sse/subscribe" + query))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(subscriber));
+    }
+
+    /**
+     * 서버 SSE 통계 (GET /api/sse/stats)
+     */
+    public JsonNode sseStats(String token) throws IOException, InterruptedException {
+        return data(expect(send("GET", "/api/sse/stats", token, null), 200));
+    }
+
+    public JsonNode busStats(String token) throws IOException, InterruptedException {
+        return data(expect(send("GET", "/api/sse/bus/stats", token, null), 200));
+    }
+
+    // =============================================
+    // 내부
+    // =============================================
+
+    private HttpResponse<String> send(String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        builder.method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> expect(HttpResponse<String> response, int status) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException(response.request().method() + " " + response.uri().getPath()
+                    + " -> " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private JsonNode data(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body()).path("data");
+    }
+}
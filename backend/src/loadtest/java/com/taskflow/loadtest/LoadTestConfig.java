@@ -0,0 +1,53 @@
+package com.taskflow.loadtest;
+
+/**
+ * SSE 부하 테스트 설정
+ *
+ * 모든 값은 시스템 프로퍼티(-Dloadtest.*)로 변경할 수 있습니다.
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        String adminUsername,
+        String adminPassword,
+        String subscriberUsername,
+        String subscriberPassword,
+        int connections,
+        int boards,
+        int itemsPerBoard,
+        int connectRatePerSecond,
+        int mutationsPerSecond,
+        int mutationThreads,
+        int warmupSeconds,
+        int durationSeconds,
+        int drainSeconds,
+        boolean cleanup
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                string("baseUrl", "http://localhost:8080"),
+                string("adminUsername", "admin"),
+                string("adminPassword", "admin1234"),
+                string("subscriberUsername", "loadtest01"),
+                string("subscriberPassword", "Loadtest1!"),
+                integer("connections", 10_000),
+                integer("boards", 50),
+                integer("itemsPerBoard", 20),
+                integer("connectRate", 500),
+                integer("mutationRate", 50),
+                integer("mutationThreads", 8),
+                integer("warmupSeconds", 10),
+                integer("durationSeconds", 60),
+                integer("drainSeconds", 5),
+                Boolean.parseBoolean(string("cleanup", "true"))
+        );
+    }
+
+    private static String string(String key, String defaultValue) {
+        return System.getProperty("loadtest." + key, defaultValue);
+    }
+
+    private static int integer(String key, int defaultValue) {
+        return Integer.parseInt(string(key, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,329 @@
+package com.taskflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 부하 테스트
+ *
+ * 로컬에서 실행 중인 서버(local,loadtest 프로파일)에 대해:
+ * 1. 부하 테스트 보드/아이템과 구독 사용자를 준비하고
+ * 2. 여러 보드에 나눠 수천 개의 SSE 연결을 열고
+ * 3. 관리자 계정으로 아이템 제목을 일정 속도로 수정하면서
+ * 4. 전달 지연 백분위수, 초당 이벤트 수, 연결당 힙, 끊긴 연결 수를 보고합니다.
+ *
+ * 실행: scripts/sse-loadtest.sh 또는 ./gradlew sseLoadTest -Dloadtest.connections=10000
+ */
+public class SseLoadTest {
+
+    private static final int MAX_LATENCY_MS = 60_000;
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final LoadTestApiClient api;
+
+    private final LatencyHistogram latency = new LatencyHistogram(MAX_LATENCY_MS);
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong expected = new AtomicLong();
+    private final AtomicLong mutations = new AtomicLong();
+    private final AtomicLong mutationFailures = new AtomicLong();
+    private final AtomicLong mutationSequence = new AtomicLong();
+
+    /**
+     * 측정 구간 첫 변경 순번 (워밍업 구간 변경은 집계에서 제외)
+     */
+    private final AtomicLong measureFrom = new AtomicLong(Long.MAX_VALUE);
+
+    private final List<SseStreamSubscriber> subscribers = new ArrayList<>();
+    private final List<List<SseStreamSubscriber>> subscribersByBoard = new ArrayList<>();
+    private final List<Long> boardIds = new ArrayList<>();
+    private final List<long[]> itemIds = new ArrayList<>();
+
+    private double measuredSeconds;
+
+    public SseLoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        this.api = new LoadTestApiClient(config.baseUrl(), httpClient);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        new SseLoadTest(config).run();
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        log("config: %s", config);
+        waitForServer();
+
+        String adminToken = loginOrFail(config.adminUsername(), config.adminPassword());
+        JsonNode subscriber = ensureSubscriber(adminToken);
+        String subscriberToken = subscriber.path("access_token").asText();
+        long subscriberId = subscriber.path("user").path("user_id").asLong();
+
+        try {
+            prepareBoards(adminToken, subscriberId);
+
+            long heapBaseline = minHeap(adminToken);
+            int failedConnects = connect(subscriberToken);
+            long heapConnected = minHeap(adminToken);
+
+            JsonNode statsBefore = api.sseStats(adminToken);
+            drive(adminToken);
+            JsonNode statsAfter = api.sseStats(adminToken);
+            JsonNode busStats = api.busStats(adminToken);
+
+            report(failedConnects, heapBaseline, heapConnected, statsBefore, statsAfter, busStats);
+        } finally {
+            subscribers.forEach(SseStreamSubscriber::close);
+            if (config.cleanup()) {
+                for (Long boardId : boardIds) {
+                    api.deleteBoard(adminToken, boardId);
+                }
+            }
+        }
+    }
+
+    // =============================================
+    // 준비
+    // =============================================
+
+    private void waitForServer() throws InterruptedException {
+        for (int i = 0; i < 120; i++) {
+            if (api.isHealthy()) {
+                return;
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Server not reachable: " + config.baseUrl());
+    }
+
+    private String loginOrFail(String username, String password) throws Exception {
+        JsonNode login = api.login(username, password);
+        if (login == null) {
+            throw new IllegalStateException("Login failed: " + username);
+        }
+        return login.path("access_token").asText();
+    }
+
+    /**
+     * 구독 사용자 준비 (발생자 본인에게는 이벤트가 전송되지 않으므로 관리자와 다른 사용자 사용)
+     */
+    private JsonNode ensureSubscriber(String adminToken) throws Exception {
+        JsonNode login = api.login(config.subscriberUsername(), config.subscriberPassword());
+        if (login == null) {
+            api.createUser(adminToken, config.subscriberUsername(), config.subscriberPassword());
+            login = api.login(config.subscriberUsername(), config.subscriberPassword());
+        }
+        if (login == null) {
+            throw new IllegalStateException("Subscriber login failed: " + config.subscriberUsername());
+        }
+        return login;
+    }
+
+    private void prepareBoards(String adminToken, long subscriberId) throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int b = 0; b < config.boards(); b++) {
+            long boardId = api.createBoard(adminToken, "loadtest-" + runId + "-" + b);
+            api.shareBoard(adminToken, boardId, subscriberId);
+            boardIds.add(boardId);
+            subscribersByBoard.add(new ArrayList<>());
+
+            long[] items = new long[config.itemsPerBoard()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = api.createItem(adminToken, boardId, "loadtest item " + i);
+            }
+            itemIds.add(items);
+        }
+        log("prepared %d boards x %d items", config.boards(), config.itemsPerBoard());
+    }
+
+    // =============================================
+    // 연결
+    // =============================================
+
+    private int connect(String subscriberToken) throws InterruptedException {
+        int total = config.connections();
+        CountDownLatch connected = new CountDownLatch(total);
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(total);
+
+        long started = System.nanoTime();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, config.connectRatePerSecond());
+        for (int i = 0; i < total; i++) {
+            int boardIndex = i % boardIds.size();
+            SseStreamSubscriber subscriber = new SseStreamSubscriber(latency, delivered, measureFrom, connected);
+            subscribers.add(subscriber);
+            subscribersByBoard.get(boardIndex).add(subscriber);
+            responses.add(api.subscribe(subscriberToken, boardIds.get(boardIndex), subscriber));
+
+            long sleepNanos = started + intervalNanos * (i + 1) - System.nanoTime();
+            if (sleepNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            }
+        }
+
+        if (!connected.await(60, TimeUnit.SECONDS)) {
+            log("timed out waiting for %d connections", connected.getCount());
+        }
+
+        int failed = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.isCompletedExceptionally()) {
+                failed++;
+                continue;
+            }
+            HttpResponse<Void> result = response.getNow(null);
+            if (result != null && result.statusCode() != 200) {
+                failed++;
+            }
+        }
+
+        long live = subscribers.stream().filter(SseStreamSubscriber::isLive).count();
+        log("connected %d/%d in %.1fs (failed %d)", live, total,
+                (System.nanoTime() - started) / 1e9, failed);
+        return failed;
+    }
+
+    // =============================================
+    // 부하
+    // =============================================
+
+    private void drive(String adminToken) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService mutators = Executors.newFixedThreadPool(config.mutationThreads());
+
+        long periodMicros = TimeUnit.SECONDS.toMicros(1) / Math.max(1, config.mutationsPerSecond());
+        AtomicLong cursor = new AtomicLong();
+        scheduler.scheduleAtFixedRate(() -> mutators.execute(() -> mutate(adminToken, cursor.getAndIncrement())),
+                0, periodMicros, TimeUnit.MICROSECONDS);
+
+        log("warmup %ds", config.warmupSeconds());
+        TimeUnit.SECONDS.sleep(config.warmupSeconds());
+
+        measureFrom.set(mutationSequence.get() + 1);
+        long measureStart = System.nanoTime();
+        log("measuring %ds at %d mutations/s", config.durationSeconds(), config.mutationsPerSecond());
+        TimeUnit.SECONDS.sleep(config.durationSeconds());
+
+        scheduler.shutdownNow();
+        mutators.shutdown();
+        mutators.awaitTermination(30, TimeUnit.SECONDS);
+
+        // 병합 창과 전송 대기열이 비워질 때까지 대기
+        TimeUnit.SECONDS.sleep(config.drainSeconds());
+        measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+    }
+
+    /**
+     * 아이템을 보드/아이템 순서로 돌아가며 수정 (같은 아이템이 병합 창 안에서 다시 수정되지 않도록)
+     */
+    private void mutate(String adminToken, long index) {
+        int boardIndex = (int) (index % boardIds.size());
+        long[] items = itemIds.get(boardIndex);
+        long itemId = items[(int) ((index / boardIds.size()) % items.length)];
+
+        long sequence = mutationSequence.incrementAndGet();
+        String title = "lt:" + sequence + ":" + System.currentTimeMillis();
+        long audience = subscribersByBoard.get(boardIndex).stream()
+                .filter(SseStreamSubscriber::isLive)
+                .count();
+
+        boolean updated = api.updateItemTitle(adminToken, boardIds.get(boardIndex), itemId, title);
+        if (sequence < measureFrom.get()) {
+            return;
+        }
+        if (updated) {
+            mutations.incrementAndGet();
+            expected.addAndGet(audience);
+        } else {
+            mutationFailures.incrementAndGet();
+        }
+    }
+
+    // =============================================
+    // 보고
+    // =============================================
+
+    private long minHeap(String adminToken) throws Exception {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            min = Math.min(min, api.sseStats(adminToken).path("heap_used_bytes").asLong());
+            Thread.sleep(1000);
+        }
+        return min;
+    }
+
+    private void report(int failedConnects, long heapBaseline, long heapConnected,
+                        JsonNode before, JsonNode after, JsonNode bus) {
+        long live = subscribers.stream().filter(SseStreamSubscriber::isLive).count();
+        long dropped = subscribers.stream().filter(SseStreamSubscriber::isDropped).count();
+        long deliveredCount = delivered.get();
+        long expectedCount = expected.get();
+
+        System.out.println();
+        System.out.println("==================== SSE LOAD TEST ====================");
+        print("connections (requested)", config.connections());
+        print("connections (live at end)", live);
+        print("connections (failed to open)", failedConnects);
+        print("connections (dropped)", dropped);
+        print("server evicted connections", delta(before, after, "evicted_connections"));
+        print("server failed connections", delta(before, after, "failed_connections"));
+        System.out.println("--------------------------------------------------------");
+        print("mutations", mutations.get());
+        print("mutation failures", mutationFailures.get());
+        print("events expected", expectedCount);
+        print("events delivered", deliveredCount);
+        System.out.printf(Locale.ROOT, "%-32s %.2f%%%n", "delivery ratio",
+                expectedCount == 0 ? 0 : deliveredCount * 100.0 / expectedCount);
+        System.out.printf(Locale.ROOT, "%-32s %.1f%n", "events/sec (delivered)", deliveredCount / measuredSeconds);
+        System.out.printf(Locale.ROOT, "%-32s %.1f%n", "frames/sec (server sent)",
+                delta(before, after, "frames_sent") / measuredSeconds);
+        print("server frames dropped", delta(before, after, "frames_dropped"));
+        print("server max queue depth", after.path("max_queue_depth").asLong());
+        System.out.println("--------------------------------------------------------");
+        print("latency p50 (ms)", latency.percentile(50));
+        print("latency p90 (ms)", latency.percentile(90));
+        print("latency p99 (ms)", latency.percentile(99));
+        print("latency p99.9 (ms)", latency.percentile(99.9));
+        print("latency max (ms)", latency.max());
+        System.out.printf(Locale.ROOT, "%-32s %.1f%n", "latency mean (ms)", latency.mean());
+        System.out.println("--------------------------------------------------------");
+        print("heap baseline (MB)", heapBaseline / (1024 * 1024));
+        print("heap with connections (MB)", heapConnected / (1024 * 1024));
+        print("heap per connection (bytes)", live == 0 ? 0 : (heapConnected - heapBaseline) / live);
+        System.out.println("--------------------------------------------------------");
+        print("bus type", bus.path("type").asText());
+        print("coalesced updates", bus.path("coalesced_updates").asLong());
+        System.out.println("========================================================");
+    }
+
+    private static long delta(JsonNode before, JsonNode after, String field) {
+        return after.path(field).asLong() - before.path(field).asLong();
+    }
+
+    private static void print(String label, Object value) {
+        System.out.printf(Locale.ROOT, "%-32s %s%n", label, value);
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(Locale.ROOT, "[loadtest] " + format + "%n", args);
+    }
+}
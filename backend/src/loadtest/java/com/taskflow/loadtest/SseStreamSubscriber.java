@@ -0,0 +1,137 @@
+package com.taskflow.loadtest;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SSE 스트림 구독자 (연결 1개)
+ *
+ * HttpClient 의 줄 단위 본문을 받아 SSE 이벤트로 조립하고,
+ * 아이템 제목에 담긴 발행 시각으로 전달 지연을 기록합니다.
+ * 전용 스레드 없이 HttpClient 의 비동기 스트림으로 동작하므로 수천 개 연결을 한 프로세스에서 유지할 수 있습니다.
+ */
+public class SseStreamSubscriber implements Flow.Subscriber<String> {
+
+    /**
+     * 부하 테스트 변경 표식 lt:{변경 순번}:{발행 epochMillis}
+     * (전체 아이템, 델타, batch 이벤트 모두에서 찾으며 title/content 중복은 순번으로 제거)
+     */
+    static final Pattern MARKER = Pattern.compile("lt:(\\d+):(\\d{13})");
+
+    private final LatencyHistogram latency;
+    private final AtomicLong deliveredTotal;
+    private final AtomicLong measureFrom;
+    private final CountDownLatch connectedLatch;
+
+    private final StringBuilder data = new StringBuilder();
+    private String eventName;
+
+    private volatile Flow.Subscription subscription;
+    private volatile boolean connected;
+    private volatile boolean closing;
+    private volatile boolean dropped;
+
+    public SseStreamSubscriber(LatencyHistogram latency, AtomicLong deliveredTotal, AtomicLong measureFrom,
+                               CountDownLatch connectedLatch) {
+        this.latency = latency;
+        this.deliveredTotal = deliveredTotal;
+        this.measureFrom = measureFrom;
+        this.connectedLatch = connectedLatch;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (line.isEmpty()) {
+            dispatch();
+            return;
+        }
+        if (line.startsWith("event:")) {
+            eventName = line.substring(6).trim();
+        } else if (line.startsWith("data:")) {
+            if (!data.isEmpty()) {
+                data.append('\n');
+            }
+            data.append(line.substring(5));
+        }
+    }
+
+    private void dispatch() {
+        String name = eventName;
+        String payload = data.toString();
+        eventName = null;
+        data.setLength(0);
+
+        if ("connection".equals(name)) {
+            if (!connected) {
+                connected = true;
+                connectedLatch.countDown();
+            }
+            return;
+        }
+        if (name == null || "heartbeat".equals(name)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Set<String> seen = new HashSet<>();
+        Matcher matcher = MARKER.matcher(payload);
+        while (matcher.find()) {
+            long sequence = Long.parseLong(matcher.group(1));
+            if (sequence >= measureFrom.get() && seen.add(matcher.group(1))) {
+                latency.record(now - Long.parseLong(matcher.group(2)));
+                deliveredTotal.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        markClosed();
+    }
+
+    @Override
+    public void onComplete() {
+        markClosed();
+    }
+
+    private void markClosed() {
+        if (connected) {
+            // 연결 완료 후 테스트가 닫지 않았는데 끊긴 경우만 드롭으로 집계
+            dropped = !closing;
+            return;
+        }
+        // 연결 실패(인증/접근 오류 등) - 연결 대기가 멈추지 않도록 카운트다운
+        closing = true;
+        connectedLatch.countDown();
+    }
+
+    public void close() {
+        closing = true;
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * 현재 이벤트를 수신 중인 연결인지 여부
+     */
+    public boolean isLive() {
+        return connected && !dropped && !closing;
+    }
+
+    public boolean isDropped() {
+        return dropped;
+    }
+}
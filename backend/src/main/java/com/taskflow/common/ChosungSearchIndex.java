@@ -0,0 +1,349 @@
+package com.taskflow.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 초성 검색을 지원하는 메모리 자동완성 검색 구조
+ *
+ * 항목의 검색 필드를 각 글자 위치부터 글자 단위 트라이로 색인합니다.
+ * - 음절 트라이: 소문자로 정규화한 내용 ("주간보고" → 주-간-보-고)
+ * - 초성 트라이: 한글 음절을 초성으로 바꾼 내용 ("주간보고" → ㅈ-ㄱ-ㅂ-ㄱ)
+ * - 검색어에 자음(ㄱ~ㅎ)이 있으면 초성 트라이에서 찾고 음절/자음을 글자별로 확인 ("ㅈㄱ", "주ㄱ" → 주간보고)
+ * - 노드마다 (일치 위치, 필드)별 항목 목록을 생성 시 항목 순서대로 따로 보관
+ * - 순위: 필드 시작 일치 → 단어 시작 일치 → 부분 일치, 같은 위치는 필드 순서 → 항목 순서
+ * 생성 후 변경되지 않습니다.
+ *
+ * @param <T> 항목 타입
+ */
+public final class ChosungSearchIndex<T> {
+
+    /**
+     * 트라이에 색인하는 최대 글자 수 (더 긴 검색어는 이 깊이의 후보를 글자별로 확인)
+     */
+    private static final int MAX_PREFIX_LENGTH = 10;
+
+    /**
+     * 일치 위치 순위 (필드 시작, 단어 시작, 그 외)
+     */
+    private static final int MATCH_PREFIX = 0;
+    private static final int MATCH_WORD = 1;
+    private static final int MATCH_KINDS = 3;
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_JONGSEONG_COUNT = 21 * 28;
+
+    /**
+     * 초성 19자 (호환용 자모)
+     */
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private final List<T> items;
+    private final List<Entry> entries;
+    private final int fieldCount;
+    private final Node textRoot;
+    private final Node initialsRoot;
+
+    /**
+     * @param items  항목 목록 (같은 순위 안에서 이 순서로 반환)
+     * @param fields 검색 필드 (앞의 필드가 먼저 반환, null 값은 색인하지 않음)
+     */
+    public ChosungSearchIndex(List<T> items, List<Function<T, String>> fields) {
+        this.items = List.copyOf(items);
+        this.fieldCount = fields.size();
+
+        List<Entry> built = new ArrayList<>(this.items.size());
+        Builder textBuilder = new Builder(MATCH_KINDS * fieldCount);
+        Builder initialsBuilder = new Builder(MATCH_KINDS * fieldCount);
+        for (int i = 0; i < this.items.size(); i++) {
+            T item = this.items.get(i);
+            String[] texts = new String[fieldCount];
+            String[] initials = new String[fieldCount];
+            for (int field = 0; field < fieldCount; field++) {
+                String value = fields.get(field).apply(item);
+                texts[field] = value == null ? "" : normalize(value);
+                initials[field] = initials(texts[field]);
+
+                String text = texts[field];
+                for (int start = 0; start < text.length(); start++) {
+                    // 검색어는 공백으로 시작하지 않으므로 공백 위치는 색인하지 않음
+                    if (Character.isWhitespace(text.charAt(start))) {
+                        continue;
+                    }
+                    int kind = start == 0 ? MATCH_PREFIX : isWordStart(text, start) ? MATCH_WORD : MATCH_KINDS - 1;
+                    int list = kind * fieldCount + field;
+                    textBuilder.add(text, start, list, i);
+                    initialsBuilder.add(initials[field], start, list, i);
+                }
+            }
+            built.add(new Entry(texts, initials));
+        }
+
+        this.entries = List.copyOf(built);
+        this.textRoot = textBuilder.root.freeze();
+        this.initialsRoot = initialsBuilder.root.freeze();
+    }
+
+    /**
+     * 색인된 항목 수
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 키워드로 검색
+     *
+     * @param keyword 검색 키워드 (음절, 초성 혼용 가능)
+     * @param limit   최대 결과 수
+     * @return 검색된 항목 목록 (순위 순)
+     */
+    public List<T> search(String keyword, int limit) {
+        return search(keyword, limit, item -> true);
+    }
+
+    /**
+     * 키워드로 검색 (조건에 맞는 항목만)
+     *
+     * @param keyword 검색 키워드 (음절, 초성 혼용 가능)
+     * @param limit   최대 결과 수
+     * @param filter  항목 조건
+     * @return 검색된 항목 목록 (순위 순)
+     */
+    public List<T> search(String keyword, int limit, Predicate<T> filter) {
+        if (keyword == null || limit <= 0) {
+            return List.of();
+        }
+        String query = normalize(keyword.trim());
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = containsChosung(query) ? initialsRoot.find(initials(query)) : textRoot.find(query);
+        if (node == null) {
+            return List.of();
+        }
+
+        // 순위가 높은 목록부터 확인 (초성/음절 혼용, 긴 검색어는 트라이 경로만으로 일치를 보장할 수 없으므로 글자별 확인)
+        List<T> result = new ArrayList<>(limit);
+        BitSet added = new BitSet(items.size());
+        for (int list = 0; list < node.postings.length; list++) {
+            int kind = list / fieldCount;
+            int field = list % fieldCount;
+            for (int index : node.postings[list]) {
+                if (added.get(index)) {
+                    continue;
+                }
+                T item = items.get(index);
+                if (entries.get(index).matches(field, kind, query) && filter.test(item)) {
+                    added.set(index);
+                    result.add(item);
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // =============================================
+    // 내부
+    // =============================================
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환 (그 외 글자는 그대로)
+     */
+    private static String initials(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            builder.append(c >= HANGUL_BASE && c <= HANGUL_LAST
+                    ? CHOSUNG.charAt((c - HANGUL_BASE) / JUNGSEONG_JONGSEONG_COUNT)
+                    : c);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isChosung(char c) {
+        return CHOSUNG.indexOf(c) >= 0;
+    }
+
+    private static boolean containsChosung(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (isChosung(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordStart(String text, int position) {
+        return Character.isLetterOrDigit(text.charAt(position))
+                && (position == 0 || !Character.isLetterOrDigit(text.charAt(position - 1)));
+    }
+
+    /**
+     * 색인 항목의 정규화된 필드 값
+     */
+    private static final class Entry {
+
+        private final String[] texts;
+        private final String[] initials;
+
+        private Entry(String[] texts, String[] initials) {
+            this.texts = texts;
+            this.initials = initials;
+        }
+
+        private boolean matches(int field, int kind, String query) {
+            String text = texts[field];
+            if (kind == MATCH_PREFIX) {
+                return matchesAt(field, 0, query);
+            }
+            for (int i = 1; i + query.length() <= text.length(); i++) {
+                if ((kind != MATCH_WORD || isWordStart(text, i)) && matchesAt(field, i, query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * position 부터 검색어와 일치하는지 확인 (검색어의 자음은 초성과 비교)
+         */
+        private boolean matchesAt(int field, int position, String query) {
+            String text = texts[field];
+            if (position + query.length() > text.length()) {
+                return false;
+            }
+            for (int i = 0; i < query.length(); i++) {
+                char q = query.charAt(i);
+                char actual = isChosung(q) ? initials[field].charAt(position + i) : text.charAt(position + i);
+                if (q != actual) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 트라이 노드 (생성 후 변경되지 않음)
+     */
+    private static final class Node {
+
+        private final char[] keys;
+        private final Node[] children;
+
+        /**
+         * 이 노드를 지나는 항목 번호 ((일치 위치, 필드)별, 각 목록은 항목 순서이며 중복 없음)
+         */
+        private final int[][] postings;
+
+        private Node(char[] keys, Node[] children, int[][] postings) {
+            this.keys = keys;
+            this.children = children;
+            this.postings = postings;
+        }
+
+        /**
+         * 검색어에 해당하는 노드 (MAX_PREFIX_LENGTH 보다 긴 검색어는 그 깊이의 노드)
+         */
+        private Node find(String key) {
+            Node node = this;
+            int depth = Math.min(key.length(), MAX_PREFIX_LENGTH);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            return node;
+        }
+
+        private Node child(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? children[position] : null;
+        }
+    }
+
+    /**
+     * 트라이 생성용 노드
+     */
+    private static final class MutableNode {
+
+        private static final int[] NO_POSTINGS = new int[0];
+
+        private final Map<Character, MutableNode> children = new HashMap<>(4);
+        private final int[][] postings;
+        private final int[] sizes;
+
+        private MutableNode(int lists) {
+            this.postings = new int[lists][];
+            Arrays.fill(postings, NO_POSTINGS);
+            this.sizes = new int[lists];
+        }
+
+        private void addPosting(int list, int index) {
+            // 같은 항목의 여러 위치가 같은 노드를 지나면 한 번만 기록 (항목 순서대로 추가되므로 마지막 값만 비교)
+            int size = sizes[list];
+            if (size > 0 && postings[list][size - 1] == index) {
+                return;
+            }
+            if (size == postings[list].length) {
+                postings[list] = Arrays.copyOf(postings[list], Math.max(4, size * 2));
+            }
+            postings[list][size] = index;
+            sizes[list] = size + 1;
+        }
+
+        private Node freeze() {
+            char[] keys = new char[children.size()];
+            int i = 0;
+            for (Character key : children.keySet()) {
+                keys[i++] = key;
+            }
+            Arrays.sort(keys);
+
+            Node[] frozen = new Node[keys.length];
+            for (int k = 0; k < keys.length; k++) {
+                frozen[k] = children.get(keys[k]).freeze();
+            }
+            int[][] frozenPostings = new int[postings.length][];
+            for (int list = 0; list < postings.length; list++) {
+                frozenPostings[list] = sizes[list] == 0 ? NO_POSTINGS : Arrays.copyOf(postings[list], sizes[list]);
+            }
+            return new Node(keys, frozen, frozenPostings);
+        }
+    }
+
+    private static final class Builder {
+
+        private final int lists;
+        private final MutableNode root;
+
+        private Builder(int lists) {
+            this.lists = lists;
+            this.root = new MutableNode(lists);
+        }
+
+        private void add(String value, int start, int list, int index) {
+            MutableNode node = root;
+            int end = Math.min(value.length(), start + MAX_PREFIX_LENGTH);
+            for (int i = start; i < end; i++) {
+                node = node.children.computeIfAbsent(value.charAt(i), key -> new MutableNode(lists));
+                node.addPosting(list, index);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskflow.common;
+
+import com.taskflow.exception.BusinessException;
+
+/**
+ * 페이징 목록 총 개수 계산 방식 (count 파라미터)
+ * - EXACT: 매 요청 COUNT 쿼리 실행 (기본값)
+ * - ESTIMATE: 같은 조건의 캐시된 개수를 현재 페이지 범위로 보정하여 사용 (캐시가 없으면 COUNT 후 캐시)
+ * - NONE: COUNT 쿼리 없이 다음 페이지 존재 여부만 확인 (totalElements/totalPages 는 -1)
+ */
+public enum CountMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    /**
+     * count 파라미터 해석 (없으면 EXACT)
+     */
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw BusinessException.badRequest("count 는 exact, estimate, none 중 하나여야 합니다");
+    }
+
+    /**
+     * 다음 페이지 확인용 1건을 더 조회해야 하는지 여부
+     */
+    public boolean isProbeNext() {
+        return this != EXACT;
+    }
+}
@@ -0,0 +1,231 @@
+package com.taskflow.common;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * 만료 시간이 있는 최대 크기 제한 LRU 캐시
+ *
+ * 키 해시로 나눈 스트라이프마다 접근 순서 LinkedHashMap 과 잠금을 둡니다.
+ * - 조회/저장은 키가 속한 스트라이프만 잠그므로 요청 스레드가 하나의 잠금에 몰리지 않음
+ * - 조회 시 만료된 항목은 제거하고 미스로 처리
+ * - 저장 시 스트라이프 몫(최대 크기 / 스트라이프 수, 올림)을 넘으면 그 스트라이프에서
+ *   가장 오래 사용되지 않은 항목부터 제거 (저장은 항상 성공, 전체 LRU 가 아닌 근사치)
+ * - 조건부 일괄 제거(removeIf)와 크기 조회만 전체 스트라이프를 순회
+ * 최대 크기가 0 이하이면 아무것도 보관하지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class ExpiringLruCache<K, V> {
+
+    /**
+     * 스트라이프 수 (2의 거듭제곱)
+     */
+    private static final int STRIPES = 64;
+
+    private final IntSupplier maxSize;
+    private final Stripe<K, V>[] stripes;
+
+    /**
+     * 만료 또는 크기 초과로 제거된 항목 수
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize 최대 항목 수
+     */
+    public ExpiringLruCache(int maxSize) {
+        this(() -> maxSize);
+    }
+
+    /**
+     * @param maxSize 최대 항목 수 (설정 값을 저장 시마다 다시 읽음)
+     */
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(IntSupplier maxSize) {
+        this.maxSize = maxSize;
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    /**
+     * 조회 (만료된 항목은 제거)
+     *
+     * @return 값, 없거나 만료되었으면 null
+     */
+    public V get(K key, long now) {
+        Stripe<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                stripe.entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    /**
+     * 저장 (최대 크기를 넘으면 가장 오래 사용되지 않은 항목 제거)
+     *
+     * @param expiresAt 만료 시각 (ms)
+     */
+    public void put(K key, V value, long expiresAt) {
+        putIf(key, value, expiresAt, () -> true);
+    }
+
+    /**
+     * 조건부 저장
+     *
+     * 조건은 키가 속한 스트라이프의 잠금 안에서 확인하므로,
+     * 확인과 저장 사이에 같은 키의 제거(remove, removeIf)가 끼어들지 않습니다.
+     *
+     * @param expiresAt 만료 시각 (ms)
+     * @param condition 저장 조건
+     * @return 저장 여부
+     */
+    public boolean putIf(K key, V value, long expiresAt, BooleanSupplier condition) {
+        int limit = maxSize.getAsInt();
+        if (limit <= 0) {
+            return false;
+        }
+        int stripeLimit = (limit + STRIPES - 1) / STRIPES;
+
+        Stripe<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            if (!condition.getAsBoolean()) {
+                return false;
+            }
+            stripe.entries.put(key, new Entry<>(value, expiresAt));
+
+            Iterator<Entry<V>> eldest = stripe.entries.values().iterator();
+            while (stripe.entries.size() > stripeLimit && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 기존 항목 갱신 (만료 시각 유지, 함수가 null 을 반환하면 제거)
+     *
+     * 함수는 스트라이프 잠금 안에서 실행되므로 짧게 유지해야 합니다.
+     *
+     * @return 갱신된 값, 항목이 없으면 null
+     */
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        Stripe<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            V value = remapping.apply(key, entry.value());
+            if (value == null) {
+                stripe.entries.remove(key);
+            } else if (value != entry.value()) {
+                stripe.entries.put(key, new Entry<>(value, entry.expiresAt()));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 제거
+     *
+     * @return 제거된 값, 없으면 null
+     */
+    public V remove(K key) {
+        Stripe<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry<V> removed = stripe.entries.remove(key);
+            return removed != null ? removed.value() : null;
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목 일괄 제거 (스트라이프를 하나씩 잠그며 순회)
+     *
+     * @return 제거된 항목 수
+     */
+    public int removeIf(BiPredicate<? super K, ? super V> filter) {
+        int removed = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Map.Entry<K, Entry<V>>> iterator = stripe.entries.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<K, Entry<V>> entry = iterator.next();
+                    if (filter.test(entry.getKey(), entry.getValue().value())) {
+                        iterator.remove();
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 전체 제거
+     *
+     * @return 제거된 항목 수
+     */
+    public int clear() {
+        int removed = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                removed += stripe.entries.size();
+                stripe.entries.clear();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 보관 중인 항목 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 만료 또는 크기 초과로 제거된 항목 수 누계
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Stripe<K, V> stripeOf(K key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe<K, V> {
+
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskflow.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ngram FULLTEXT 검색어 생성
+ *
+ * 키워드 검색은 MATCH ... AGAINST (BOOLEAN MODE) 로 후보를 좁힌 뒤 기존 LIKE 조건으로 확인합니다.
+ * - 공백으로 나눈 각 단어를 필수 구문(+"단어")으로 변환 (ngram 파서가 구문을 연속된 2글자 토큰으로 분해)
+ * - ngram_token_size(2) 보다 짧은 단어, 문자/숫자 외 기호가 섞인 단어는 토큰 분해 결과를 보장할 수 없으므로 제외
+ * - 인덱스로 찾을 단어가 없으면 null (LIKE 조건만 사용)
+ */
+public final class FullTextQuery {
+
+    /**
+     * MySQL ngram_token_size (docker-compose.yml 의 --ngram-token-size 와 일치)
+     */
+    public static final int NGRAM_TOKEN_SIZE = 2;
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * 키워드를 BOOLEAN MODE 검색어로 변환
+     *
+     * @param keyword 사용자 입력 키워드
+     * @return 검색어 (예: "API 설계" → +"API" +"설계"), 인덱스를 사용할 수 없으면 null
+     */
+    public static String ngramBoolean(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String term : keyword.trim().split("\\s+")) {
+            if (term.codePointCount(0, term.length()) >= NGRAM_TOKEN_SIZE
+                    && term.codePoints().allMatch(Character::isLetterOrDigit)) {
+                terms.add("+\"" + term + "\"");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
@@ -10,6 +10,7 @@ import lombok.Setter;
  * - page: 페이지 번호 (0부터 시작, 기본값 0)
  * - size: 페이지 크기 (기본값 20, 최대 100)
  * - sort: 정렬 필드,방향 (예: createdAt,desc)
+ * - count: 총 개수 계산 방식 (exact/estimate/none, 기본값 exact)
  */
 @Getter
 @Setter
@@ -39,6 +40,11 @@ public class PageRequest {
      */
     private String sortDirection = "desc";
 
+    /**
+     * 총 개수 계산 방식
+     */
+    private CountMode countMode = CountMode.EXACT;
+
     public void setPage(int page) {
         this.page = Math.max(0, page);
     }
@@ -61,6 +67,20 @@ public class PageRequest {
         return size;
     }
 
+    /**
+     * SQL LIMIT 크기 (COUNT 생략 시 다음 페이지 존재 확인용 1건 추가)
+     */
+    public int getFetchSize() {
+        return countMode.isProbeNext() ? size + 1 : size;
+    }
+
+    /**
+     * 총 개수 계산 방식 파싱 (예: "none")
+     */
+    public void setCount(String count) {
+        this.countMode = CountMode.from(count);
+    }
+
     /**
      * 정렬 방향이 내림차순인지 확인
      */
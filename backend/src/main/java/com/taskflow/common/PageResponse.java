@@ -30,12 +30,12 @@ public class PageResponse<T> {
     private final int size;
 
     /**
-     * 전체 데이터 수
+     * 전체 데이터 수 (count=none 이면 -1)
      */
     private final long totalElements;
 
     /**
-     * 전체 페이지 수
+     * 전체 페이지 수 (count=none 이면 -1)
      */
     private final int totalPages;
 
@@ -72,6 +72,28 @@ public class PageResponse<T> {
                 .build();
     }
 
+    /**
+     * PageResponse 생성 (총 개수를 모르면 다음 페이지 존재 여부로 마지막 페이지 판단)
+     *
+     * @param totalElements 전체 데이터 수 (계산하지 않았으면 음수)
+     */
+    public static <T> PageResponse<T> of(List<T> content, int page, int size, long totalElements, boolean hasNext) {
+        if (totalElements >= 0) {
+            return of(content, page, size, totalElements);
+        }
+
+        return PageResponse.<T>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .first(page == 0)
+                .last(!hasNext)
+                .empty(content.isEmpty())
+                .build();
+    }
+
     /**
      * 빈 PageResponse 생성
      */
@@ -7,7 +7,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 /**
  * 비동기 및 스케줄링 설정
  *
- * - @Async 어노테이션 활성화 (SSE 이벤트 비동기 발행)
+ * - @Async 어노테이션 활성화
  * - @Scheduled 어노테이션 활성화 (SSE 하트비트)
  */
 @Configuration
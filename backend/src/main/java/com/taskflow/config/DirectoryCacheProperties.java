@@ -0,0 +1,26 @@
+package com.taskflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자/그룹 디렉터리 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "directory-cache")
+@Getter
+@Setter
+public class DirectoryCacheProperties {
+
+    /**
+     * 캐시할 최대 사용자 수
+     */
+    private int maxUsers = 10000;
+
+    /**
+     * 캐시 유지 시간 (초)
+     */
+    private long ttlSeconds = 300;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보드별 업무 통계 카운터 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "item-stats-cache")
+@Getter
+@Setter
+public class ItemStatsCacheProperties {
+
+    /**
+     * 카운터를 유지할 최대 보드 수 (0 이면 매번 집계 쿼리 사용)
+     */
+    private int maxBoards = 5000;
+
+    /**
+     * 카운터 유지 시간 (초)
+     * 만료되면 집계 쿼리로 다시 적재하며, 다른 인스턴스의 업무 변경은 이 시간이 지나야 반영됨
+     */
+    private long ttlSeconds = 300;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 페이징 목록 총 개수 캐시 설정 (count=estimate)
+ */
+@Component
+@ConfigurationProperties(prefix = "page-count-cache")
+@Getter
+@Setter
+public class PageCountCacheProperties {
+
+    /**
+     * 캐시할 최대 목록 조건 수 (0 이면 캐시하지 않고 매번 COUNT)
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * 개수 유지 시간 (초)
+     * 이 시간 동안 추가/삭제된 항목은 현재 페이지로 확인되는 범위까지만 보정됨
+     */
+    private long ttlSeconds = 60;
+}
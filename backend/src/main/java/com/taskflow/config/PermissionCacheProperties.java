@@ -0,0 +1,27 @@
+package com.taskflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보드/업무 권한 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "permission-cache")
+@Getter
+@Setter
+public class PermissionCacheProperties {
+
+    /**
+     * 최대 항목 수 (보드 권한 + 업무 권한, 0 이면 캐시 사용 안 함)
+     */
+    private int maxEntries = 50000;
+
+    /**
+     * 캐시 유지 시간 (초)
+     * 다른 인스턴스에서 변경된 권한은 이 시간이 지나야 반영됨
+     */
+    private long ttlSeconds = 60;
+}
@@ -0,0 +1,31 @@
+package com.taskflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 속성 정의 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "property-cache")
+@Getter
+@Setter
+public class PropertyCacheProperties {
+
+    /**
+     * 캐시할 최대 보드 수 (초과 시 가장 오래 사용되지 않은 보드부터 제거)
+     */
+    private int maxBoards = 1000;
+
+    /**
+     * 캐시 유지 시간 (초, 적재 시점 기준)
+     */
+    private long ttlSeconds = 600;
+
+    /**
+     * 캐시에 없는 옵션 확인 시 보드별 재적재 최소 간격 (초)
+     */
+    private long minRefreshSeconds = 10;
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -39,11 +40,20 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     // Rate Limit 만료 시간 (1시간 후 자동 정리)
     private static final long ENTRY_EXPIRY_MS = 3600_000;
 
+    // Rate Limit 사용 여부 (부하 테스트 프로파일에서만 비활성화)
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String clientIp = getClientIp(request);
         String requestUri = request.getRequestURI();
 
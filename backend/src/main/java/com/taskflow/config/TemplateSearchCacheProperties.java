@@ -0,0 +1,22 @@
+package com.taskflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 템플릿 자동완성 검색 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "template-search-cache")
+@Getter
+@Setter
+public class TemplateSearchCacheProperties {
+
+    /**
+     * 검색 구조 유지 시간 (초)
+     * 만료되면 활성 템플릿을 다시 조회하여 재구성하며, 다른 인스턴스의 템플릿 변경은 이 시간이 지나야 반영됨
+     */
+    private long ttlSeconds = 300;
+}
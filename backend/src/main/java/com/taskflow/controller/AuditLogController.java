@@ -1,6 +1,7 @@
 package com.taskflow.controller;
 
 import com.taskflow.common.ApiResponse;
+import com.taskflow.common.CountMode;
 import com.taskflow.dto.audit.AuditLogPageResponse;
 import com.taskflow.dto.audit.AuditLogResponse;
 import com.taskflow.dto.audit.AuditLogSearchRequest;
@@ -45,7 +46,8 @@ public class AuditLogController {
             @RequestParam(value = "startDate", required = false) LocalDate startDate,
             @RequestParam(value = "endDate", required = false) LocalDate endDate,
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
-            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+            @RequestParam(value = "count", required = false) String count
     ) {
         log.debug("Search audit logs: targetType={}, action={}", targetType, action);
 
@@ -57,6 +59,7 @@ public class AuditLogController {
         request.setEndDate(endDate);
         request.setPage(page);
         request.setSize(size);
+        request.setCountMode(CountMode.from(count));
 
         AuditLogPageResponse response = auditLogService.search(request);
         return ResponseEntity.ok(ApiResponse.success(response));
@@ -7,6 +7,7 @@ import com.taskflow.dto.transfer.TransferPreviewResponse;
 import com.taskflow.dto.transfer.TransferResultResponse;
 import com.taskflow.security.SecurityUtils;
 import com.taskflow.service.BoardService;
+import com.taskflow.service.PermissionCacheService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,7 @@ import java.util.List;
  * - POST /api/boards/{id}/shares - 공유 사용자 추가
  * - PUT /api/boards/{id}/shares/{userId} - 공유 권한 변경
  * - DELETE /api/boards/{id}/shares/{userId} - 공유 사용자 제거
+ * - GET /api/boards/permission-cache/stats - 권한 캐시 통계
  */
 @Slf4j
 @RestController
@@ -41,6 +43,7 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final PermissionCacheService permissionCacheService;
 
     // =============================================
     // 보드 CRUD
@@ -80,6 +83,16 @@ public class BoardController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 권한 캐시 통계 조회
+     *
+     * 보드/업무 권한 캐시의 크기와 적중률을 반환합니다.
+     */
+    @GetMapping("/permission-cache/stats")
+    public ResponseEntity<ApiResponse<PermissionCacheStatsResponse>> getPermissionCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(permissionCacheService.getStats()));
+    }
+
     /**
      * 보드 생성
      */
@@ -1,6 +1,7 @@
 package com.taskflow.controller;
 
 import com.taskflow.common.ApiResponse;
+import com.taskflow.common.CountMode;
 import com.taskflow.dto.item.*;
 import com.taskflow.security.SecurityUtils;
 import com.taskflow.service.ItemService;
@@ -22,6 +23,9 @@ import java.util.Map;
  * - GET /api/items/pending - 보류 업무 목록 (전체 보드)
  * - GET /api/items/active - 활성 업무 목록 (전체 보드)
  * - GET /api/items/stats - 업무 통계
+ *
+ * 목록 API 는 cursor 파라미터를 주면 Keyset 페이징 (빈 값이면 첫 페이지, 이후 응답의 nextCursor 전달)
+ * 목록 API 는 count 파라미터로 총 개수 계산 방식 선택 (exact/estimate/none)
  */
 @Slf4j
 @RestController
@@ -60,7 +64,9 @@ public class CrossBoardItemController {
             @RequestParam(value = "endDate", required = false) LocalDate endDate,
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
-            @RequestParam(value = "sort", required = false, defaultValue = "dueDate,asc") String sort
+            @RequestParam(value = "sort", required = false, defaultValue = "dueDate,asc") String sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "count", required = false) String count
     ) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
 
@@ -80,6 +86,8 @@ public class CrossBoardItemController {
         request.setSize(size);
         request.setSortField(sortParams[0]);
         request.setSortDirection(sortParams[1]);
+        request.setCursor(cursor);
+        request.setCountMode(CountMode.from(count));
         request.setOverdueOnly(true);
 
         log.debug("Get overdue items: userId={}, request={}", currentUserId, request);
@@ -104,7 +112,9 @@ public class CrossBoardItemController {
             @RequestParam(value = "endDate", required = false) LocalDate endDate,
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
-            @RequestParam(value = "sort", required = false, defaultValue = "updatedAt,desc") String sort
+            @RequestParam(value = "sort", required = false, defaultValue = "updatedAt,desc") String sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "count", required = false) String count
     ) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
 
@@ -124,6 +134,8 @@ public class CrossBoardItemController {
         request.setSize(size);
         request.setSortField(sortParams[0]);
         request.setSortDirection(sortParams[1]);
+        request.setCursor(cursor);
+        request.setCountMode(CountMode.from(count));
         request.setStatus("PENDING");
 
         log.debug("Get pending items: userId={}, request={}", currentUserId, request);
@@ -150,7 +162,9 @@ public class CrossBoardItemController {
             @RequestParam(value = "endDate", required = false) LocalDate endDate,
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
-            @RequestParam(value = "sort", required = false, defaultValue = "createdAt,desc") String sort
+            @RequestParam(value = "sort", required = false, defaultValue = "createdAt,desc") String sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "count", required = false) String count
     ) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
 
@@ -172,6 +186,8 @@ public class CrossBoardItemController {
         request.setSize(size);
         request.setSortField(sortParams[0]);
         request.setSortDirection(sortParams[1]);
+        request.setCursor(cursor);
+        request.setCountMode(CountMode.from(count));
 
         log.debug("Get active items cross-board: userId={}, request={}", currentUserId, request);
 
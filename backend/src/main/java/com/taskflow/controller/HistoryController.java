@@ -1,6 +1,7 @@
 package com.taskflow.controller;
 
 import com.taskflow.common.ApiResponse;
+import com.taskflow.common.CountMode;
 import com.taskflow.dto.history.*;
 import com.taskflow.service.HistoryService;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +39,8 @@ public class HistoryController {
             @RequestParam(value = "keyword", required = false) String keyword,
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
-            @RequestParam(value = "sort", required = false, defaultValue = "completedAt,desc") String sort
+            @RequestParam(value = "sort", required = false, defaultValue = "completedAt,desc") String sort,
+            @RequestParam(value = "count", required = false) String count
     ) {
         log.debug("Get item history: boardId={}, result={}, workerId={}", boardId, result, workerId);
 
@@ -59,6 +61,7 @@ public class HistoryController {
         request.setSize(size);
         request.setSortField(sortField);
         request.setSortDirection(sortDirection);
+        request.setCountMode(CountMode.from(count));
 
         ItemHistoryPageResponse response = historyService.getItemHistory(request);
 
@@ -1,6 +1,7 @@
 package com.taskflow.controller;
 
 import com.taskflow.common.ApiResponse;
+import com.taskflow.common.CountMode;
 import com.taskflow.dto.item.*;
 import com.taskflow.security.SecurityUtils;
 import com.taskflow.service.BoardService;
@@ -45,6 +46,8 @@ public class ItemController {
 
     /**
      * 아이템 목록 조회 (필터/정렬/페이징)
+     * - cursor 파라미터가 있으면 Keyset 페이징 (빈 값이면 첫 페이지, 이후 응답의 nextCursor 전달)
+     * - count 파라미터로 총 개수 계산 방식 선택 (exact/estimate/none)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<ItemPageResponse>> getItems(
@@ -60,7 +63,9 @@ public class ItemController {
             @RequestParam(value = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted,
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
-            @RequestParam(value = "sort", required = false, defaultValue = "createdAt,desc") String sort
+            @RequestParam(value = "sort", required = false, defaultValue = "createdAt,desc") String sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "count", required = false) String count
     ) {
         // 접근 권한 확인
         Long currentUserId = SecurityUtils.getCurrentUserId();
@@ -89,6 +94,8 @@ public class ItemController {
         request.setSize(size);
         request.setSortField(sortField);
         request.setSortDirection(sortDirection);
+        request.setCursor(cursor);
+        request.setCountMode(CountMode.from(count));
 
         log.debug("Get items: boardId={}, request={}", boardId, request);
 
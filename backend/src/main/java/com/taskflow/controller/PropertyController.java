@@ -3,6 +3,7 @@ package com.taskflow.controller;
 import com.taskflow.common.ApiResponse;
 import com.taskflow.dto.property.*;
 import com.taskflow.security.SecurityUtils;
+import com.taskflow.service.PropertyCacheService;
 import com.taskflow.service.PropertyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import java.util.List;
  * - DELETE /api/properties/{id} - 속성 정의 삭제
  * - GET /api/properties/{id}/options - 옵션 목록
  * - POST /api/properties/{id}/options - 옵션 추가
+ * - GET /api/properties/cache/stats - 속성 정의 캐시 통계
  */
 @Slf4j
 @RestController
@@ -32,6 +34,7 @@ import java.util.List;
 public class PropertyController {
 
     private final PropertyService propertyService;
+    private final PropertyCacheService propertyCacheService;
 
     // =============================================
     // 속성 정의 CRUD
@@ -118,6 +121,16 @@ public class PropertyController {
         return ResponseEntity.ok(ApiResponse.successWithMessage("속성이 삭제되었습니다"));
     }
 
+    /**
+     * 속성 정의 캐시 통계 조회
+     *
+     * 캐시 크기와 적중/미스/제거 횟수를 반환합니다.
+     */
+    @GetMapping("/properties/cache/stats")
+    public ResponseEntity<ApiResponse<PropertyCacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(propertyCacheService.getStats()));
+    }
+
     // =============================================
     // 옵션 (속성 컨트롤러 내 포함)
     // =============================================
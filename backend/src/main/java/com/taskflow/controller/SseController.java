@@ -1,8 +1,14 @@
 package com.taskflow.controller;
 
 import com.taskflow.common.ApiResponse;
+import com.taskflow.dto.sse.SseBusStatsResponse;
+import com.taskflow.dto.sse.SseStatsResponse;
 import com.taskflow.security.SecurityUtils;
+import com.taskflow.service.BoardService;
 import com.taskflow.sse.SseEmitterManager;
+import com.taskflow.sse.SseEventBus;
+import com.taskflow.sse.SseTransactionalEventStage;
+import com.taskflow.sse.SseUpdateCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -18,6 +24,8 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
  * - POST /api/sse/boards/{boardId}/subscribe - 보드 구독
  * - DELETE /api/sse/boards/{boardId}/subscribe - 보드 구독 해제
  * - GET /api/sse/status - 연결 상태 조회
+ * - GET /api/sse/stats - 전송 통계 조회
+ * - GET /api/sse/bus/stats - 이벤트 버스 통계 조회
  */
 @Slf4j
 @RestController
@@ -26,20 +34,42 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class SseController {
 
     private final SseEmitterManager emitterManager;
+    private final SseEventBus eventBus;
+    private final SseTransactionalEventStage eventStage;
+    private final SseUpdateCoalescer updateCoalescer;
+    private final BoardService boardService;
 
     /**
      * SSE 연결 수립
      *
      * 클라이언트와 SSE 연결을 수립합니다.
      * 연결 후 3초마다 하트비트가 전송되어 연결이 유지됩니다.
+     * 사용자당 여러 연결(탭/디바이스)을 유지할 수 있으며,
+     * connection 이벤트의 data 로 연결 ID 가 전달됩니다.
+     *
+     * boardId 를 지정하면 연결과 동시에 보드를 구독합니다.
+     * 재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터)를 보내면
+     * 그 이후의 보드 이벤트만 재전송되며, 재전송 범위를 벗어나면
+     * resync:required 이벤트가 전송됩니다.
      */
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(
+            @RequestParam(value = "boardId", required = false) Long boardId,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader
+    ) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
+        Long lastEventId = resolveLastEventId(lastEventIdHeader, lastEventIdParam);
+
+        log.info("SSE subscribe request from user: {}, boardId={}, lastEventId={}", currentUserId, boardId, lastEventId);
 
-        log.info("SSE subscribe request from user: {}", currentUserId);
+        // 접근 권한이 없는 보드는 구독하지 않음
+        if (boardId != null && !boardService.hasAccess(boardId, currentUserId)) {
+            log.warn("SSE board subscription denied: user={}, boardId={}", currentUserId, boardId);
+            boardId = null;
+        }
 
-        return emitterManager.createEmitter(currentUserId);
+        return emitterManager.createEmitter(currentUserId, boardId, lastEventId);
     }
 
     /**
@@ -47,16 +77,18 @@ public class SseController {
      *
      * 특정 보드의 이벤트를 구독합니다.
      * 보드에서 발생하는 item:created, item:updated 등의 이벤트를 수신합니다.
+     * connectionId 를 지정하면 해당 연결만, 생략하면 사용자의 모든 연결이 구독합니다.
      */
     @PostMapping("/boards/{boardId}/subscribe")
     public ResponseEntity<ApiResponse<Void>> subscribeBoard(
-            @PathVariable("boardId") Long boardId
+            @PathVariable("boardId") Long boardId,
+            @RequestParam(value = "connectionId", required = false) String connectionId
     ) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
 
-        log.info("Board subscribe request: user={}, boardId={}", currentUserId, boardId);
+        log.info("Board subscribe request: user={}, boardId={}, connectionId={}", currentUserId, boardId, connectionId);
 
-        emitterManager.subscribeBoard(currentUserId, boardId);
+        emitterManager.subscribeBoard(currentUserId, connectionId, boardId);
 
         return ResponseEntity.ok(ApiResponse.success(null, "보드 구독이 완료되었습니다"));
     }
@@ -65,16 +97,18 @@ public class SseController {
      * 보드 구독 해제
      *
      * 특정 보드의 이벤트 구독을 해제합니다.
+     * connectionId 를 지정하면 해당 연결만, 생략하면 사용자의 모든 연결이 구독 해제됩니다.
      */
     @DeleteMapping("/boards/{boardId}/subscribe")
     public ResponseEntity<ApiResponse<Void>> unsubscribeBoard(
-            @PathVariable("boardId") Long boardId
+            @PathVariable("boardId") Long boardId,
+            @RequestParam(value = "connectionId", required = false) String connectionId
     ) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
 
-        log.info("Board unsubscribe request: user={}, boardId={}", currentUserId, boardId);
+        log.info("Board unsubscribe request: user={}, boardId={}, connectionId={}", currentUserId, boardId, connectionId);
 
-        emitterManager.unsubscribeBoard(currentUserId, boardId);
+        emitterManager.unsubscribeBoard(currentUserId, connectionId, boardId);
 
         return ResponseEntity.ok(ApiResponse.success(null, "보드 구독이 해제되었습니다"));
     }
@@ -88,33 +122,85 @@ public class SseController {
     public ResponseEntity<ApiResponse<SseStatusResponse>> getStatus() {
         Long currentUserId = SecurityUtils.getCurrentUserId();
 
-        boolean connected = emitterManager.isConnected(currentUserId);
+        int userConnections = emitterManager.getUserConnectionCount(currentUserId);
         int totalConnections = emitterManager.getConnectionCount();
 
-        SseStatusResponse response = new SseStatusResponse(connected, totalConnections);
+        SseStatusResponse response = new SseStatusResponse(userConnections > 0, totalConnections, userConnections);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * SSE 전송 통계 조회
+     *
+     * 보드 이벤트 전송 시 순회한 구독자 수(역색인)와
+     * 전체 연결 순회 시의 비용을 함께 반환합니다.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<SseStatsResponse>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(emitterManager.getStats()));
+    }
+
+    /**
+     * SSE 이벤트 버스 통계 조회
+     *
+     * 버스 타입과 인스턴스 간 전달 지연(outbox 기록 → 폴링 수신),
+     * 트랜잭션 커밋 대기/폐기 이벤트 수와 item:updated 병합 현황을 반환합니다.
+     */
+    @GetMapping("/bus/stats")
+    public ResponseEntity<ApiResponse<SseBusStatsResponse>> getBusStats() {
+        SseBusStatsResponse stats = eventBus.getStats().toBuilder()
+                .stagedEvents(eventStage.getStagedCount())
+                .discardedEvents(eventStage.getDiscardedCount())
+                .committedTransactions(eventStage.getCommittedTransactionCount())
+                .batchFrames(eventStage.getBatchFrameCount())
+                .heldUpdates(updateCoalescer.getHeldCount())
+                .coalescedUpdates(updateCoalescer.getCoalescedCount())
+                .pendingUpdates(updateCoalescer.getPendingCount())
+                .build();
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
     /**
      * SSE 연결 해제
      *
      * 현재 사용자의 SSE 연결을 수동으로 해제합니다.
+     * connectionId 를 지정하면 해당 연결만, 생략하면 사용자의 모든 연결을 해제합니다.
      */
     @DeleteMapping("/subscribe")
-    public ResponseEntity<ApiResponse<Void>> unsubscribe() {
+    public ResponseEntity<ApiResponse<Void>> unsubscribe(
+            @RequestParam(value = "connectionId", required = false) String connectionId
+    ) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
 
-        log.info("SSE unsubscribe request from user: {}", currentUserId);
+        log.info("SSE unsubscribe request from user: {}, connectionId={}", currentUserId, connectionId);
 
-        emitterManager.removeEmitter(currentUserId);
+        if (connectionId != null) {
+            emitterManager.removeConnection(currentUserId, connectionId);
+        } else {
+            emitterManager.removeEmitter(currentUserId);
+        }
 
         return ResponseEntity.ok(ApiResponse.success(null, "SSE 연결이 해제되었습니다"));
     }
 
+    /**
+     * Last-Event-ID 해석 (헤더 우선, 형식이 잘못된 경우 무시)
+     */
+    private Long resolveLastEventId(String header, Long param) {
+        if (header != null && !header.isBlank()) {
+            try {
+                return Long.parseLong(header.trim());
+            } catch (NumberFormatException e) {
+                log.debug("Invalid Last-Event-ID header: {}", header);
+            }
+        }
+        return param;
+    }
+
     /**
      * SSE 상태 응답 DTO
      */
-    public record SseStatusResponse(boolean connected, int totalConnections) {
+    public record SseStatusResponse(boolean connected, int totalConnections, int userConnections) {
     }
 }
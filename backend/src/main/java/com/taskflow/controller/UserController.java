@@ -30,6 +30,7 @@ import java.util.Map;
  * - DELETE /api/users/{id} - 사용자 삭제
  * - PUT /api/users/{id}/password - 비밀번호 변경
  * - GET /api/users/check-username - 아이디 중복 확인
+ * - GET /api/users/search - 사용자 검색 (자동완성)
  */
 @Slf4j
 @RestController
@@ -141,6 +142,23 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(Map.of("exists", exists)));
     }
 
+    /**
+     * 사용자 검색 (담당자/공유 대상 선택 자동완성)
+     *
+     * 활성 사용자를 이름, 아이디, 부서명으로 검색 (초성 검색 가능, DB 조회 없음)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<UserResponse>>> searchUsers(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "departmentId", required = false) Long departmentId,
+            @RequestParam(value = "limit", required = false, defaultValue = "10") Integer limit
+    ) {
+        log.debug("Search users: keyword={}, departmentId={}, limit={}", keyword, departmentId, limit);
+
+        List<UserResponse> response = userService.searchUsers(keyword, departmentId, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 부서별 사용자 목록 조회
      *
@@ -103,6 +103,16 @@ public class Board {
      */
     private Integer shareCount;
 
+    /**
+     * 미완료 업무 수 (보드 목록 조회 시)
+     */
+    private Integer pendingItemCount;
+
+    /**
+     * 조회 사용자의 권한 (보드 목록 조회 시, OWNER 또는 공유 권한)
+     */
+    private String userPermission;
+
     // =============================================
     // 편의 메서드
     // =============================================
@@ -138,6 +138,11 @@ public class Item {
      */
     private Long updatedBy;
 
+    /**
+     * 변경 버전 (수정 시마다 1씩 증가)
+     */
+    private Integer version;
+
     // =============================================
     // 추가 필드 (Mapper에서 JOIN으로 설정)
     // =============================================
@@ -177,6 +182,11 @@ public class Item {
      */
     private Integer commentCount;
 
+    /**
+     * 첨부 파일 수
+     */
+    private Integer fileCount;
+
     /**
      * 동적 속성값 목록
      */
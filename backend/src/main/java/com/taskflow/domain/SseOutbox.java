@@ -0,0 +1,69 @@
+package com.taskflow.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSE 이벤트 outbox 엔티티
+ *
+ * 테이블: TB_SSE_OUTBOX
+ *
+ * 다중 인스턴스 환경에서 보드 이벤트를 다른 인스턴스에 전달하기 위해 기록
+ * - 각 인스턴스가 주기적으로 폴링하여 자신의 구독자에게 전송
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseOutbox {
+
+    /**
+     * outbox ID (PK)
+     */
+    private Long outboxId;
+
+    /**
+     * 발행 인스턴스 ID
+     */
+    private String originNode;
+
+    /**
+     * 보드 ID
+     */
+    private Long boardId;
+
+    /**
+     * 이벤트 타입 (item:created 등)
+     */
+    private String eventType;
+
+    /**
+     * 직렬화된 이벤트 (JSON)
+     */
+    private String payload;
+
+    /**
+     * 이벤트 발생자 ID
+     */
+    private Long triggeredBy;
+
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createdAt;
+
+    // =============================================
+    // 조회 필드
+    // =============================================
+
+    /**
+     * 기록 후 조회까지 경과 시간 (ms, DB 시각 기준)
+     */
+    private Long lagMs;
+}
@@ -1,5 +1,6 @@
 package com.taskflow.dto.audit;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,12 +25,12 @@ public class AuditLogPageResponse {
     private List<AuditLogResponse> content;
 
     /**
-     * 전체 항목 수
+     * 전체 항목 수 (count=none 이면 -1)
      */
     private Long totalElements;
 
     /**
-     * 전체 페이지 수
+     * 전체 페이지 수 (count=none 이면 -1)
      */
     private Integer totalPages;
 
@@ -43,6 +44,12 @@ public class AuditLogPageResponse {
      */
     private Integer size;
 
+    /**
+     * 다음 페이지 존재 여부 (다음 페이지 확인용 행을 조회한 경우만, 그 외 null)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
     /**
      * 첫 페이지 여부
      */
@@ -54,6 +61,9 @@ public class AuditLogPageResponse {
      * 마지막 페이지 여부
      */
     public boolean isLast() {
+        if (hasNext != null) {
+            return !hasNext;
+        }
         return number >= totalPages - 1;
     }
 }
@@ -1,5 +1,6 @@
 package com.taskflow.dto.audit;
 
+import com.taskflow.common.CountMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -55,10 +56,31 @@ public class AuditLogSearchRequest {
     @Builder.Default
     private Integer size = 20;
 
+    /**
+     * 총 개수 계산 방식 (count 파라미터)
+     */
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
+
     /**
      * 오프셋 계산
      */
     public int getOffset() {
         return page * size;
     }
+
+    /**
+     * 조회 건수 (COUNT 생략 시 다음 페이지 존재 확인용 1건 추가)
+     */
+    public int getFetchSize() {
+        return countMode.isProbeNext() ? size + 1 : size;
+    }
+
+    /**
+     * 총 개수 캐시 키 (필터 조건, 페이지 제외)
+     */
+    public String countKey() {
+        return String.join("|", targetType, action, String.valueOf(actorId),
+                String.valueOf(startDate), String.valueOf(endDate));
+    }
 }
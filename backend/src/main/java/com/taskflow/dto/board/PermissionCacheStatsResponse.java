@@ -0,0 +1,57 @@
+package com.taskflow.dto.board;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 권한 캐시 통계 응답 DTO
+ */
+@Getter
+@Builder
+public class PermissionCacheStatsResponse {
+
+    /**
+     * 캐시된 보드 권한 수 (boardId, userId)
+     */
+    private int boardEntries;
+
+    /**
+     * 캐시된 업무 권한 수 (itemId, userId)
+     */
+    private int itemEntries;
+
+    /**
+     * 최대 항목 수
+     */
+    private int maxEntries;
+
+    /**
+     * 캐시 유지 시간 (초)
+     */
+    private long ttlSeconds;
+
+    /**
+     * 캐시 적중 횟수
+     */
+    private long hits;
+
+    /**
+     * 캐시 미스 횟수 (권한 조회 쿼리 수행)
+     */
+    private long misses;
+
+    /**
+     * TTL 만료로 제거된 횟수
+     */
+    private long evictions;
+
+    /**
+     * 공유/소유권 변경으로 무효화된 항목 수
+     */
+    private long invalidations;
+
+    /**
+     * 적중률 (0.0 ~ 1.0)
+     */
+    private double hitRate;
+}
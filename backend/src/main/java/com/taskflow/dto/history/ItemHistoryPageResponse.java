@@ -28,12 +28,12 @@ public class ItemHistoryPageResponse {
     private int size;
 
     /**
-     * 총 항목 수
+     * 총 항목 수 (count=none 이면 -1)
      */
     private long totalElements;
 
     /**
-     * 총 페이지 수
+     * 총 페이지 수 (count=none 이면 -1)
      */
     private int totalPages;
 
@@ -63,4 +63,26 @@ public class ItemHistoryPageResponse {
                 .last(page >= totalPages - 1)
                 .build();
     }
+
+    /**
+     * 페이징 응답 생성 (총 개수를 모르면 다음 페이지 존재 여부로 마지막 페이지 판단)
+     *
+     * @param totalElements 총 항목 수 (계산하지 않았으면 음수)
+     */
+    public static ItemHistoryPageResponse of(List<ItemHistoryResponse> content, int page, int size,
+                                             long totalElements, boolean hasNext) {
+        if (totalElements >= 0) {
+            return of(content, page, size, totalElements);
+        }
+
+        return ItemHistoryPageResponse.builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .first(page == 0)
+                .last(!hasNext)
+                .build();
+    }
 }
@@ -1,5 +1,7 @@
 package com.taskflow.dto.history;
 
+import com.taskflow.common.CountMode;
+import com.taskflow.common.FullTextQuery;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -62,6 +64,11 @@ public class ItemHistorySearchRequest {
      */
     private String sortDirection = "desc";
 
+    /**
+     * 총 개수 계산 방식 (count 파라미터)
+     */
+    private CountMode countMode = CountMode.EXACT;
+
     /**
      * 오프셋 계산
      */
@@ -69,6 +76,28 @@ public class ItemHistorySearchRequest {
         return page * size;
     }
 
+    /**
+     * 키워드 FULLTEXT(ngram) 검색어 (null 이면 LIKE 조건만 사용)
+     */
+    public String getKeywordQuery() {
+        return FullTextQuery.ngramBoolean(keyword);
+    }
+
+    /**
+     * 조회 건수 (COUNT 생략 시 다음 페이지 존재 확인용 1건 추가)
+     */
+    public int getFetchSize() {
+        return countMode.isProbeNext() ? size + 1 : size;
+    }
+
+    /**
+     * 총 개수 캐시 키 (필터 조건, 페이지/정렬 제외)
+     */
+    public String countKey() {
+        return String.join("|", String.valueOf(boardId), result, String.valueOf(workerId),
+                String.valueOf(startDate), String.valueOf(endDate), keyword);
+    }
+
     /**
      * ORDER BY 절 생성 (SQL Injection 방어)
      */
@@ -1,5 +1,6 @@
 package com.taskflow.dto.history;
 
+import com.taskflow.common.FullTextQuery;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -64,6 +65,13 @@ public class TemplateHistorySearchRequest {
         return page * size;
     }
 
+    /**
+     * 키워드 FULLTEXT(ngram) 검색어 (null 이면 LIKE 조건만 사용)
+     */
+    public String getKeywordQuery() {
+        return FullTextQuery.ngramBoolean(keyword);
+    }
+
     /**
      * ORDER BY 절 생성
      */
@@ -1,5 +1,10 @@
 package com.taskflow.dto.item;
 
+import com.taskflow.common.CountMode;
+import com.taskflow.common.FullTextQuery;
+import com.taskflow.domain.Item;
+import com.taskflow.exception.BusinessException;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -94,6 +99,25 @@ public class CrossBoardSearchRequest {
      */
     private String sortDirection = "asc";
 
+    /**
+     * 커서 (Keyset 페이징)
+     * - null 이면 page/size 오프셋 페이징
+     * - 빈 문자열이면 커서 페이징 첫 페이지, 이후 응답의 nextCursor 를 그대로 전달
+     */
+    private String cursor;
+
+    /**
+     * 총 개수 계산 방식 (count 파라미터)
+     */
+    private CountMode countMode = CountMode.EXACT;
+
+    /**
+     * 해석한 Keyset 조건 (커서 해석 결과 재사용)
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ItemKeyset keyset;
+
     /**
      * 오프셋 계산 (NPE 방지)
      */
@@ -103,6 +127,13 @@ public class CrossBoardSearchRequest {
         return safePage * safeSize;
     }
 
+    /**
+     * 키워드 FULLTEXT(ngram) 검색어 (null 이면 LIKE 조건만 사용)
+     */
+    public String getKeywordQuery() {
+        return FullTextQuery.ngramBoolean(keyword);
+    }
+
     /**
      * 안전한 페이지 번호 반환 (NPE 방지)
      */
@@ -117,26 +148,114 @@ public class CrossBoardSearchRequest {
         return (size != null) ? size : 20;
     }
 
+    /**
+     * 커서 페이징 여부
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    /**
+     * 조회 건수 (커서 페이징 또는 COUNT 생략 시 다음 페이지 존재 확인용 1건 추가)
+     */
+    public int getFetchSize() {
+        return isCursorMode() || countMode.isProbeNext() ? getSafeSize() + 1 : getSafeSize();
+    }
+
+    /**
+     * 총 개수 캐시 키 (필터 조건, 페이지/정렬 제외)
+     */
+    public String countKey() {
+        return String.join("|", keyword, status, priority, String.valueOf(assigneeId), String.valueOf(groupId),
+                String.valueOf(categoryId), String.valueOf(boardId), String.valueOf(overdueOnly),
+                String.valueOf(startDate), String.valueOf(endDate));
+    }
+
     /**
      * 정렬 SQL 문자열 반환 (SQL 인젝션 방지)
+     * - 커서 페이징은 정렬 키가 같은 행의 순서를 고정하기 위해 ITEM_ID 를 덧붙임
      */
     public String getOrderBy() {
+        String safeSortField = resolveSortField();
+        String safeDirection = resolveDirection();
+        String field = resolveSortColumn(safeSortField);
+
+        String orderBy;
+        // NULL 처리 (NULLS LAST)
+        if (isNullsLastField(safeSortField)) {
+            orderBy = field + " IS NULL, " + field + " " + safeDirection;
+        } else {
+            orderBy = field + " " + safeDirection;
+        }
+
+        return isCursorMode() ? orderBy + ", i.ITEM_ID " + safeDirection : orderBy;
+    }
+
+    /**
+     * Keyset 조건 반환 (커서 페이징 첫 페이지/오프셋 페이징이면 null)
+     * - overdueDays/pendingDays 는 오늘 날짜 기준 값이라 날짜가 바뀌면 커서 위치가 어긋나므로 지원하지 않음
+     */
+    public ItemKeyset getKeyset() {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        if (keyset == null) {
+            String safeSortField = resolveSortField();
+            String safeDirection = resolveDirection();
+            if ("overdueDays".equals(safeSortField) || "pendingDays".equals(safeSortField)) {
+                throw BusinessException.badRequest(
+                        "overdueDays/pendingDays 정렬은 커서 페이징을 지원하지 않습니다 (dueDate/updatedAt 정렬 사용)");
+            }
+            boolean nullable = switch (safeSortField) {
+                case "assigneeId", "groupId", "categoryId", "startTime", "endTime", "dueDate", "updatedAt" -> true;
+                default -> false;
+            };
+            boolean nullsLast = isNullsLastField(safeSortField) || "DESC".equals(safeDirection);
+            keyset = ItemKeyset.of(ItemCursor.decode(cursor), safeSortField, safeDirection,
+                    resolveSortColumn(safeSortField), nullable, nullsLast);
+        }
+        return keyset;
+    }
+
+    /**
+     * 마지막 아이템 기준 다음 페이지 커서 생성
+     */
+    public String nextCursor(Item last) {
+        String safeSortField = resolveSortField();
+        Object value = switch (safeSortField) {
+            case "title", "content" -> last.getContent();
+            case "status" -> last.getStatus();
+            case "priority" -> priorityRank(last.getPriority());
+            case "assigneeId" -> last.getAssigneeId();
+            case "groupId" -> last.getGroupId();
+            case "categoryId" -> last.getCategoryId();
+            case "startTime" -> last.getStartTime();
+            case "endTime", "dueDate" -> last.getEndTime();
+            case "createdAt" -> last.getCreatedAt();
+            case "updatedAt" -> last.getUpdatedAt();
+            case "boardName" -> last.getBoardName();
+            default -> null;
+        };
+        return ItemCursor.of(safeSortField, resolveDirection(), value, last.getItemId()).encode();
+    }
+
+    private String resolveSortField() {
         // 정렬 필드 화이트리스트 검증
-        String safeSortField = (sortField != null && ALLOWED_SORT_FIELDS.contains(sortField))
+        return (sortField != null && ALLOWED_SORT_FIELDS.contains(sortField))
                 ? sortField
                 : "endTime";
+    }
 
+    private String resolveDirection() {
         // 정렬 방향 엄격한 검증
-        String safeDirection;
         if ("desc".equalsIgnoreCase(sortDirection)) {
-            safeDirection = "DESC";
-        } else if ("asc".equalsIgnoreCase(sortDirection)) {
-            safeDirection = "ASC";
-        } else {
-            safeDirection = "ASC";
+            return "DESC";
         }
+        return "ASC";
+    }
 
-        String field = switch (safeSortField) {
+    private static String resolveSortColumn(String safeSortField) {
+        return switch (safeSortField) {
             case "title", "content" -> "i.CONTENT";
             case "status" -> "i.STATUS";
             case "priority" -> "FIELD(i.PRIORITY, 'URGENT', 'HIGH', 'NORMAL', 'LOW')";
@@ -152,12 +271,25 @@ public class CrossBoardSearchRequest {
             case "boardName" -> "b.BOARD_NAME";
             default -> "i.END_TIME";
         };
+    }
 
-        // NULL 처리 (NULLS LAST)
-        if ("endTime".equals(safeSortField) || "dueDate".equals(safeSortField) || "overdueDays".equals(safeSortField)) {
-            return field + " IS NULL, " + field + " " + safeDirection;
-        }
+    private static boolean isNullsLastField(String safeSortField) {
+        return "endTime".equals(safeSortField) || "dueDate".equals(safeSortField) || "overdueDays".equals(safeSortField);
+    }
 
-        return field + " " + safeDirection;
+    /**
+     * FIELD(i.PRIORITY, 'URGENT', 'HIGH', 'NORMAL', 'LOW') 와 같은 순위 (목록에 없으면 0)
+     */
+    private static long priorityRank(String priority) {
+        if (priority == null) {
+            return 0;
+        }
+        return switch (priority) {
+            case "URGENT" -> 1;
+            case "HIGH" -> 2;
+            case "NORMAL" -> 3;
+            case "LOW" -> 4;
+            default -> 0;
+        };
     }
 }
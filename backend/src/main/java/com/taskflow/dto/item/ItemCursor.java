@@ -0,0 +1,104 @@
+package com.taskflow.dto.item;
+
+import com.taskflow.exception.BusinessException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 아이템 목록 커서 (Keyset 페이징)
+ *
+ * 마지막으로 응답한 아이템의 정렬 키 값과 ITEM_ID 를 담은 불투명 토큰
+ * - 형식: Base64URL("v1|정렬필드|정렬방향|ITEM_ID|값 종류|값")
+ * - 값 종류: N(NULL), T(LocalDateTime), S(문자열), L(정수)
+ * - 정렬 조건이 바뀐 요청에는 사용할 수 없음 (ItemKeyset 생성 시 검증)
+ */
+@Getter
+public final class ItemCursor {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 필드
+     */
+    private final String sortField;
+
+    /**
+     * 정렬 방향 (ASC, DESC)
+     */
+    private final String direction;
+
+    /**
+     * 마지막 아이템의 정렬 키 값 (NULL 가능)
+     */
+    private final Object value;
+
+    /**
+     * 마지막 아이템 ID
+     */
+    private final Long itemId;
+
+    private ItemCursor(String sortField, String direction, Object value, Long itemId) {
+        this.sortField = sortField;
+        this.direction = direction;
+        this.value = value;
+        this.itemId = itemId;
+    }
+
+    public static ItemCursor of(String sortField, String direction, Object value, Long itemId) {
+        return new ItemCursor(sortField, direction, value, itemId);
+    }
+
+    /**
+     * 커서 토큰 생성
+     */
+    public String encode() {
+        String kind;
+        String text;
+        if (value == null) {
+            kind = "N";
+            text = "";
+        } else if (value instanceof LocalDateTime dateTime) {
+            kind = "T";
+            text = dateTime.toString();
+        } else if (value instanceof Number number) {
+            kind = "L";
+            text = String.valueOf(number.longValue());
+        } else {
+            kind = "S";
+            text = value.toString();
+        }
+
+        String raw = String.join(DELIMITER, VERSION, sortField, direction, String.valueOf(itemId), kind, text);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     */
+    public static ItemCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 값은 마지막 필드이므로 구분자를 포함해도 분리하지 않음
+            String[] parts = raw.split("\\|", 6);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw BusinessException.badRequest("유효하지 않은 커서입니다");
+            }
+
+            Object value = switch (parts[4]) {
+                case "N" -> null;
+                case "T" -> LocalDateTime.parse(parts[5]);
+                case "L" -> Long.parseLong(parts[5]);
+                case "S" -> parts[5];
+                default -> throw BusinessException.badRequest("유효하지 않은 커서입니다");
+            };
+            return new ItemCursor(parts[1], parts[2], value, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BusinessException.badRequest("유효하지 않은 커서입니다");
+        }
+    }
+}
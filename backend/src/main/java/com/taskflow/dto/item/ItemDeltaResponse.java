@@ -0,0 +1,116 @@
+package com.taskflow.dto.item;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아이템 변경분(델타) 응답 DTO
+ *
+ * SSE 델타 모드에서 item:updated 이벤트의 data 로 전송되며,
+ * 변경된 필드와 속성값만 담습니다.
+ * 클라이언트는 보유한 아이템의 version 이 baseVersion 과 같을 때만 적용하고,
+ * 다르면 델타를 놓친 것이므로 아이템 전체를 다시 조회합니다.
+ */
+@Getter
+@Builder
+public class ItemDeltaResponse {
+
+    /**
+     * 델타 여부 (전체 ItemResponse 와 구분)
+     */
+    @Builder.Default
+    private boolean delta = true;
+
+    /**
+     * 아이템 ID
+     */
+    private Long itemId;
+
+    /**
+     * 보드 ID
+     */
+    private Long boardId;
+
+    /**
+     * 적용 기준 버전 (변경 전)
+     */
+    private Integer baseVersion;
+
+    /**
+     * 적용 후 버전
+     */
+    private Integer version;
+
+    /**
+     * 변경된 필드 (필드명 -> 변경 후 값, null 은 값 제거)
+     */
+    private Map<String, Object> changes;
+
+    /**
+     * 변경된 동적 속성값 (propertyId -> value)
+     */
+    private Map<Long, Object> propertyValues;
+
+    /**
+     * 변경된 동적 속성값 상세 (표시용 값 포함)
+     */
+    private List<ItemResponse.PropertyValueResponse> properties;
+
+    /**
+     * 값이 제거된 속성 ID 목록
+     */
+    private List<Long> removedPropertyIds;
+
+    /**
+     * 변경분이 없는지 여부
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty() && propertyValues.isEmpty() && removedPropertyIds.isEmpty();
+    }
+
+    /**
+     * 연속된 다음 델타와 병합
+     *
+     * @return 병합된 델타, next 가 이 델타 바로 다음 버전이 아니면 null
+     */
+    public ItemDeltaResponse then(ItemDeltaResponse next) {
+        if (version == null || !version.equals(next.getBaseVersion())) {
+            return null;
+        }
+
+        Map<String, Object> mergedChanges = new LinkedHashMap<>(changes);
+        mergedChanges.putAll(next.getChanges());
+
+        Map<Long, Object> mergedValues = new LinkedHashMap<>(propertyValues);
+        Map<Long, ItemResponse.PropertyValueResponse> mergedProperties = new LinkedHashMap<>();
+        properties.forEach(p -> mergedProperties.put(p.getPropertyId(), p));
+        Set<Long> mergedRemoved = new LinkedHashSet<>(removedPropertyIds);
+
+        next.getRemovedPropertyIds().forEach(id -> {
+            mergedValues.remove(id);
+            mergedProperties.remove(id);
+            mergedRemoved.add(id);
+        });
+        mergedValues.putAll(next.getPropertyValues());
+        next.getProperties().forEach(p -> mergedProperties.put(p.getPropertyId(), p));
+        mergedRemoved.removeAll(next.getPropertyValues().keySet());
+
+        return ItemDeltaResponse.builder()
+                .itemId(itemId)
+                .boardId(boardId)
+                .baseVersion(baseVersion)
+                .version(next.getVersion())
+                .changes(mergedChanges)
+                .propertyValues(mergedValues)
+                .properties(new ArrayList<>(mergedProperties.values()))
+                .removedPropertyIds(new ArrayList<>(mergedRemoved))
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskflow.dto.item;
+
+import com.taskflow.exception.BusinessException;
+import lombok.Getter;
+
+/**
+ * Keyset 페이징 조건 (ItemMapper.xml keysetCondition 용)
+ *
+ * ORDER BY {column} {direction}, i.ITEM_ID {direction} 순서에서 커서 다음 행만 남기는 조건
+ * - column 은 요청 DTO 의 정렬 필드 화이트리스트에서만 생성 (커서 값으로 만들지 않음)
+ * - nullable 이 아니면 (column, ITEM_ID) 범위 조건만 생성하여 (BOARD_ID, column) 인덱스 범위 스캔 가능
+ * - nullsLast 는 NULL 이 정렬 끝에 오는지 여부 (MySQL 기본: ASC 는 NULL 먼저, DESC 는 NULL 마지막)
+ */
+@Getter
+public final class ItemKeyset {
+
+    /**
+     * 정렬 컬럼 (SQL 식)
+     */
+    private final String column;
+
+    /**
+     * 비교 연산자 (ASC: &gt;, DESC: &lt;)
+     */
+    private final String operator;
+
+    /**
+     * 정렬 컬럼 NULL 허용 여부
+     */
+    private final boolean nullable;
+
+    /**
+     * NULL 이 정렬 끝에 오는지 여부
+     */
+    private final boolean nullsLast;
+
+    /**
+     * 커서 정렬 키 값 (NULL 가능)
+     */
+    private final Object value;
+
+    /**
+     * 커서 아이템 ID
+     */
+    private final Long itemId;
+
+    private ItemKeyset(String column, String operator, boolean nullable, boolean nullsLast,
+                       Object value, Long itemId) {
+        this.column = column;
+        this.operator = operator;
+        this.nullable = nullable;
+        this.nullsLast = nullsLast;
+        this.value = value;
+        this.itemId = itemId;
+    }
+
+    /**
+     * 커서와 현재 정렬 조건으로 Keyset 조건 생성
+     *
+     * @param cursor    해석한 커서
+     * @param sortField 현재 정렬 필드
+     * @param direction 현재 정렬 방향 (ASC, DESC)
+     * @param column    정렬 컬럼 (SQL 식)
+     * @param nullable  정렬 컬럼 NULL 허용 여부
+     * @param nullsLast NULL 이 정렬 끝에 오는지 여부
+     */
+    public static ItemKeyset of(ItemCursor cursor, String sortField, String direction, String column,
+                                boolean nullable, boolean nullsLast) {
+        if (!sortField.equals(cursor.getSortField()) || !direction.equals(cursor.getDirection())) {
+            throw BusinessException.badRequest("커서와 정렬 조건이 일치하지 않습니다");
+        }
+        if (cursor.getValue() == null && !nullable) {
+            throw BusinessException.badRequest("유효하지 않은 커서입니다");
+        }
+        String operator = "DESC".equals(direction) ? "<" : ">";
+        return new ItemKeyset(column, operator, nullable, nullsLast, cursor.getValue(), cursor.getItemId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskflow.dto.item;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -28,12 +29,12 @@ public class ItemPageResponse {
     private int size;
 
     /**
-     * 전체 아이템 수
+     * 전체 아이템 수 (count=none 이면 -1)
      */
     private long totalElements;
 
     /**
-     * 전체 페이지 수
+     * 전체 페이지 수 (count=none 이면 -1)
      */
     private int totalPages;
 
@@ -57,6 +58,12 @@ public class ItemPageResponse {
      */
     private boolean empty;
 
+    /**
+     * 다음 페이지 커서 (커서 페이징에서만 사용, 마지막 페이지면 null)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     /**
      * 페이징 응답 생성
      */
@@ -75,4 +82,48 @@ public class ItemPageResponse {
                 .empty(content.isEmpty())
                 .build();
     }
+
+    /**
+     * 페이징 응답 생성 (총 개수를 모르면 다음 페이지 존재 여부로 마지막 페이지 판단)
+     *
+     * @param totalElements 전체 아이템 수 (계산하지 않았으면 음수)
+     */
+    public static ItemPageResponse of(List<ItemResponse> content, int page, int size, long totalElements,
+                                      boolean hasNext) {
+        if (totalElements >= 0) {
+            return of(content, page, size, totalElements);
+        }
+
+        return ItemPageResponse.builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .first(page == 0)
+                .last(!hasNext)
+                .numberOfElements(content.size())
+                .empty(content.isEmpty())
+                .build();
+    }
+
+    /**
+     * 커서 페이징 응답 생성
+     * - page 는 0 고정, first 는 커서 없이 요청한 첫 페이지 여부
+     */
+    public static ItemPageResponse ofCursor(List<ItemResponse> content, int size, long totalElements,
+                                            boolean first, String nextCursor) {
+        return ItemPageResponse.builder()
+                .content(content)
+                .page(0)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalElements >= 0 ? (int) Math.ceil((double) totalElements / size) : -1)
+                .first(first)
+                .last(nextCursor == null)
+                .numberOfElements(content.size())
+                .empty(content.isEmpty())
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -123,6 +123,11 @@ public class ItemResponse {
      */
     private Integer commentCount;
 
+    /**
+     * 첨부 파일 수
+     */
+    private Integer fileCount;
+
     /**
      * 생성자명
      */
@@ -143,6 +148,11 @@ public class ItemResponse {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * 변경 버전 (SSE 델타 이벤트 적용 기준)
+     */
+    private Integer version;
+
     /**
      * 동적 속성값 목록
      */
@@ -197,10 +207,12 @@ public class ItemResponse {
                 .endTime(item.getEndTime())
                 .deletedAt(item.getDeletedAt())
                 .commentCount(item.getCommentCount())
+                .fileCount(item.getFileCount())
                 .createdByName(item.getCreatedByName())
                 .updatedByName(item.getUpdatedByName())
                 .createdAt(item.getCreatedAt())
                 .updatedAt(item.getUpdatedAt())
+                .version(item.getVersion())
                 .properties(propertyResponses)
                 .propertyValues(propertyValueMap.isEmpty() ? null : propertyValueMap)
                 .build();
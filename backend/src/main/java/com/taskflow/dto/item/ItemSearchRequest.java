@@ -1,5 +1,9 @@
 package com.taskflow.dto.item;
 
+import com.taskflow.common.CountMode;
+import com.taskflow.common.FullTextQuery;
+import com.taskflow.domain.Item;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -82,6 +86,25 @@ public class ItemSearchRequest {
      */
     private String sortDirection = "desc";
 
+    /**
+     * 커서 (Keyset 페이징)
+     * - null 이면 page/size 오프셋 페이징
+     * - 빈 문자열이면 커서 페이징 첫 페이지, 이후 응답의 nextCursor 를 그대로 전달
+     */
+    private String cursor;
+
+    /**
+     * 총 개수 계산 방식 (count 파라미터)
+     */
+    private CountMode countMode = CountMode.EXACT;
+
+    /**
+     * 해석한 Keyset 조건 (커서 해석 결과 재사용)
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ItemKeyset keyset;
+
     /**
      * 오프셋 계산
      */
@@ -89,11 +112,102 @@ public class ItemSearchRequest {
         return page * size;
     }
 
+    /**
+     * 키워드 FULLTEXT(ngram) 검색어 (null 이면 LIKE 조건만 사용)
+     */
+    public String getKeywordQuery() {
+        return FullTextQuery.ngramBoolean(keyword);
+    }
+
+    /**
+     * 커서 페이징 여부
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    /**
+     * 조회 건수 (커서 페이징 또는 COUNT 생략 시 다음 페이지 존재 확인용 1건 추가)
+     */
+    public int getFetchSize() {
+        return isCursorMode() || countMode.isProbeNext() ? size + 1 : size;
+    }
+
+    /**
+     * 총 개수 캐시 키 (필터 조건, 페이지/정렬 제외)
+     */
+    public String countKey() {
+        return String.join("|", keyword, status, priority, String.valueOf(assigneeId), String.valueOf(groupId),
+                String.valueOf(categoryId), String.valueOf(startDate), String.valueOf(endDate),
+                String.valueOf(includeCompleted), String.valueOf(includeDeleted));
+    }
+
     /**
      * 정렬 SQL 문자열 반환
+     * - 커서 페이징은 정렬 키가 같은 행의 순서를 고정하기 위해 ITEM_ID 를 덧붙임
      */
     public String getOrderBy() {
-        String field = switch (sortField) {
+        String direction = resolveDirection();
+        String orderBy = resolveSortColumn() + " " + direction;
+        return isCursorMode() ? orderBy + ", i.ITEM_ID " + direction : orderBy;
+    }
+
+    /**
+     * Keyset 조건 반환 (커서 페이징 첫 페이지/오프셋 페이징이면 null)
+     */
+    public ItemKeyset getKeyset() {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        if (keyset == null) {
+            String direction = resolveDirection();
+            String column = resolveSortColumn();
+            boolean nullable = switch (column) {
+                case "i.ASSIGNEE_ID", "i.GROUP_ID", "i.CATEGORY_ID", "i.START_TIME", "i.END_TIME", "i.UPDATED_AT" -> true;
+                default -> false;
+            };
+            keyset = ItemKeyset.of(ItemCursor.decode(cursor), resolveSortField(), direction, column,
+                    nullable, "DESC".equals(direction));
+        }
+        return keyset;
+    }
+
+    /**
+     * 마지막 아이템 기준 다음 페이지 커서 생성
+     */
+    public String nextCursor(Item last) {
+        Object value = switch (resolveSortColumn()) {
+            case "i.CONTENT" -> last.getContent();
+            case "i.STATUS" -> last.getStatus();
+            case "i.PRIORITY" -> last.getPriority();
+            case "i.ASSIGNEE_ID" -> last.getAssigneeId();
+            case "i.GROUP_ID" -> last.getGroupId();
+            case "i.CATEGORY_ID" -> last.getCategoryId();
+            case "i.START_TIME" -> last.getStartTime();
+            case "i.END_TIME" -> last.getEndTime();
+            case "i.UPDATED_AT" -> last.getUpdatedAt();
+            default -> last.getCreatedAt();
+        };
+        return ItemCursor.of(resolveSortField(), resolveDirection(), value, last.getItemId()).encode();
+    }
+
+    private String resolveSortField() {
+        return switch (resolveSortColumn()) {
+            case "i.CONTENT" -> "content";
+            case "i.STATUS" -> "status";
+            case "i.PRIORITY" -> "priority";
+            case "i.ASSIGNEE_ID" -> "assigneeId";
+            case "i.GROUP_ID" -> "groupId";
+            case "i.CATEGORY_ID" -> "categoryId";
+            case "i.START_TIME" -> "startTime";
+            case "i.END_TIME" -> "endTime";
+            case "i.UPDATED_AT" -> "updatedAt";
+            default -> "createdAt";
+        };
+    }
+
+    private String resolveSortColumn() {
+        return switch (sortField != null ? sortField : "createdAt") {
             case "title", "content" -> "i.CONTENT";
             case "status" -> "i.STATUS";
             case "priority" -> "i.PRIORITY";
@@ -106,8 +220,9 @@ public class ItemSearchRequest {
             case "updatedAt" -> "i.UPDATED_AT";
             default -> "i.CREATED_AT";
         };
+    }
 
-        String direction = "desc".equalsIgnoreCase(sortDirection) ? "DESC" : "ASC";
-        return field + " " + direction;
+    private String resolveDirection() {
+        return "desc".equalsIgnoreCase(sortDirection) ? "DESC" : "ASC";
     }
 }
@@ -0,0 +1,24 @@
+package com.taskflow.dto.item;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보드별 활성 업무 집계 행
+ * - (보드, 상태, 우선순위, 종료 시간) 별 업무 수
+ * - 업무 통계 카운터 적재에 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ItemStatsBucket {
+
+    private Long boardId;
+    private String status;
+    private String priority;
+    private LocalDateTime endTime;
+    private long itemCount;
+}
@@ -0,0 +1,57 @@
+package com.taskflow.dto.property;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 속성 정의 캐시 통계 응답 DTO
+ */
+@Getter
+@Builder
+public class PropertyCacheStatsResponse {
+
+    /**
+     * 현재 캐시된 보드 수
+     */
+    private int size;
+
+    /**
+     * 최대 보드 수
+     */
+    private int maxSize;
+
+    /**
+     * 캐시 유지 시간 (초)
+     */
+    private long ttlSeconds;
+
+    /**
+     * 캐시 적중 횟수
+     */
+    private long hits;
+
+    /**
+     * 캐시 미스 횟수
+     */
+    private long misses;
+
+    /**
+     * DB 조회 횟수 (미스가 동시에 발생해도 보드당 1회)
+     */
+    private long loads;
+
+    /**
+     * 제거 횟수 (TTL 만료 + 크기 초과)
+     */
+    private long evictions;
+
+    /**
+     * 속성/옵션 변경으로 무효화된 횟수
+     */
+    private long invalidations;
+
+    /**
+     * 적중률 (0.0 ~ 1.0)
+     */
+    private double hitRate;
+}
@@ -0,0 +1,102 @@
+package com.taskflow.dto.sse;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SSE 이벤트 버스 통계 응답 DTO
+ */
+@Getter
+@Builder(toBuilder = true)
+public class SseBusStatsResponse {
+
+    /**
+     * 버스 타입 (LOCAL, DATABASE)
+     */
+    private String type;
+
+    /**
+     * 현재 인스턴스 ID
+     */
+    private String nodeId;
+
+    /**
+     * 현재 인스턴스에서 발행한 이벤트 수
+     */
+    private long published;
+
+    /**
+     * 다른 인스턴스에서 수신하여 전송한 이벤트 수
+     */
+    private long received;
+
+    /**
+     * 마지막으로 처리한 outbox ID
+     */
+    private long lastOutboxId;
+
+    /**
+     * 건너뛴 outbox ID 구간 수 (커밋되지 않았거나 롤백된 ID)
+     */
+    private long skippedGaps;
+
+    /**
+     * 다른 인스턴스에 전달한 캐시 무효화 수
+     */
+    private long evictionsPublished;
+
+    /**
+     * 다른 인스턴스에서 수신하여 적용한 캐시 무효화 수
+     */
+    private long evictionsReceived;
+
+    /**
+     * 인스턴스 간 전달 지연 - 마지막 값 (ms)
+     */
+    private long lastLagMs;
+
+    /**
+     * 인스턴스 간 전달 지연 - 평균 (ms)
+     */
+    private double avgLagMs;
+
+    /**
+     * 인스턴스 간 전달 지연 - 최대 (ms)
+     */
+    private long maxLagMs;
+
+    /**
+     * 트랜잭션 안에서 등록되어 커밋을 기다린 이벤트 수
+     */
+    private long stagedEvents;
+
+    /**
+     * 트랜잭션 롤백으로 폐기된 이벤트 수
+     */
+    private long discardedEvents;
+
+    /**
+     * 커밋 이후 이벤트를 전송한 트랜잭션 수
+     */
+    private long committedTransactions;
+
+    /**
+     * 전송된 batch 이벤트 수 (한 트랜잭션에서 같은 보드 이벤트가 여러 건인 경우)
+     */
+    private long batchFrames;
+
+    /**
+     * 병합을 위해 보류된 item:updated 이벤트 수
+     */
+    private long heldUpdates;
+
+    /**
+     * 병합으로 전송이 생략된 item:updated 이벤트 수
+     */
+    private long coalescedUpdates;
+
+    /**
+     * 현재 보류 중인 아이템 수
+     */
+    private int pendingUpdates;
+}
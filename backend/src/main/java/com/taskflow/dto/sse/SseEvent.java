@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * SSE 이벤트 DTO
@@ -21,6 +22,8 @@ public class SseEvent<T> {
     public static final String ITEM_DELETED = "item:deleted";
     public static final String PROPERTY_UPDATED = "property:updated";
     public static final String COMMENT_CREATED = "comment:created";
+    public static final String BATCH = "batch";
+    public static final String RESYNC_REQUIRED = "resync:required";
     public static final String CONNECTION = "connection";
     public static final String HEARTBEAT = "heartbeat";
 
@@ -122,6 +125,36 @@ public class SseEvent<T> {
                 .build();
     }
 
+    /**
+     * 묶음 이벤트
+     *
+     * 한 트랜잭션에서 같은 보드에 발생한 이벤트들을 발생 순서대로 담아 한 번에 전송합니다.
+     */
+    public static SseEvent<List<SseEvent<?>>> batch(Long boardId, List<SseEvent<?>> events, Long triggeredBy) {
+        return SseEvent.<List<SseEvent<?>>>builder()
+                .type(BATCH)
+                .boardId(boardId)
+                .data(events)
+                .timestamp(LocalDateTime.now())
+                .triggeredBy(triggeredBy)
+                .build();
+    }
+
+    /**
+     * 재동기화 필요 이벤트
+     *
+     * 재연결 시 누락된 이벤트가 재전송 버퍼 범위를 벗어난 경우 전송되며,
+     * 클라이언트는 보드 데이터를 다시 조회해야 합니다.
+     */
+    public static SseEvent<Long> resyncRequired(Long boardId, Long lastEventId) {
+        return SseEvent.<Long>builder()
+                .type(RESYNC_REQUIRED)
+                .boardId(boardId)
+                .data(lastEventId)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * 연결 완료 이벤트
      */
@@ -133,6 +166,19 @@ public class SseEvent<T> {
                 .build();
     }
 
+    /**
+     * 연결 완료 이벤트 (연결 ID 포함)
+     *
+     * data 에 연결 ID 를 담아 전달하며, 클라이언트는 보드 구독 시 이 값을 사용합니다.
+     */
+    public static SseEvent<String> connected(String connectionId) {
+        return SseEvent.<String>builder()
+                .type(CONNECTION)
+                .data(connectionId)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * 하트비트 이벤트
      */
@@ -0,0 +1,112 @@
+package com.taskflow.dto.sse;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SSE 전송 통계 응답 DTO
+ */
+@Getter
+@Builder
+public class SseStatsResponse {
+
+    /**
+     * 현재 연결 수
+     */
+    private int totalConnections;
+
+    /**
+     * 연결된 사용자 수 (한 사용자가 여러 연결을 가질 수 있음)
+     */
+    private int connectedUsers;
+
+    /**
+     * 구독자가 1명 이상인 보드 수
+     */
+    private int subscribedBoards;
+
+    /**
+     * 보드 이벤트 전송(sendToBoard) 횟수
+     */
+    private long boardFanoutCount;
+
+    /**
+     * 보드 구독자 역색인으로 순회한 구독자 수 누계
+     */
+    private long boardFanoutVisited;
+
+    /**
+     * 전체 연결을 순회했다면 방문했을 구독자 수 누계 (역색인 도입 전 비용)
+     */
+    private long boardFanoutFullScan;
+
+    /**
+     * 직렬화된 이벤트 수 (이벤트당 1회)
+     */
+    private long framesEncoded;
+
+    /**
+     * 구독자에게 전송된 프레임 수
+     */
+    private long framesSent;
+
+    /**
+     * 전송 작업 스레드 수
+     */
+    private int writerThreads;
+
+    /**
+     * 연결별 전송 대기열 최대 크기
+     */
+    private int queueCapacity;
+
+    /**
+     * 현재 전체 대기 중인 프레임 수
+     */
+    private int queuedFrames;
+
+    /**
+     * 현재 가장 깊은 연결별 대기열 크기
+     */
+    private int maxQueueDepth;
+
+    /**
+     * 대기열에 추가된 프레임 수
+     */
+    private long framesEnqueued;
+
+    /**
+     * 대기열 초과로 버려진 프레임 수
+     */
+    private long framesDropped;
+
+    /**
+     * 대기열 초과로 연결 종료된 구독자 수
+     */
+    private long evictedConnections;
+
+    /**
+     * 전송 오류로 연결 종료된 구독자 수
+     */
+    private long failedConnections;
+
+    /**
+     * 재전송 버퍼를 보유한 보드 수
+     */
+    private int replayBuffers;
+
+    /**
+     * 재연결 시 재전송된 프레임 수
+     */
+    private long framesReplayed;
+
+    /**
+     * 재전송 범위 초과로 재동기화를 요청한 횟수
+     */
+    private long resyncRequired;
+
+    /**
+     * 조회 시점의 JVM 힙 사용량 (bytes, 부하 테스트의 연결당 메모리 추정용)
+     */
+    private long heapUsedBytes;
+}
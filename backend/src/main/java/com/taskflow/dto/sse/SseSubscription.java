@@ -1,5 +1,6 @@
 package com.taskflow.dto.sse;
 
+import com.taskflow.sse.SseOutboundQueue;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -15,6 +16,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @Builder
 public class SseSubscription {
 
+    /**
+     * 연결 ID (탭 / 디바이스별 고유)
+     */
+    private String connectionId;
+
     /**
      * 사용자 ID
      */
@@ -25,6 +31,11 @@ public class SseSubscription {
      */
     private SseEmitter emitter;
 
+    /**
+     * 전송 대기열
+     */
+    private SseOutboundQueue outbound;
+
     /**
      * 구독 중인 보드 ID 목록
      */
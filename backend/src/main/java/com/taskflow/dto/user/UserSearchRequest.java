@@ -25,4 +25,11 @@ public class UserSearchRequest extends PageRequest {
      * 사용 여부 필터 (Y/N)
      */
     private String useYn;
+
+    /**
+     * 총 개수 캐시 키 (필터 조건, 페이지/정렬 제외)
+     */
+    public String countKey() {
+        return String.join("|", keyword, String.valueOf(departmentId), useYn);
+    }
 }
@@ -0,0 +1,39 @@
+package com.taskflow.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 사용자별 보드 접근(TB_BOARD_ACCESS) Mapper 인터페이스
+ *
+ * TB_BOARD.OWNER_ID 와 TB_BOARD_SHARE 를 (사용자, 보드) 단위로 펼친 비정규화 테이블
+ */
+@Mapper
+public interface BoardAccessMapper {
+
+    /**
+     * 사용자가 접근 가능한 활성 보드 ID 목록 조회
+     *
+     * @param userId 사용자 ID
+     * @return 보드 ID 목록
+     */
+    List<Long> findActiveBoardIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 보드의 접근 정보 삭제
+     *
+     * @param boardId 보드 ID
+     * @return 영향받은 행 수
+     */
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 보드의 접근 정보 생성 (소유자 + 공유 사용자)
+     *
+     * @param boardId 보드 ID
+     * @return 영향받은 행 수
+     */
+    int insertByBoardId(@Param("boardId") Long boardId);
+}
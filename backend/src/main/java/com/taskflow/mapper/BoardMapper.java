@@ -120,20 +120,15 @@ public interface BoardMapper {
     // =============================================
 
     /**
-     * 소유한 보드 목록 조회 (정렬 순서 포함)
+     * 사이드바 보드 목록 조회 (소유 + 공유, 한 번의 쿼리)
      *
-     * @param userId 사용자 ID
-     * @return 보드 목록
-     */
-    List<Board> findOwnedBoards(@Param("userId") Long userId);
-
-    /**
-     * 공유받은 보드 목록 조회 (권한 정보 포함)
+     * 소유 보드(정렬 순서) → 공유 보드(보드명) 순으로 정렬되며,
+     * 조회 사용자 권한(userPermission)과 미완료 업무 수(pendingItemCount)를 함께 반환
      *
      * @param userId 사용자 ID
-     * @return 보드 목록 (Map 형태)
+     * @return 보드 목록
      */
-    List<java.util.Map<String, Object>> findSharedBoards(@Param("userId") Long userId);
+    List<Board> findBoardListByUserId(@Param("userId") Long userId);
 
     /**
      * 미완료 업무 수 조회
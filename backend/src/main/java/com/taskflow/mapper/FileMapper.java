@@ -41,8 +41,10 @@ public interface FileMapper {
 
     /**
      * 사용 여부 업데이트 (논리 삭제)
+     *
+     * @return 영향받은 행 수 (이미 같은 값이면 0)
      */
-    void updateUseYn(
+    int updateUseYn(
             @Param("fileId") Long fileId,
             @Param("useYn") String useYn,
             @Param("updatedBy") Long updatedBy
@@ -3,9 +3,11 @@ package com.taskflow.mapper;
 import com.taskflow.domain.Item;
 import com.taskflow.dto.item.CrossBoardSearchRequest;
 import com.taskflow.dto.item.ItemSearchRequest;
+import com.taskflow.dto.item.ItemStatsBucket;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -167,6 +169,26 @@ public interface ItemMapper {
      */
     int deleteByBoardId(@Param("boardId") Long boardId);
 
+    /**
+     * 댓글 수 증감 (COMMENT_COUNT)
+     *
+     * @param itemId 아이템 ID
+     * @param delta  증감 값 (등록 1, 삭제 -1)
+     * @return 영향받은 행 수
+     */
+    int addCommentCount(@Param("itemId") Long itemId,
+                        @Param("delta") int delta);
+
+    /**
+     * 첨부 파일 수 증감 (FILE_COUNT)
+     *
+     * @param itemId 아이템 ID
+     * @param delta  증감 값 (등록 1, 삭제 -1)
+     * @return 영향받은 행 수
+     */
+    int addFileCount(@Param("itemId") Long itemId,
+                     @Param("delta") int delta);
+
     // =============================================
     // Cross-board 조회
     // =============================================
@@ -211,6 +233,14 @@ public interface ItemMapper {
     long countPendingItems(@Param("userId") Long userId,
                             @Param("request") CrossBoardSearchRequest request);
 
+    /**
+     * 보드별 활성 업무 집계 (업무 통계 카운터 적재용)
+     *
+     * @param boardIds 보드 ID 목록
+     * @return (보드, 상태, 우선순위, 종료 시간) 별 업무 수
+     */
+    List<ItemStatsBucket> aggregateActiveItemStats(@Param("boardIds") Collection<Long> boardIds);
+
     /**
      * 사용자가 접근 가능한 보드의 활성 아이템 목록 조회 (Cross-board)
      *
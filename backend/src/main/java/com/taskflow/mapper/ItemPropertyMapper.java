@@ -91,12 +91,14 @@ public interface ItemPropertyMapper {
     int update(ItemProperty itemProperty);
 
     /**
-     * 아이템 속성값 저장 (UPSERT)
+     * 아이템 속성값 일괄 저장 (다중 행 UPSERT)
      *
-     * @param itemProperty 속성값 엔티티
+     * @param itemProperties 속성값 엔티티 목록 (비어 있으면 안 됨)
+     * @param updatedBy      수정자 ID (기존 값이 있는 행에 적용)
      * @return 영향받은 행 수
      */
-    int upsert(ItemProperty itemProperty);
+    int upsertBatch(@Param("itemProperties") List<ItemProperty> itemProperties,
+                    @Param("updatedBy") Long updatedBy);
 
     /**
      * 아이템 속성값 삭제
@@ -124,27 +126,37 @@ public interface ItemPropertyMapper {
     int deleteByItemIdAndPropertyId(@Param("itemId") Long itemId,
                                      @Param("propertyId") Long propertyId);
 
+    /**
+     * 아이템의 여러 속성값 삭제
+     *
+     * @param itemId      아이템 ID
+     * @param propertyIds 속성 정의 ID 목록 (비어 있으면 안 됨)
+     * @return 영향받은 행 수
+     */
+    int deleteByItemIdAndPropertyIds(@Param("itemId") Long itemId,
+                                      @Param("propertyIds") List<Long> propertyIds);
+
     // =============================================
     // 다중선택 속성값 (MULTI_SELECT)
     // =============================================
 
     /**
-     * 다중선택 속성값 등록
+     * 다중선택 속성값 일괄 등록 (다중 행 INSERT)
      *
-     * @param multi 다중선택 속성값 엔티티
+     * @param multiValues 다중선택 속성값 엔티티 목록 (비어 있으면 안 됨)
      * @return 영향받은 행 수
      */
-    int insertMulti(ItemPropertyMulti multi);
+    int insertMultiBatch(@Param("multiValues") List<ItemPropertyMulti> multiValues);
 
     /**
-     * 아이템의 다중선택 속성값 삭제
+     * 아이템의 여러 다중선택 속성값 삭제
      *
-     * @param itemId     아이템 ID
-     * @param propertyId 속성 정의 ID
+     * @param itemId      아이템 ID
+     * @param propertyIds 속성 정의 ID 목록 (비어 있으면 안 됨)
      * @return 영향받은 행 수
      */
-    int deleteMultiByItemIdAndPropertyId(@Param("itemId") Long itemId,
-                                          @Param("propertyId") Long propertyId);
+    int deleteMultiByItemIdAndPropertyIds(@Param("itemId") Long itemId,
+                                           @Param("propertyIds") List<Long> propertyIds);
 
     /**
      * 아이템의 모든 다중선택 속성값 삭제
@@ -0,0 +1,54 @@
+package com.taskflow.mapper;
+
+import com.taskflow.domain.SseOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * SSE 이벤트 outbox Mapper
+ */
+@Mapper
+public interface SseOutboxMapper {
+
+    // =============================================
+    // 조회
+    // =============================================
+
+    /**
+     * 지정 ID 이후의 이벤트 조회 (ID 오름차순)
+     *
+     * @param afterId 마지막으로 처리한 outbox ID
+     * @param limit   최대 조회 건수
+     * @return 이벤트 목록
+     */
+    List<SseOutbox> findAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 최대 outbox ID 조회
+     *
+     * @return 최대 ID (없으면 0)
+     */
+    long findMaxId();
+
+    // =============================================
+    // 등록/삭제
+    // =============================================
+
+    /**
+     * 이벤트 등록
+     *
+     * @param outbox 이벤트
+     */
+    void insert(SseOutbox outbox);
+
+    /**
+     * 보관 기간이 지난 이벤트 삭제
+     *
+     * @param retentionMinutes 보관 기간 (분)
+     * @param limit            최대 삭제 건수
+     * @return 삭제 건수
+     */
+    int deleteOlderThan(@Param("retentionMinutes") int retentionMinutes, @Param("limit") int limit);
+}
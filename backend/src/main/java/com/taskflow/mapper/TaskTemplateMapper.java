@@ -39,15 +39,6 @@ public interface TaskTemplateMapper {
      */
     List<TaskTemplate> findAllActive();
 
-    /**
-     * 키워드로 템플릿 검색 (자동완성용)
-     *
-     * @param keyword 검색 키워드
-     * @param limit   최대 결과 수
-     * @return 검색된 템플릿 목록
-     */
-    List<TaskTemplate> searchByKeyword(@Param("keyword") String keyword, @Param("limit") int limit);
-
     /**
      * 작업 내용으로 조회 (중복 체크)
      *
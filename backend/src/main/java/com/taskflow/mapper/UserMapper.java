@@ -5,6 +5,7 @@ import com.taskflow.dto.user.UserSearchRequest;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,11 @@ public interface UserMapper {
      */
     Optional<User> findById(@Param("userId") Long userId);
 
+    /**
+     * 사용자 ID 목록으로 일괄 조회
+     */
+    List<User> findByIds(@Param("userIds") Collection<Long> userIds);
+
     /**
      * 로그인 아이디로 조회
      */
@@ -43,6 +49,11 @@ public interface UserMapper {
      */
     List<User> findByDepartmentId(@Param("departmentId") Long departmentId);
 
+    /**
+     * 활성 사용자 디렉터리 조회 (검색용 요약 컬럼, 이름순)
+     */
+    List<User> findDirectoryUsers();
+
     /**
      * 아이디 중복 확인
      */
@@ -18,7 +18,7 @@ import java.io.IOException;
  * JWT 인증 필터
  *
  * 모든 요청에서 JWT 토큰을 확인하고 인증 처리
- * Authorization: Bearer {token} 헤더에서 토큰 추출
+ * Authorization: Bearer {token} 헤더에서 토큰 추출 (SSE 연결은 ?token= 쿼리 파라미터 허용)
  */
 @Slf4j
 @Component
@@ -27,6 +27,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String SSE_SUBSCRIBE_PATH = "/api/sse/subscribe";
+    private static final String TOKEN_PARAMETER = "token";
 
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -40,11 +42,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 토큰 추출
         String token = resolveToken(request);
 
-        // 토큰 검증 및 인증 처리
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        // 토큰 검증 (요청당 1회 파싱) 및 인증 처리
+        VerifiedToken verified = StringUtils.hasText(token) ? jwtTokenProvider.verify(token) : null;
+        if (verified != null) {
             // Access Token 타입 검증
-            if (jwtTokenProvider.validateAccessToken(token)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            if (verified.isAccessToken()) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(verified, token);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("Set Authentication to security context for '{}', uri: {}",
                         authentication.getName(), request.getRequestURI());
@@ -60,12 +63,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * Request Header에서 토큰 추출
+     *
+     * EventSource 는 헤더를 지정할 수 없으므로 SSE 연결 요청에 한해 token 쿼리 파라미터도 허용
      */
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
             return bearerToken.substring(BEARER_PREFIX.length());
         }
+        if (SSE_SUBSCRIBE_PATH.equals(request.getServletPath())) {
+            return request.getParameter(TOKEN_PARAMETER);
+        }
         return null;
     }
 
@@ -1,5 +1,6 @@
 package com.taskflow.security;
 
+import com.taskflow.common.ExpiringLruCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -10,7 +11,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 
 /**
  * JWT 토큰 생성 및 검증
@@ -18,23 +23,39 @@ import java.util.Date;
  * 토큰 정책:
  * - Access Token: 유효기간 30분, localStorage 저장
  * - Refresh Token: 유효기간 7일, httpOnly Cookie 저장
+ *
+ * 검증 캐시:
+ * - 검증에 성공한 토큰을 토큰 해시(SHA-256) 기준으로 만료 시각까지 보관
+ * - SSE 재연결, 폴링 등 같은 토큰으로 반복 요청 시 서명 검증/클레임 파싱 생략
+ * - 최대 jwt.verified-cache-size 개, 넘치면 가장 오래 사용되지 않은 토큰부터 제거 (0 이면 사용 안 함)
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
+    private final int verifiedCacheSize;
+
+    // 토큰 해시 -> 검증된 토큰 정보
+    private final ExpiringLruCache<String, VerifiedToken> verifiedCache;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.verifiedCacheSize = verifiedCacheSize;
+        this.verifiedCache = new ExpiringLruCache<>(verifiedCacheSize);
     }
 
     /**
@@ -69,52 +90,67 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 Authentication 객체 생성
+     * 토큰 검증 (요청당 1회)
+     *
+     * 서명과 만료를 검증하고 클레임을 한 번만 읽어 반환합니다.
+     * 최근 검증한 토큰은 캐시에서 바로 반환합니다.
+     *
+     * @return 검증된 토큰 정보, 유효하지 않으면 null
      */
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-        String username = claims.getSubject();
-        Long userId = claims.get("userId", Long.class);
+    public VerifiedToken verify(String token) {
+        if (verifiedCacheSize <= 0) {
+            return parseVerified(token);
+        }
+
+        long now = System.currentTimeMillis();
+        String key = cacheKey(token);
+        VerifiedToken cached = verifiedCache.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
 
+        VerifiedToken verified = parseVerified(token);
+        if (verified != null) {
+            verifiedCache.put(key, verified, verified.expiresAt());
+        }
+        return verified;
+    }
+
+    /**
+     * 검증된 토큰에서 Authentication 객체 생성
+     */
+    public Authentication getAuthentication(VerifiedToken verified, String token) {
         // UserPrincipal 생성 (JWT에서 추출 가능한 정보만 사용)
         UserPrincipal userPrincipal = new UserPrincipal(
-                userId,
-                username,
+                verified.userId(),
+                verified.username(),
                 "",           // password는 인증에 필요없음
-                username,     // name은 username으로 대체
+                verified.username(),  // name은 username으로 대체
                 null,         // departmentId
                 true          // enabled
         );
 
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(userPrincipal, token, userPrincipal.getAuthorities());
-
-        return authentication;
+        return new UsernamePasswordAuthenticationToken(userPrincipal, token, userPrincipal.getAuthorities());
     }
 
     /**
-     * 토큰에서 사용자 ID 추출
-     */
-    public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("userId", Long.class);
-    }
-
-    /**
-     * 토큰에서 사용자명 추출
+     * 토큰 Claims 파싱
      */
-    public String getUsername(String token) {
-        Claims claims = parseClaims(token);
-        return claims.getSubject();
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * 토큰 유효성 검증
+     * 토큰 파싱 후 검증 결과 변환 (실패 시 사유를 로그로 남기고 null)
      */
-    public boolean validateToken(String token) {
+    private VerifiedToken parseVerified(String token) {
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            return new VerifiedToken(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("type", String.class),
+                    claims.getExpiration().getTime());
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -123,75 +159,29 @@ public class JwtTokenProvider {
             log.warn("Unsupported JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.warn("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
         }
-        return false;
-    }
-
-    /**
-     * Access Token 검증 (타입 체크 포함)
-     */
-    public boolean validateAccessToken(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            String tokenType = claims.get("type", String.class);
-            return "ACCESS".equals(tokenType);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * Refresh Token 검증 (타입 체크 포함)
-     */
-    public boolean validateRefreshToken(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            String tokenType = claims.get("type", String.class);
-            return "REFRESH".equals(tokenType);
-        } catch (Exception e) {
-            return false;
-        }
+        return null;
     }
 
     /**
-     * 토큰 만료 여부 확인
+     * 캐시 키 (토큰 원문 대신 SHA-256 해시 보관)
      */
-    public boolean isTokenExpired(String token) {
+    private static String cacheKey(String token) {
         try {
-            Claims claims = parseClaims(token);
-            return claims.getExpiration().before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
-        } catch (Exception e) {
-            return true;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
     /**
-     * 토큰 만료 시간 조회
+     * 검증 캐시 크기
      */
-    public Date getExpiration(String token) {
-        Claims claims = parseClaims(token);
-        return claims.getExpiration();
-    }
-
-    /**
-     * 토큰 남은 유효 시간 (밀리초)
-     */
-    public long getRemaining(String token) {
-        Date expiration = getExpiration(token);
-        return expiration.getTime() - System.currentTimeMillis();
-    }
-
-    /**
-     * 토큰 Claims 파싱
-     */
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public int getVerifiedCacheCount() {
+        return verifiedCache.size();
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.taskflow.security;
+
+/**
+ * 서명·만료 검증이 끝난 JWT 정보
+ *
+ * 요청마다 토큰을 한 번만 파싱하고, 이후 인증 처리에는 이 객체를 사용합니다.
+ *
+ * @param userId    사용자 ID
+ * @param username  사용자명 (subject)
+ * @param type      토큰 타입 (ACCESS, REFRESH)
+ * @param expiresAt 만료 시각 (epoch millis)
+ */
+public record VerifiedToken(Long userId, String username, String type, long expiresAt) {
+
+    public boolean isAccessToken() {
+        return "ACCESS".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(type);
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
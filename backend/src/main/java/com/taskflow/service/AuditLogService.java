@@ -25,6 +25,7 @@ public class AuditLogService {
 
     private final AuditLogMapper auditLogMapper;
     private final ObjectMapper objectMapper;
+    private final PageCountCacheService pageCountCacheService;
 
     /**
      * 로그 기록
@@ -133,13 +134,16 @@ public class AuditLogService {
     @Transactional(readOnly = true)
     public AuditLogPageResponse search(AuditLogSearchRequest request) {
         List<AuditLog> logs = auditLogMapper.selectBySearchRequest(request);
-        long totalCount = auditLogMapper.countBySearchRequest(request);
+        boolean hasNext = PageCountCacheService.trimProbeRow(logs, request.getSize());
+        long totalCount = pageCountCacheService.resolveTotal(request.getCountMode(),
+                "audit-logs|" + request.countKey(), request.getOffset(), logs.size(), hasNext,
+                () -> auditLogMapper.countBySearchRequest(request));
 
         List<AuditLogResponse> content = logs.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
 
-        int totalPages = (int) Math.ceil((double) totalCount / request.getSize());
+        int totalPages = totalCount >= 0 ? (int) Math.ceil((double) totalCount / request.getSize()) : -1;
 
         return AuditLogPageResponse.builder()
                 .content(content)
@@ -147,6 +151,7 @@ public class AuditLogService {
                 .totalPages(totalPages)
                 .number(request.getPage())
                 .size(request.getSize())
+                .hasNext(request.getCountMode().isProbeNext() ? hasNext : null)
                 .build();
     }
 
@@ -0,0 +1,42 @@
+package com.taskflow.service;
+
+import com.taskflow.mapper.BoardAccessMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자별 보드 접근(TB_BOARD_ACCESS) 서비스
+ *
+ * 보드 소유자/공유 정보가 바뀌는 경로(보드 생성, 공유 추가/해제/권한 변경, 소유권 이전, 삭제)에서
+ * 같은 트랜잭션 안에 보드 단위로 접근 정보를 재구성
+ * - Cross-board 업무 조회/통계는 이 테이블과 조인하여 접근 가능 보드를 판별
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardAccessService {
+
+    private final BoardAccessMapper boardAccessMapper;
+
+    /**
+     * 보드의 접근 정보 재구성 (현재 소유자 + 공유 사용자)
+     * 보드가 이미 삭제된 경우 접근 정보만 제거됨
+     */
+    @Transactional
+    public void refresh(Long boardId) {
+        int removed = boardAccessMapper.deleteByBoardId(boardId);
+        int inserted = boardAccessMapper.insertByBoardId(boardId);
+        log.debug("Board access refreshed: boardId={}, removed={}, inserted={}", boardId, removed, inserted);
+    }
+
+    /**
+     * 사용자가 접근 가능한 활성 보드 ID 목록
+     */
+    public List<Long> getActiveBoardIds(Long userId) {
+        return boardAccessMapper.findActiveBoardIdsByUserId(userId);
+    }
+}
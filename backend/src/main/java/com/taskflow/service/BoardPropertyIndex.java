@@ -0,0 +1,114 @@
+package com.taskflow.service;
+
+import com.taskflow.domain.PropertyDef;
+import com.taskflow.domain.PropertyOption;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보드 속성 정의 조회 구조 (속성 캐시 항목)
+ *
+ * 보드의 활성 속성 정의 목록과 함께
+ * 속성 ID → 속성 정의, 옵션 ID → 옵션 조회용 맵을 보관합니다.
+ * 생성 시 전달받은 객체를 복사해 보관하고, 조회 시에도 복사본을 반환하므로
+ * (PropertyDef/PropertyOption 은 수정 가능한 객체) 여러 요청이 공유해도 변경되지 않습니다.
+ */
+public final class BoardPropertyIndex {
+
+    private final List<PropertyDef> properties;
+    private final Map<Long, PropertyDef> propertiesById;
+    private final Map<Long, PropertyOption> optionsById;
+
+    public BoardPropertyIndex(List<PropertyDef> source) {
+        List<PropertyDef> properties = source.stream().map(BoardPropertyIndex::copyOf).toList();
+        Map<Long, PropertyDef> byId = new HashMap<>();
+        Map<Long, PropertyOption> options = new HashMap<>();
+        for (PropertyDef property : properties) {
+            byId.put(property.getPropertyId(), property);
+            for (PropertyOption option : property.getOptions()) {
+                options.put(option.getOptionId(), option);
+            }
+        }
+        this.properties = properties;
+        this.propertiesById = Map.copyOf(byId);
+        this.optionsById = Map.copyOf(options);
+    }
+
+    /**
+     * 속성 정의 목록 (정렬 순서, 목록은 수정 불가, 항목은 복사본)
+     */
+    public List<PropertyDef> getProperties() {
+        return properties.stream().map(BoardPropertyIndex::copyOf).toList();
+    }
+
+    /**
+     * 속성 정의 조회
+     *
+     * @return 속성 정의 복사본, 보드의 활성 속성이 아니면 null
+     */
+    public PropertyDef getProperty(Long propertyId) {
+        PropertyDef property = propertiesById.get(propertyId);
+        return property != null ? copyOf(property) : null;
+    }
+
+    /**
+     * 옵션 조회
+     *
+     * @return 옵션 복사본, 보드의 사용 중인 옵션이 아니면 null
+     */
+    public PropertyOption getOption(Long optionId) {
+        PropertyOption option = optionsById.get(optionId);
+        return option != null ? copyOf(option) : null;
+    }
+
+    /**
+     * 속성에 속한 사용 중인 옵션인지 확인
+     */
+    public boolean isValidOption(Long propertyId, Long optionId) {
+        PropertyOption option = optionsById.get(optionId);
+        return option != null && propertyId.equals(option.getPropertyId());
+    }
+
+    private static PropertyDef copyOf(PropertyDef source) {
+        List<PropertyOption> options = new ArrayList<>();
+        if (source.getOptions() != null) {
+            source.getOptions().forEach(option -> options.add(copyOf(option)));
+        }
+        return PropertyDef.builder()
+                .propertyId(source.getPropertyId())
+                .boardId(source.getBoardId())
+                .propertyName(source.getPropertyName())
+                .propertyType(source.getPropertyType())
+                .requiredYn(source.getRequiredYn())
+                .sortOrder(source.getSortOrder())
+                .visibleYn(source.getVisibleYn())
+                .createdAt(source.getCreatedAt())
+                .createdBy(source.getCreatedBy())
+                .updatedAt(source.getUpdatedAt())
+                .updatedBy(source.getUpdatedBy())
+                .options(options)
+                .build();
+    }
+
+    private static PropertyOption copyOf(PropertyOption source) {
+        return PropertyOption.builder()
+                .optionId(source.getOptionId())
+                .propertyId(source.getPropertyId())
+                .optionName(source.getOptionName())
+                .color(source.getColor())
+                .sortOrder(source.getSortOrder())
+                .useYn(source.getUseYn())
+                .createdAt(source.getCreatedAt())
+                .createdBy(source.getCreatedBy())
+                .updatedAt(source.getUpdatedAt())
+                .updatedBy(source.getUpdatedBy())
+                .propertyName(source.getPropertyName())
+                .propertyType(source.getPropertyType())
+                .boardId(source.getBoardId())
+                .usageCount(source.getUsageCount())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskflow.service;
+
+import com.taskflow.domain.Group;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자/그룹 디렉터리 캐시 서비스 인터페이스
+ *
+ * 화면 표시용 사용자 요약 정보와 활성 그룹 목록을 캐싱
+ * - 여러 사용자를 한 번의 쿼리로 조회 (캐시 미스분만 일괄 조회)
+ * - 활성 사용자 전체를 이름/아이디/부서명 검색 구조로 보관 (담당자/공유 대상 선택 자동완성)
+ * - 사용자/부서/그룹 변경 시 캐시 무효화
+ */
+public interface DirectoryCacheService {
+
+    /**
+     * 사용자 요약 정보
+     */
+    record UserSummary(Long userId, String username, String name, Long departmentId, String departmentName) {
+    }
+
+    /**
+     * 사용자 요약 정보 일괄 조회 (캐시 적용)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → 요약 정보 (존재하지 않는 사용자는 제외)
+     */
+    Map<Long, UserSummary> getUserSummaries(Collection<Long> userIds);
+
+    /**
+     * 활성 사용자 검색 (캐시 적용)
+     *
+     * 이름 → 아이디 → 부서명 순으로 시작 일치, 단어 시작 일치, 부분 일치 순위로 반환 (초성 검색 가능)
+     *
+     * @param keyword      검색 키워드 (음절, 초성 혼용 가능)
+     * @param departmentId 부서 ID 필터 (null 이면 전체)
+     * @param limit        최대 결과 수
+     * @return 검색된 사용자 목록 (순위 순)
+     */
+    List<UserSummary> searchUsers(String keyword, Long departmentId, int limit);
+
+    /**
+     * 활성 그룹 목록 조회 (캐시 적용)
+     *
+     * @return 활성 그룹 목록 (수정 불가)
+     */
+    List<Group> getActiveGroups();
+
+    /**
+     * 사용자 캐시 무효화 (사용자 등록/수정/삭제)
+     */
+    void evictUser(Long userId);
+
+    /**
+     * 전체 사용자 캐시 무효화 (부서명 변경 등)
+     */
+    void evictAllUsers();
+
+    /**
+     * 그룹 목록 캐시 무효화 (그룹/멤버 변경)
+     */
+    void evictGroups();
+}
@@ -5,6 +5,7 @@ import com.taskflow.dto.file.FileInfoResponse;
 import com.taskflow.dto.file.FileUploadResponse;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.FileMapper;
+import com.taskflow.mapper.ItemMapper;
 import com.taskflow.storage.FileStorageProperties;
 import com.taskflow.storage.FileStorageService;
 import lombok.RequiredArgsConstructor;
@@ -30,9 +31,15 @@ import java.util.Set;
 public class FileService {
 
     private final FileMapper fileMapper;
+    private final ItemMapper itemMapper;
     private final FileStorageService fileStorageService;
     private final FileStorageProperties storageProperties;
 
+    /**
+     * 아이템 첨부 파일 연관 타입 (TB_ITEM.FILE_COUNT 집계 대상)
+     */
+    private static final String RELATED_TYPE_ITEM = "ITEM";
+
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM");
 
     /**
@@ -88,6 +95,7 @@ public class FileService {
         fileEntity.setCreatedBy(userId);
 
         fileMapper.insert(fileEntity);
+        addItemFileCount(relatedType, relatedId, 1);
 
         log.info("File uploaded: id={}, name={}, size={}, user={}",
                 fileEntity.getFileId(), originalName, formatFileSize(fileSize), userId);
@@ -159,8 +167,10 @@ public class FileService {
             throw new BusinessException("파일 삭제 권한이 없습니다.");
         }
 
-        // 논리 삭제
-        fileMapper.updateUseYn(fileId, "N", userId);
+        // 논리 삭제 (이미 삭제된 파일이면 첨부 파일 수를 다시 줄이지 않음)
+        if (fileMapper.updateUseYn(fileId, "N", userId) > 0) {
+            addItemFileCount(file.getRelatedType(), file.getRelatedId(), -1);
+        }
 
         // 물리 파일 삭제
         boolean deleted = fileStorageService.delete(file.getStoragePath());
@@ -187,7 +197,16 @@ public class FileService {
      */
     @Transactional
     public void updateRelated(Long fileId, String relatedType, Long relatedId, Long userId) {
+        FileEntity file = fileMapper.findById(fileId)
+                .orElseThrow(() -> new BusinessException("파일을 찾을 수 없습니다."));
+
         fileMapper.updateRelated(fileId, relatedType, relatedId, userId);
+
+        // 사용 중인 파일만 이전/새 아이템의 첨부 파일 수에 반영
+        if ("Y".equals(file.getUseYn())) {
+            addItemFileCount(file.getRelatedType(), file.getRelatedId(), -1);
+            addItemFileCount(relatedType, relatedId, 1);
+        }
     }
 
     /**
@@ -201,6 +220,15 @@ public class FileService {
         return file.getMimeType() != null && IMAGE_MIME_TYPES.contains(file.getMimeType());
     }
 
+    /**
+     * 아이템 첨부 파일 수 증감 (아이템 연관 파일만)
+     */
+    private void addItemFileCount(String relatedType, Long relatedId, int delta) {
+        if (relatedId != null && RELATED_TYPE_ITEM.equalsIgnoreCase(relatedType)) {
+            itemMapper.addFileCount(relatedId, delta);
+        }
+    }
+
     /**
      * 파일 유효성 검사
      */
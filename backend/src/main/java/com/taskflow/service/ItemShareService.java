@@ -32,6 +32,9 @@ public class ItemShareService {
     private final ItemMapper itemMapper;
     private final BoardMapper boardMapper;
     private final AuditLogService auditLogService;
+    private final PermissionCacheService permissionCacheService;
+    private final BoardAccessService boardAccessService;
+    private final ItemStatsCacheService itemStatsCacheService;
 
     /**
      * 업무 공유 목록 조회
@@ -70,6 +73,7 @@ public class ItemShareService {
                 .build();
 
         itemShareMapper.insert(itemShare);
+        permissionCacheService.evictItemUser(itemId, request.getUserId());
 
         // 감사 로그 기록
         auditLogService.logItemShared(itemId, currentUserId, request.getUserId(), request.getPermission());
@@ -90,6 +94,7 @@ public class ItemShareService {
 
         String oldPermission = existing.getPermission();
         itemShareMapper.updatePermission(itemId, userId, permission, currentUserId);
+        permissionCacheService.evictItemUser(itemId, userId);
 
         // 감사 로그 기록
         auditLogService.log(
@@ -113,6 +118,7 @@ public class ItemShareService {
         }
 
         itemShareMapper.delete(itemId, userId);
+        permissionCacheService.evictItemUser(itemId, userId);
 
         // 감사 로그 기록
         auditLogService.logItemUnshared(itemId, currentUserId, userId);
@@ -257,6 +263,10 @@ public class ItemShareService {
         if (updated == 0) {
             throw new BusinessException("업무 이관에 실패했습니다.");
         }
+        permissionCacheService.evictItem(itemId);
+        ItemStatsCacheService.ItemState itemState = ItemStatsCacheService.ItemState.of(item);
+        itemStatsCacheService.recordChange(originalBoardId, itemState, null);
+        itemStatsCacheService.recordChange(targetBoardId, null, itemState);
 
         // 감사 로그 기록
         auditLogService.log(
@@ -302,6 +312,7 @@ public class ItemShareService {
                             .build();
 
                     boardMapper.insert(newBoard);
+                    boardAccessService.refresh(newBoard.getBoardId());
 
                     log.info("Transfer board created: boardId={} for user {}",
                             newBoard.getBoardId(), targetUserId);
@@ -319,31 +330,8 @@ public class ItemShareService {
      */
     @Transactional(readOnly = true)
     public boolean canTransfer(Long itemId, Long userId) {
-        Item item = itemMapper.findById(itemId).orElse(null);
-        if (item == null) {
-            return false;
-        }
-
-        // 업무 생성자인 경우
-        if (userId.equals(item.getCreatedBy())) {
-            return true;
-        }
-
-        // 보드 소유자인 경우
-        Board board = boardMapper.findById(item.getBoardId()).orElse(null);
-        if (board != null && userId.equals(board.getOwnerId())) {
-            return true;
-        }
-
-        // 보드에서 FULL 권한을 가진 경우
-        String boardPermission = boardMapper.getUserPermission(item.getBoardId(), userId);
-        if ("FULL".equals(boardPermission)) {
-            return true;
-        }
-
-        // 업무 공유에서 FULL 권한을 가진 경우
-        String itemPermission = getPermission(itemId, userId);
-        return ItemShare.PERMISSION_FULL.equals(itemPermission);
+        String permission = getItemPermission(itemId, userId);
+        return "OWNER".equals(permission) || ItemShare.PERMISSION_FULL.equals(permission);
     }
 
     /**
@@ -366,31 +354,19 @@ public class ItemShareService {
      */
     @Transactional(readOnly = true)
     public boolean hasItemAccess(Long itemId, Long userId) {
-        Item item = itemMapper.findById(itemId).orElse(null);
-        if (item == null) {
-            return false;
-        }
-
-        // 업무 생성자인 경우
-        if (userId.equals(item.getCreatedBy())) {
-            return true;
-        }
-
-        // 보드 접근 권한이 있는 경우
-        if (boardMapper.hasAccess(item.getBoardId(), userId)) {
-            return true;
-        }
-
-        // 업무 공유받은 경우
-        return itemShareMapper.existsByItemIdAndUserId(itemId, userId);
+        return getItemPermission(itemId, userId) != null;
     }
 
     /**
-     * 업무 권한 조회 (보드 수준 권한 포함)
+     * 업무 권한 조회 (보드 수준 권한 포함, 권한 캐시 적용)
      * 권한 우선순위: OWNER > FULL > EDIT > VIEW
      */
     @Transactional(readOnly = true)
     public String getItemPermission(Long itemId, Long userId) {
+        return permissionCacheService.getItemPermission(itemId, userId, () -> loadItemPermission(itemId, userId));
+    }
+
+    private PermissionCacheService.ItemPermission loadItemPermission(Long itemId, Long userId) {
         Item item = itemMapper.findById(itemId).orElse(null);
         if (item == null) {
             return null;
@@ -398,20 +374,21 @@ public class ItemShareService {
 
         // 업무 생성자인 경우 OWNER 권한
         if (userId.equals(item.getCreatedBy())) {
-            return "OWNER";
+            return new PermissionCacheService.ItemPermission(item.getBoardId(), "OWNER");
         }
 
-        // 보드 권한 확인
-        Board board = boardMapper.findById(item.getBoardId()).orElse(null);
-        if (board != null && userId.equals(board.getOwnerId())) {
-            return "OWNER";
+        // 보드 권한 확인 (보드 소유자면 OWNER)
+        String boardPermission = permissionCacheService.getBoardPermission(item.getBoardId(), userId,
+                () -> boardMapper.getUserPermission(item.getBoardId(), userId));
+        if ("OWNER".equals(boardPermission)) {
+            return new PermissionCacheService.ItemPermission(item.getBoardId(), "OWNER");
         }
 
-        String boardPermission = boardMapper.getUserPermission(item.getBoardId(), userId);
         String itemPermission = getPermission(itemId, userId);
 
         // 더 높은 권한 반환
-        return getHigherPermission(boardPermission, itemPermission);
+        return new PermissionCacheService.ItemPermission(item.getBoardId(),
+                getHigherPermission(boardPermission, itemPermission));
     }
 
     /**
@@ -0,0 +1,69 @@
+package com.taskflow.service;
+
+import com.taskflow.domain.Item;
+import com.taskflow.dto.item.ItemResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 보드별 업무 통계 카운터 서비스 인터페이스
+ *
+ * 보드마다 상태/우선순위별 활성 업무 수와 종료 시간 버킷을 유지하고,
+ * 사용자 통계는 접근 가능한 보드의 카운터 합으로 계산 (Cross-board COUNT 쿼리 제거)
+ * - 업무 등록/수정/완료/삭제/복원/이관 시 커밋 후 변경 전/후 상태 차이만 반영
+ * - 지연 여부는 시간에 따라 바뀌므로 종료 시간 버킷을 조회 시점까지 지연 카운터로 이동
+ */
+public interface ItemStatsCacheService {
+
+    /**
+     * 통계 반영 대상 업무 상태
+     *
+     * @param status   상태
+     * @param priority 우선순위
+     * @param endTime  종료 시간 (지연 판단 기준)
+     */
+    record ItemState(String status, String priority, LocalDateTime endTime) {
+
+        public static ItemState of(Item item) {
+            return new ItemState(item.getStatus(), item.getPriority(), item.getEndTime());
+        }
+
+        public static ItemState of(ItemResponse item) {
+            return new ItemState(item.getStatus(), item.getPriority(), item.getEndTime());
+        }
+
+        /**
+         * 활성 업무 여부 (완료/삭제 제외)
+         */
+        public boolean isActive() {
+            return !Item.STATUS_COMPLETED.equals(status) && !Item.STATUS_DELETED.equals(status);
+        }
+    }
+
+    /**
+     * 업무 통계
+     */
+    record ItemStats(long overdueCount, long pendingCount, long activeCount,
+                     long urgentOverdueCount, long highOverdueCount) {
+    }
+
+    /**
+     * 보드 목록의 업무 통계 합계
+     * (카운터가 없는 보드는 한 번의 집계 쿼리로 적재)
+     */
+    ItemStats getStats(Collection<Long> boardIds);
+
+    /**
+     * 업무 변경 반영 (트랜잭션 커밋 후 적용)
+     *
+     * @param before 변경 전 상태 (등록이면 null)
+     * @param after  변경 후 상태 (물리 삭제/다른 보드로 이동이면 null)
+     */
+    void recordChange(Long boardId, ItemState before, ItemState after);
+
+    /**
+     * 보드 카운터 무효화 (변경 전/후 상태를 알 수 없는 일괄 변경 시)
+     */
+    void evictBoard(Long boardId);
+}
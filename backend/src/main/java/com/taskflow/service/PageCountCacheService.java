@@ -0,0 +1,47 @@
+package com.taskflow.service;
+
+import com.taskflow.common.CountMode;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이징 목록 총 개수 서비스
+ *
+ * count 파라미터(exact/estimate/none)에 따라 목록의 COUNT 쿼리 실행 여부를 결정
+ * - 목록 조회는 EXACT 가 아니면 다음 페이지 확인용으로 1건을 더 조회 (trimProbeRow 로 제거)
+ * - ESTIMATE 는 목록 종류 + 필터 조건 키로 마지막 COUNT 결과를 재사용
+ */
+public interface PageCountCacheService {
+
+    /**
+     * 총 개수를 계산하지 않은 경우의 값
+     */
+    long UNKNOWN = -1;
+
+    /**
+     * 목록 총 개수 결정
+     *
+     * @param mode       계산 방식
+     * @param key        목록 종류 + 필터 조건 (페이지/정렬 제외)
+     * @param offset     현재 페이지 시작 위치 (커서 페이징 등 알 수 없으면 -1)
+     * @param rows       현재 페이지 항목 수 (다음 페이지 확인용 행 제외)
+     * @param hasNext    다음 페이지 존재 여부 (EXACT 는 사용하지 않음)
+     * @param exactCount COUNT 쿼리
+     * @return 총 개수 (NONE 이면 UNKNOWN)
+     */
+    long resolveTotal(CountMode mode, String key, long offset, int rows, boolean hasNext, LongSupplier exactCount);
+
+    /**
+     * 다음 페이지 확인용으로 더 조회한 1건 제거
+     *
+     * @return 다음 페이지 존재 여부
+     */
+    static boolean trimProbeRow(List<?> rows, int size) {
+        if (rows.size() <= size) {
+            return false;
+        }
+        rows.subList(size, rows.size()).clear();
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.board.PermissionCacheStatsResponse;
+
+import java.util.function.Supplier;
+
+/**
+ * 보드/업무 권한 캐시 서비스 인터페이스
+ *
+ * (boardId, userId), (itemId, userId) 별 권한을 캐싱하여 요청마다 반복되는 권한 조회 쿼리 제거
+ * - 공유 추가/변경/해제, 소유권 이전, 업무 이동 시 관련 항목만 무효화
+ * - 트랜잭션 안에서 무효화한 경우 커밋 후 한 번 더 무효화
+ */
+public interface PermissionCacheService {
+
+    /**
+     * 업무 권한 조회 결과
+     *
+     * @param boardId    업무가 속한 보드 ID (보드 권한 변경 시 무효화 대상 판별)
+     * @param permission 권한 (OWNER, FULL, EDIT, VIEW 등, 권한 없으면 null)
+     */
+    record ItemPermission(Long boardId, String permission) {
+    }
+
+    /**
+     * 보드 권한 조회 (캐시 적용)
+     *
+     * @param loader 캐시 미스 시 권한 조회 (권한 없으면 null)
+     * @return 권한 (OWNER, FULL, EDIT, VIEW 등, 권한 없으면 null)
+     */
+    String getBoardPermission(Long boardId, Long userId, Supplier<String> loader);
+
+    /**
+     * 업무 권한 조회 (캐시 적용)
+     *
+     * @param loader 캐시 미스 시 권한 조회 (업무가 없으면 null, 캐싱하지 않음)
+     * @return 권한 (OWNER, FULL, EDIT, VIEW 등, 권한 없으면 null)
+     */
+    String getItemPermission(Long itemId, Long userId, Supplier<ItemPermission> loader);
+
+    /**
+     * 보드 사용자 권한 무효화 (공유 추가/변경/해제)
+     * 해당 보드에 속한 업무의 같은 사용자 권한도 함께 무효화
+     */
+    void evictBoardUser(Long boardId, Long userId);
+
+    /**
+     * 보드 전체 권한 무효화 (소유권 이전, 보드 삭제, 업무 일괄 이동)
+     * 해당 보드에 속한 업무의 권한도 함께 무효화
+     */
+    void evictBoard(Long boardId);
+
+    /**
+     * 업무 사용자 권한 무효화 (업무 공유 추가/변경/해제)
+     */
+    void evictItemUser(Long itemId, Long userId);
+
+    /**
+     * 업무 전체 권한 무효화 (업무 이동, 삭제)
+     */
+    void evictItem(Long itemId);
+
+    /**
+     * 캐시 통계 조회
+     */
+    PermissionCacheStatsResponse getStats();
+}
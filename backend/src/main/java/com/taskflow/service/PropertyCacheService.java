@@ -1,6 +1,7 @@
 package com.taskflow.service;
 
 import com.taskflow.domain.PropertyDef;
+import com.taskflow.dto.property.PropertyCacheStatsResponse;
 
 import java.util.List;
 
@@ -10,6 +11,7 @@ import java.util.List;
  * 보드별 속성 정의를 캐싱하여 성능 최적화
  * - 앱 초기화 시 속성 정의 로드
  * - 속성 변경 시 캐시 무효화
+ * - 최대 보드 수/TTL 제한, 적중·미스·제거 통계 제공
  */
 public interface PropertyCacheService {
 
@@ -17,10 +19,20 @@ public interface PropertyCacheService {
      * 보드별 속성 정의 목록 조회 (캐시 적용)
      *
      * @param boardId 보드 ID
-     * @return 속성 정의 목록 (옵션 포함)
+     * @return 속성 정의 목록 (옵션 포함, 호출마다 새 복사본이므로 수정해도 캐시에 영향 없음)
      */
     List<PropertyDef> getPropertiesByBoardId(Long boardId);
 
+    /**
+     * 보드별 속성 정의 조회 구조 (캐시 적용)
+     *
+     * 속성 ID → 속성 정의, 옵션 ID → 옵션 조회에 사용합니다.
+     *
+     * @param boardId 보드 ID
+     * @return 활성 속성 정의와 사용 중인 옵션의 조회 구조
+     */
+    BoardPropertyIndex getBoardProperties(Long boardId);
+
     /**
      * 보드의 속성 캐시 무효화
      *
@@ -39,4 +51,22 @@ public interface PropertyCacheService {
      * @param boardId 보드 ID
      */
     void refreshBoardCache(Long boardId);
+
+    /**
+     * 보드의 속성 캐시 갱신 (보드별 최소 간격 제한)
+     *
+     * 캐시에 없는 옵션 확인처럼 요청 값에 따라 반복될 수 있는 갱신에 사용합니다.
+     * 마지막 적재 후 property-cache.min-refresh-seconds 가 지나지 않았으면 DB 를 조회하지 않습니다.
+     *
+     * @param boardId 보드 ID
+     * @return 갱신된(또는 최근 적재된) 조회 구조
+     */
+    BoardPropertyIndex refreshBoardCacheIfStale(Long boardId);
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 크기, 적중/미스/제거 횟수
+     */
+    PropertyCacheStatsResponse getStats();
 }
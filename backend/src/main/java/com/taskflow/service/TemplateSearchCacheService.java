@@ -0,0 +1,30 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.template.TaskTemplateSearchResponse;
+
+import java.util.List;
+
+/**
+ * 작업 템플릿 자동완성 검색 캐시 서비스 인터페이스
+ *
+ * 활성 템플릿 전체를 메모리 검색 구조(TemplateSearchIndex)로 보관하여
+ * 자동완성 입력마다 DB 를 조회하지 않도록 함
+ * - 템플릿 등록/수정/삭제 시 무효화 후 다음 검색에서 재구성
+ * - 사용 횟수(순위)는 만료 후 재구성 시 반영
+ */
+public interface TemplateSearchCacheService {
+
+    /**
+     * 키워드로 활성 템플릿 검색 (캐시 적용)
+     *
+     * @param keyword 검색 키워드 (음절, 초성 혼용 가능)
+     * @param limit   최대 결과 수
+     * @return 검색된 템플릿 목록 (순위 순)
+     */
+    List<TaskTemplateSearchResponse> search(String keyword, int limit);
+
+    /**
+     * 검색 구조 무효화 (템플릿 변경)
+     */
+    void evict();
+}
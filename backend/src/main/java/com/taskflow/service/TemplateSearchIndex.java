@@ -0,0 +1,57 @@
+package com.taskflow.service;
+
+import com.taskflow.common.ChosungSearchIndex;
+import com.taskflow.domain.TaskTemplate;
+import com.taskflow.dto.template.TaskTemplateSearchResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 작업 템플릿 자동완성 검색 구조 (템플릿 검색 캐시 항목)
+ *
+ * 활성 템플릿의 작업 내용을 음절/초성 트라이로 색인합니다. (ChosungSearchIndex)
+ * - 순위: 내용 시작 일치 → 단어 시작 일치 → 부분 일치, 같은 순위는 사용 횟수 내림차순 → 내용 순
+ * 생성 후 변경되지 않습니다.
+ */
+public final class TemplateSearchIndex {
+
+    private final ChosungSearchIndex<TaskTemplateSearchResponse> index;
+
+    public TemplateSearchIndex(List<TaskTemplate> templates) {
+        List<TaskTemplateSearchResponse> sorted = new ArrayList<>();
+        for (TaskTemplate template : templates) {
+            if (template.getContent() != null && !template.getContent().isBlank()) {
+                sorted.add(TaskTemplateSearchResponse.from(template));
+            }
+        }
+        // 같은 위치에서 일치하면 색인 순서로 반환되므로 사용 횟수 → 내용 순으로 정렬 후 색인
+        sorted.sort(Comparator.comparingInt(TemplateSearchIndex::useCount).reversed()
+                .thenComparing(TaskTemplateSearchResponse::getContent));
+
+        this.index = new ChosungSearchIndex<>(sorted, List.of(TaskTemplateSearchResponse::getContent));
+    }
+
+    /**
+     * 색인된 템플릿 수
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 키워드로 템플릿 검색
+     *
+     * @param keyword 검색 키워드 (음절, 초성 혼용 가능)
+     * @param limit   최대 결과 수
+     * @return 검색된 템플릿 목록 (순위 순)
+     */
+    public List<TaskTemplateSearchResponse> search(String keyword, int limit) {
+        return index.search(keyword, limit);
+    }
+
+    private static int useCount(TaskTemplateSearchResponse template) {
+        return template.getUseCount() == null ? 0 : template.getUseCount();
+    }
+}
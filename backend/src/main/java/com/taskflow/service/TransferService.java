@@ -7,6 +7,7 @@ import com.taskflow.dto.transfer.TransferResultResponse;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.BoardMapper;
 import com.taskflow.mapper.ItemMapper;
+import com.taskflow.sse.SseEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,10 @@ public class TransferService {
     private final BoardMapper boardMapper;
     private final ItemMapper itemMapper;
     private final AuditLogService auditLogService;
+    private final PermissionCacheService permissionCacheService;
+    private final BoardAccessService boardAccessService;
+    private final ItemStatsCacheService itemStatsCacheService;
+    private final SseEventPublisher sseEventPublisher;
 
     /**
      * 이관 대상 업무 미리보기
@@ -85,6 +90,12 @@ public class TransferService {
                 boardId,
                 currentUserId
         );
+        permissionCacheService.evictBoard(boardId);
+        itemStatsCacheService.evictBoard(boardId);
+        itemStatsCacheService.evictBoard(newBoard.getBoardId());
+
+        // 원본 보드 구독자에게 이관된 업무 제거 알림 (보드당 batch 이벤트 1건)
+        sseEventPublisher.publishItemsRemoved(boardId, itemIds, currentUserId);
 
         // 각 업무에 대한 이관 로그 기록
         for (Long itemId : itemIds) {
@@ -127,6 +138,7 @@ public class TransferService {
                 .build();
 
         boardMapper.insert(board);
+        boardAccessService.refresh(board.getBoardId());
 
         // 감사 로그 기록
         auditLogService.logBoardCreated(board.getBoardId(), createdBy, boardName);
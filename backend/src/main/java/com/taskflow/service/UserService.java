@@ -46,6 +46,16 @@ public interface UserService {
      */
     List<UserResponse> getUsersByDepartment(Long departmentId);
 
+    /**
+     * 활성 사용자 검색 (담당자/공유 대상 선택 자동완성, 메모리 검색)
+     *
+     * @param keyword      검색 키워드 (이름, 아이디, 부서명 / 초성 검색 가능)
+     * @param departmentId 부서 ID 필터 (선택)
+     * @param limit        최대 결과 수
+     * @return 사용자 목록 (순위 순)
+     */
+    List<UserResponse> searchUsers(String keyword, Long departmentId, int limit);
+
     // =============================================
     // 등록/수정/삭제
     // =============================================
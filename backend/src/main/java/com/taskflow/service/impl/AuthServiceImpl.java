@@ -9,6 +9,7 @@ import com.taskflow.dto.user.UserResponse;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.UserMapper;
 import com.taskflow.security.JwtTokenProvider;
+import com.taskflow.security.VerifiedToken;
 import com.taskflow.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -68,21 +69,22 @@ public class AuthServiceImpl implements AuthService {
     public TokenRefreshResponse refresh(String refreshToken) {
         log.debug("Token refresh attempt");
 
-        // Refresh Token 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // Refresh Token 검증 (1회 파싱)
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken);
+        if (verified == null) {
             log.warn("Token refresh failed: invalid refresh token");
             throw BusinessException.invalidToken("유효하지 않은 Refresh Token입니다");
         }
 
         // Refresh Token 타입 검증
-        if (!jwtTokenProvider.validateRefreshToken(refreshToken)) {
+        if (!verified.isRefreshToken()) {
             log.warn("Token refresh failed: not a refresh token");
             throw BusinessException.invalidToken("Refresh Token이 아닙니다");
         }
 
         // 토큰에서 사용자 정보 추출
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        String username = jwtTokenProvider.getUsername(refreshToken);
+        Long userId = verified.userId();
+        String username = verified.username();
 
         // 사용자 존재 및 활성 상태 확인
         User user = userMapper.findById(userId)
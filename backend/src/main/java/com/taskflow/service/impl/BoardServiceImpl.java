@@ -2,7 +2,6 @@ package com.taskflow.service.impl;
 
 import com.taskflow.domain.Board;
 import com.taskflow.domain.BoardShare;
-import com.taskflow.domain.Group;
 import com.taskflow.domain.User;
 import com.taskflow.dto.board.*;
 import com.taskflow.dto.group.GroupResponse;
@@ -14,13 +13,16 @@ import com.taskflow.exception.BusinessException;
 import com.taskflow.domain.PropertyDef;
 import com.taskflow.mapper.BoardMapper;
 import com.taskflow.mapper.BoardShareMapper;
-import com.taskflow.mapper.GroupMapper;
 import com.taskflow.mapper.PropertyDefMapper;
 import com.taskflow.mapper.PropertyOptionMapper;
 import com.taskflow.mapper.UserMapper;
 import com.taskflow.service.AuditLogService;
+import com.taskflow.service.BoardAccessService;
 import com.taskflow.service.BoardService;
+import com.taskflow.service.DirectoryCacheService;
+import com.taskflow.service.PermissionCacheService;
 import com.taskflow.service.TransferService;
+import com.taskflow.sse.SseEmitterManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
@@ -29,7 +31,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -43,11 +44,14 @@ public class BoardServiceImpl implements BoardService {
 
     private final BoardMapper boardMapper;
     private final BoardShareMapper boardShareMapper;
-    private final GroupMapper groupMapper;
     private final UserMapper userMapper;
     private final PropertyDefMapper propertyDefMapper;
     private final PropertyOptionMapper propertyOptionMapper;
     private final AuditLogService auditLogService;
+    private final PermissionCacheService permissionCacheService;
+    private final DirectoryCacheService directoryCacheService;
+    private final BoardAccessService boardAccessService;
+    private final SseEmitterManager sseEmitterManager;
     @Lazy
     private final TransferService transferService;
 
@@ -63,33 +67,11 @@ public class BoardServiceImpl implements BoardService {
         // 기본 정보
         BoardResponse response = BoardResponse.from(board);
 
-        // 사용 가능한 그룹 목록 (활성 그룹만)
-        List<Group> groups = groupMapper.findAll("Y");
-        List<GroupResponse> groupResponses = GroupResponse.fromList(groups);
+        // 사용 가능한 그룹 목록 (활성 그룹만, 캐시 적용)
+        List<GroupResponse> groupResponses = GroupResponse.fromList(directoryCacheService.getActiveGroups());
 
         // 담당자로 지정 가능한 사용자 목록 (소유자 + 공유 사용자)
-        List<BoardResponse.SharedUserInfo> sharedUsers = new ArrayList<>();
-
-        // 1. 소유자 추가
-        userMapper.findById(board.getOwnerId()).ifPresent(owner -> {
-            sharedUsers.add(BoardResponse.SharedUserInfo.builder()
-                    .userId(owner.getUserId())
-                    .userName(owner.getName())
-                    .departmentName(owner.getDepartmentName())
-                    .build());
-        });
-
-        // 2. 공유 사용자 추가
-        List<BoardShare> shares = boardShareMapper.findByBoardId(boardId);
-        for (BoardShare share : shares) {
-            userMapper.findById(share.getUserId()).ifPresent(user -> {
-                sharedUsers.add(BoardResponse.SharedUserInfo.builder()
-                        .userId(user.getUserId())
-                        .userName(user.getName())
-                        .departmentName(user.getDepartmentName())
-                        .build());
-            });
-        }
+        List<BoardResponse.SharedUserInfo> sharedUsers = getSharedUsers(board);
 
         // Builder로 새 객체 생성 (groups, sharedUsers 포함)
         return BoardResponse.builder()
@@ -111,6 +93,27 @@ public class BoardServiceImpl implements BoardService {
                 .build();
     }
 
+    /**
+     * 담당자로 지정 가능한 사용자 목록 (소유자 + 공유 사용자)
+     *
+     * 공유 사용자 수와 관계없이 공유 목록 1회 + 사용자 일괄 조회 1회 (캐시 적중 시 생략)
+     */
+    private List<BoardResponse.SharedUserInfo> getSharedUsers(Board board) {
+        List<Long> userIds = new ArrayList<>();
+        userIds.add(board.getOwnerId());
+        for (BoardShare share : boardShareMapper.findByBoardId(board.getBoardId())) {
+            userIds.add(share.getUserId());
+        }
+
+        return directoryCacheService.getUserSummaries(userIds).values().stream()
+                .map(user -> BoardResponse.SharedUserInfo.builder()
+                        .userId(user.userId())
+                        .userName(user.name())
+                        .departmentName(user.departmentName())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<BoardResponse> getAccessibleBoards(Long userId, String useYn) {
         List<Board> boards = boardMapper.findAccessibleByUserId(userId, useYn);
@@ -208,6 +211,7 @@ public class BoardServiceImpl implements BoardService {
 
         // 저장
         boardMapper.insert(board);
+        boardAccessService.refresh(board.getBoardId());
         log.info("Board created: id={}, name={}", board.getBoardId(), board.getBoardName());
 
         // 기본 속성 정의 및 옵션 생성
@@ -323,6 +327,9 @@ public class BoardServiceImpl implements BoardService {
 
         // 보드 삭제
         boardMapper.delete(boardId);
+        boardAccessService.refresh(boardId);
+        permissionCacheService.evictBoard(boardId);
+        sseEmitterManager.releaseBoard(boardId);
         log.info("Board deleted: id={}", boardId);
     }
 
@@ -383,6 +390,8 @@ public class BoardServiceImpl implements BoardService {
                 .build();
 
         boardShareMapper.insert(boardShare);
+        boardAccessService.refresh(boardId);
+        permissionCacheService.evictBoardUser(boardId, request.getUserId());
         log.info("Board share added: boardShareId={}", boardShare.getBoardShareId());
 
         // 감사 로그 기록
@@ -415,6 +424,8 @@ public class BoardServiceImpl implements BoardService {
 
         // 공유 제거
         boardShareMapper.deleteByBoardIdAndUserId(boardId, userId);
+        boardAccessService.refresh(boardId);
+        permissionCacheService.evictBoardUser(boardId, userId);
         log.info("Board share removed: boardId={}, userId={}", boardId, userId);
 
         // 감사 로그 기록
@@ -427,14 +438,12 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public boolean hasAccess(Long boardId, Long userId) {
-        return boardMapper.hasAccess(boardId, userId);
+        return getUserPermission(boardId, userId) != null;
     }
 
     @Override
     public boolean isOwner(Long boardId, Long userId) {
-        return boardMapper.findById(boardId)
-                .map(board -> board.isOwner(userId))
-                .orElse(false);
+        return "OWNER".equals(getUserPermission(boardId, userId));
     }
 
     // =============================================
@@ -454,33 +463,11 @@ public class BoardServiceImpl implements BoardService {
         // 기본 정보
         BoardResponse response = BoardResponse.from(board);
 
-        // 사용 가능한 그룹 목록 (활성 그룹만)
-        List<Group> groups = groupMapper.findAll("Y");
-        List<GroupResponse> groupResponses = GroupResponse.fromList(groups);
+        // 사용 가능한 그룹 목록 (활성 그룹만, 캐시 적용)
+        List<GroupResponse> groupResponses = GroupResponse.fromList(directoryCacheService.getActiveGroups());
 
         // 담당자로 지정 가능한 사용자 목록 (소유자 + 공유 사용자)
-        List<BoardResponse.SharedUserInfo> sharedUsers = new ArrayList<>();
-
-        // 1. 소유자 추가
-        userMapper.findById(board.getOwnerId()).ifPresent(owner -> {
-            sharedUsers.add(BoardResponse.SharedUserInfo.builder()
-                    .userId(owner.getUserId())
-                    .userName(owner.getName())
-                    .departmentName(owner.getDepartmentName())
-                    .build());
-        });
-
-        // 2. 공유 사용자 추가
-        List<BoardShare> shares = boardShareMapper.findByBoardId(boardId);
-        for (BoardShare share : shares) {
-            userMapper.findById(share.getUserId()).ifPresent(user -> {
-                sharedUsers.add(BoardResponse.SharedUserInfo.builder()
-                        .userId(user.getUserId())
-                        .userName(user.getName())
-                        .departmentName(user.getDepartmentName())
-                        .build());
-            });
-        }
+        List<BoardResponse.SharedUserInfo> sharedUsers = getSharedUsers(board);
 
         // 미완료 업무 수
         int pendingItemCount = boardMapper.countPendingItems(boardId);
@@ -514,59 +501,37 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public BoardListResponse getBoardList(Long userId) {
-        // 소유한 보드 목록
-        List<Board> ownedBoards = boardMapper.findOwnedBoards(userId);
-        List<BoardResponse> ownedBoardResponses = ownedBoards.stream()
-                .map(board -> {
-                    BoardResponse response = BoardResponse.from(board);
-                    int pendingCount = boardMapper.countPendingItems(board.getBoardId());
-                    return BoardResponse.builder()
-                            .boardId(response.getBoardId())
-                            .boardName(response.getBoardName())
-                            .description(response.getDescription())
-                            .ownerId(response.getOwnerId())
-                            .ownerName(response.getOwnerName())
-                            .defaultView(response.getDefaultView())
-                            .color(response.getColor())
-                            .sortOrder(response.getSortOrder())
-                            .useYn(response.getUseYn())
-                            .itemCount(response.getItemCount())
-                            .shareCount(response.getShareCount())
-                            .pendingItemCount(pendingCount)
-                            .currentUserPermission("OWNER")
-                            .isOwner(true)
-                            .createdAt(response.getCreatedAt())
-                            .updatedAt(response.getUpdatedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        // 공유받은 보드 목록
-        List<Map<String, Object>> sharedBoardMaps = boardMapper.findSharedBoards(userId);
-        List<BoardResponse> sharedBoardResponses = sharedBoardMaps.stream()
-                .map(map -> {
-                    Long boardId = ((Number) map.get("BOARD_ID")).longValue();
-                    String permission = (String) map.get("PERMISSION");
-                    int pendingCount = boardMapper.countPendingItems(boardId);
-
-                    return BoardResponse.builder()
-                            .boardId(boardId)
-                            .boardName((String) map.get("BOARD_NAME"))
-                            .description((String) map.get("DESCRIPTION"))
-                            .ownerId(((Number) map.get("OWNER_ID")).longValue())
-                            .ownerName((String) map.get("OWNER_NAME"))
-                            .defaultView((String) map.get("DEFAULT_VIEW"))
-                            .color((String) map.get("COLOR"))
-                            .sortOrder(map.get("SORT_ORDER") != null ? ((Number) map.get("SORT_ORDER")).intValue() : null)
-                            .useYn((String) map.get("USE_YN"))
-                            .itemCount(map.get("ITEM_COUNT") != null ? ((Number) map.get("ITEM_COUNT")).intValue() : 0)
-                            .shareCount(map.get("SHARE_COUNT") != null ? ((Number) map.get("SHARE_COUNT")).intValue() : 0)
-                            .pendingItemCount(pendingCount)
-                            .currentUserPermission(permission)
-                            .isOwner(false)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 소유/공유 보드 목록 (미완료 업무 수, 권한 포함 한 번의 쿼리)
+        List<BoardResponse> ownedBoardResponses = new ArrayList<>();
+        List<BoardResponse> sharedBoardResponses = new ArrayList<>();
+        for (Board board : boardMapper.findBoardListByUserId(userId)) {
+            BoardResponse response = BoardResponse.from(board);
+            boolean isOwnerFlag = board.isOwner(userId);
+            BoardResponse listResponse = BoardResponse.builder()
+                    .boardId(response.getBoardId())
+                    .boardName(response.getBoardName())
+                    .description(response.getDescription())
+                    .ownerId(response.getOwnerId())
+                    .ownerName(response.getOwnerName())
+                    .defaultView(response.getDefaultView())
+                    .color(response.getColor())
+                    .sortOrder(response.getSortOrder())
+                    .useYn(response.getUseYn())
+                    .itemCount(response.getItemCount())
+                    .shareCount(response.getShareCount())
+                    .pendingItemCount(board.getPendingItemCount())
+                    .currentUserPermission(board.getUserPermission())
+                    .isOwner(isOwnerFlag)
+                    .createdAt(response.getCreatedAt())
+                    .updatedAt(response.getUpdatedAt())
+                    .build();
+
+            if (isOwnerFlag) {
+                ownedBoardResponses.add(listResponse);
+            } else {
+                sharedBoardResponses.add(listResponse);
+            }
+        }
 
         return BoardListResponse.builder()
                 .ownedBoards(ownedBoardResponses)
@@ -632,6 +597,8 @@ public class BoardServiceImpl implements BoardService {
         if (request.isForceDelete() || pendingCount == 0 || transferResult != null) {
             // 공유 정보 삭제
             boardShareMapper.deleteByBoardId(boardId);
+            boardAccessService.refresh(boardId);
+            permissionCacheService.evictBoard(boardId);
 
             // 보드 비활성화 (소프트 삭제)
             board.setUseYn("N");
@@ -681,6 +648,8 @@ public class BoardServiceImpl implements BoardService {
 
         // 권한 변경
         boardShareMapper.updatePermissionByBoardAndUser(boardId, userId, request.getPermission(), requestUserId);
+        boardAccessService.refresh(boardId);
+        permissionCacheService.evictBoardUser(boardId, userId);
         log.info("Board share permission updated: boardId={}, userId={}, permission={}",
                 boardId, userId, request.getPermission());
 
@@ -695,19 +664,9 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public String getUserPermission(Long boardId, Long userId) {
-        // 보드 존재 확인
-        Board board = boardMapper.findById(boardId).orElse(null);
-        if (board == null) {
-            return null;
-        }
-
-        // 소유자인 경우
-        if (board.isOwner(userId)) {
-            return "OWNER";
-        }
-
-        // 공유 권한 조회
-        return boardMapper.getUserPermission(boardId, userId);
+        // 소유자면 OWNER, 공유받았으면 공유 권한, 보드가 없거나 권한이 없으면 null (권한 캐시 적용)
+        return permissionCacheService.getBoardPermission(boardId, userId,
+                () -> boardMapper.getUserPermission(boardId, userId));
     }
 
     @Override
@@ -774,11 +733,13 @@ public class BoardServiceImpl implements BoardService {
         if (updated == 0) {
             throw BusinessException.badRequest("보드 이관에 실패했습니다.");
         }
+        permissionCacheService.evictBoard(boardId);
 
         // 기존 소유자를 공유 사용자에서 제거 (이미 공유되어 있었다면)
         if (boardShareMapper.existsByBoardIdAndUserId(boardId, request.getTargetUserId())) {
             boardShareMapper.deleteByBoardIdAndUserId(boardId, request.getTargetUserId());
         }
+        boardAccessService.refresh(boardId);
 
         // 감사 로그 기록
         String description = String.format("보드 이관: %s → %s (보드명: %s → %s)",
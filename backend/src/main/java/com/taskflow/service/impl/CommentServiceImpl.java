@@ -79,6 +79,7 @@ public class CommentServiceImpl implements CommentService {
 
         // 댓글 저장
         commentMapper.insert(comment);
+        itemMapper.addCommentCount(itemId, 1);
         log.info("Comment created: id={}", comment.getCommentId());
 
         CommentResponse response = getComment(comment.getCommentId());
@@ -128,6 +129,7 @@ public class CommentServiceImpl implements CommentService {
         }
 
         commentMapper.delete(commentId);
+        itemMapper.addCommentCount(comment.getItemId(), -1);
         log.info("Comment deleted: id={}", commentId);
     }
 }
@@ -7,6 +7,7 @@ import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.DepartmentMapper;
 import com.taskflow.mapper.UserMapper;
 import com.taskflow.service.DepartmentService;
+import com.taskflow.service.DirectoryCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentMapper departmentMapper;
     private final UserMapper userMapper;
+    private final DirectoryCacheService directoryCacheService;
 
     // =============================================
     // 조회
@@ -152,6 +154,8 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setUpdatedBy(updatedBy);
 
         departmentMapper.update(department);
+        // 사용자 요약 정보에 부서명이 포함되므로 전체 무효화
+        directoryCacheService.evictAllUsers();
         log.info("Department updated: id={}", departmentId);
 
         return getDepartment(departmentId);
@@ -0,0 +1,227 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.common.ChosungSearchIndex;
+import com.taskflow.common.ExpiringLruCache;
+import com.taskflow.config.DirectoryCacheProperties;
+import com.taskflow.domain.Group;
+import com.taskflow.domain.User;
+import com.taskflow.mapper.GroupMapper;
+import com.taskflow.mapper.UserMapper;
+import com.taskflow.service.DirectoryCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자/그룹 디렉터리 캐시 서비스 구현
+ *
+ * 인메모리 캐시
+ * - 사용자 요약 정보: 사용자별 directory-cache.ttl-seconds 동안 보관 (최대 directory-cache.max-users 명, 넘치면 가장 오래 사용되지 않은 사용자부터 제거)
+ * - 활성 그룹 목록: 전체 목록을 한 항목으로 보관
+ * - 사용자 검색 구조: 활성 사용자 전체를 한 항목으로 보관 (동시 미스는 한 번만 재구성, 재구성 도중 무효화되면 저장하지 않음)
+ * - 트랜잭션 안에서 무효화한 경우 커밋 후 한 번 더 무효화
+ */
+@Slf4j
+@Service
+public class DirectoryCacheServiceImpl implements DirectoryCacheService {
+
+    private final UserMapper userMapper;
+    private final GroupMapper groupMapper;
+    private final DirectoryCacheProperties cacheProperties;
+
+    /**
+     * 사용자 요약 정보 캐시
+     * Key: userId, Value: 요약 정보
+     */
+    private final ExpiringLruCache<Long, UserSummary> userCache;
+
+    /**
+     * 활성 그룹 목록 캐시
+     */
+    private volatile CacheEntry<List<Group>> groupCache;
+
+    /**
+     * 사용자 검색 구조 캐시 (이름, 아이디, 부서명)
+     */
+    private volatile CacheEntry<ChosungSearchIndex<UserSummary>> userSearchCache;
+
+    /**
+     * 사용자 무효화 횟수 (검색 구조 재구성 도중 무효화 여부 확인)
+     */
+    private final AtomicLong userVersion = new AtomicLong();
+
+    private final Object userSearchLock = new Object();
+
+    public DirectoryCacheServiceImpl(UserMapper userMapper, GroupMapper groupMapper,
+                                     DirectoryCacheProperties cacheProperties) {
+        this.userMapper = userMapper;
+        this.groupMapper = groupMapper;
+        this.cacheProperties = cacheProperties;
+        this.userCache = new ExpiringLruCache<>(cacheProperties::getMaxUsers);
+    }
+
+    @Override
+    public Map<Long, UserSummary> getUserSummaries(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, UserSummary> result = new LinkedHashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+
+        for (Long userId : userIds) {
+            UserSummary cached = userCache.get(userId, now);
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        // 캐시 미스분 일괄 조회
+        if (!missing.isEmpty()) {
+            log.debug("User directory cache miss: {} users", missing.size());
+            long expiresAt = now + cacheProperties.getTtlSeconds() * 1000;
+            for (User user : userMapper.findByIds(missing)) {
+                UserSummary summary = new UserSummary(user.getUserId(), user.getUsername(), user.getName(),
+                        user.getDepartmentId(), user.getDepartmentName());
+                result.put(user.getUserId(), summary);
+                userCache.put(user.getUserId(), summary, expiresAt);
+            }
+        }
+
+        // 요청 순서대로 정렬
+        Map<Long, UserSummary> ordered = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            UserSummary summary = result.get(userId);
+            if (summary != null) {
+                ordered.put(userId, summary);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public List<UserSummary> searchUsers(String keyword, Long departmentId, int limit) {
+        if (departmentId == null) {
+            return getUserSearchIndex().search(keyword, limit);
+        }
+        return getUserSearchIndex().search(keyword, limit,
+                user -> Objects.equals(departmentId, user.departmentId()));
+    }
+
+    @Override
+    public List<Group> getActiveGroups() {
+        long now = System.currentTimeMillis();
+        CacheEntry<List<Group>> cached = groupCache;
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.value;
+        }
+
+        log.debug("Group directory cache miss");
+        List<Group> groups = List.copyOf(groupMapper.findAll("Y"));
+        groupCache = new CacheEntry<>(groups, now + cacheProperties.getTtlSeconds() * 1000);
+        return groups;
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        log.debug("Evicting user directory cache: userId={}", userId);
+        evictNowAndAfterCommit(() -> {
+            userCache.remove(userId);
+            evictUserSearch();
+        });
+    }
+
+    @Override
+    public void evictAllUsers() {
+        log.info("Evicting all user directory cache");
+        evictNowAndAfterCommit(() -> {
+            userCache.clear();
+            evictUserSearch();
+        });
+    }
+
+    @Override
+    public void evictGroups() {
+        log.debug("Evicting group directory cache");
+        evictNowAndAfterCommit(() -> groupCache = null);
+    }
+
+    // =============================================
+    // 내부
+    // =============================================
+
+    /**
+     * 사용자 검색 구조 조회 (만료 시 활성 사용자 전체로 재구성)
+     */
+    private ChosungSearchIndex<UserSummary> getUserSearchIndex() {
+        CacheEntry<ChosungSearchIndex<UserSummary>> cached = userSearchCache;
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached.value;
+        }
+
+        synchronized (userSearchLock) {
+            long now = System.currentTimeMillis();
+            cached = userSearchCache;
+            if (cached != null && !cached.isExpired(now)) {
+                return cached.value;
+            }
+
+            long loadingVersion = userVersion.get();
+            List<UserSummary> users = userMapper.findDirectoryUsers().stream()
+                    .map(user -> new UserSummary(user.getUserId(), user.getUsername(), user.getName(),
+                            user.getDepartmentId(), user.getDepartmentName()))
+                    .toList();
+            ChosungSearchIndex<UserSummary> index = new ChosungSearchIndex<>(users,
+                    List.of(UserSummary::name, UserSummary::username, UserSummary::departmentName));
+            log.debug("User search index rebuilt: {} users", index.size());
+            if (userVersion.get() == loadingVersion) {
+                userSearchCache = new CacheEntry<>(index, now + cacheProperties.getTtlSeconds() * 1000);
+            }
+            return index;
+        }
+    }
+
+    private void evictUserSearch() {
+        userVersion.incrementAndGet();
+        userSearchCache = null;
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 단일 캐시 항목 (그룹 목록, 사용자 검색 구조)
+     */
+    private static final class CacheEntry<T> {
+
+        private final T value;
+        private final long expiresAt;
+
+        private CacheEntry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
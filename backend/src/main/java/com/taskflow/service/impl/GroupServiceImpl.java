@@ -7,6 +7,7 @@ import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.GroupMapper;
 import com.taskflow.mapper.UserGroupMapper;
 import com.taskflow.mapper.UserMapper;
+import com.taskflow.service.DirectoryCacheService;
 import com.taskflow.service.GroupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ public class GroupServiceImpl implements GroupService {
     private final GroupMapper groupMapper;
     private final UserGroupMapper userGroupMapper;
     private final UserMapper userMapper;
+    private final DirectoryCacheService directoryCacheService;
 
     // =============================================
     // 그룹 조회
@@ -78,6 +80,7 @@ public class GroupServiceImpl implements GroupService {
 
         // 저장
         groupMapper.insert(group);
+        directoryCacheService.evictGroups();
         log.info("Group created: id={}, code={}", group.getGroupId(), group.getGroupCode());
 
         return getGroup(group.getGroupId());
@@ -105,6 +108,7 @@ public class GroupServiceImpl implements GroupService {
         group.setUpdatedBy(updatedBy);
 
         groupMapper.update(group);
+        directoryCacheService.evictGroups();
         log.info("Group updated: id={}", groupId);
 
         return getGroup(groupId);
@@ -121,6 +125,7 @@ public class GroupServiceImpl implements GroupService {
 
         // 순서 변경
         groupMapper.updateOrder(groupId, request.getSortOrder(), updatedBy);
+        directoryCacheService.evictGroups();
         log.info("Group order updated: id={}", groupId);
 
         return getGroup(groupId);
@@ -142,6 +147,7 @@ public class GroupServiceImpl implements GroupService {
 
         // 삭제
         groupMapper.delete(groupId);
+        directoryCacheService.evictGroups();
         log.info("Group deleted: id={}", groupId);
     }
 
@@ -195,6 +201,7 @@ public class GroupServiceImpl implements GroupService {
                 .build();
 
         userGroupMapper.insert(userGroup);
+        directoryCacheService.evictGroups();
         log.info("Group member added: userGroupId={}", userGroup.getUserGroupId());
 
         // 저장된 정보 조회하여 반환
@@ -219,6 +226,7 @@ public class GroupServiceImpl implements GroupService {
 
         // 멤버 제거
         userGroupMapper.deleteByGroupIdAndUserId(groupId, userId);
+        directoryCacheService.evictGroups();
         log.info("Group member removed: groupId={}, userId={}", groupId, userId);
     }
 
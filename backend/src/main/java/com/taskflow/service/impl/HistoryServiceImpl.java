@@ -6,6 +6,7 @@ import com.taskflow.dto.history.*;
 import com.taskflow.mapper.ItemHistoryMapper;
 import com.taskflow.mapper.TaskTemplateMapper;
 import com.taskflow.service.HistoryService;
+import com.taskflow.service.PageCountCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ public class HistoryServiceImpl implements HistoryService {
 
     private final ItemHistoryMapper itemHistoryMapper;
     private final TaskTemplateMapper taskTemplateMapper;
+    private final PageCountCacheService pageCountCacheService;
 
     @Override
     public ItemHistoryPageResponse getItemHistory(ItemHistorySearchRequest request) {
@@ -31,14 +33,17 @@ public class HistoryServiceImpl implements HistoryService {
 
         // 이력 목록 조회
         List<ItemHistory> histories = itemHistoryMapper.findItemHistory(request);
+        boolean hasNext = PageCountCacheService.trimProbeRow(histories, request.getSize());
 
-        // 총 개수 조회
-        long totalElements = itemHistoryMapper.countItemHistory(request);
+        // 총 개수 조회 (count 파라미터에 따라 생략/추정)
+        long totalElements = pageCountCacheService.resolveTotal(request.getCountMode(),
+                "item-history|" + request.countKey(), request.getOffset(), histories.size(), hasNext,
+                () -> itemHistoryMapper.countItemHistory(request));
 
         // 응답 변환
         List<ItemHistoryResponse> content = ItemHistoryResponse.fromList(histories);
 
-        return ItemHistoryPageResponse.of(content, request.getPage(), request.getSize(), totalElements);
+        return ItemHistoryPageResponse.of(content, request.getPage(), request.getSize(), totalElements, hasNext);
     }
 
     @Override
@@ -4,17 +4,28 @@ import com.taskflow.domain.*;
 import com.taskflow.dto.item.*;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.*;
+import com.taskflow.service.BoardAccessService;
+import com.taskflow.service.BoardPropertyIndex;
 import com.taskflow.service.ItemService;
+import com.taskflow.service.ItemStatsCacheService;
+import com.taskflow.service.ItemStatsCacheService.ItemState;
+import com.taskflow.service.ItemStatsCacheService.ItemStats;
+import com.taskflow.service.PageCountCacheService;
+import com.taskflow.service.PermissionCacheService;
+import com.taskflow.service.PropertyCacheService;
 import com.taskflow.sse.SseEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +43,11 @@ public class ItemServiceImpl implements ItemService {
     private final GroupMapper groupMapper;
     private final UserMapper userMapper;
     private final PropertyDefMapper propertyDefMapper;
+    private final PropertyCacheService propertyCacheService;
+    private final PermissionCacheService permissionCacheService;
+    private final ItemStatsCacheService itemStatsCacheService;
+    private final BoardAccessService boardAccessService;
+    private final PageCountCacheService pageCountCacheService;
     private final SseEventPublisher sseEventPublisher;
 
     // =============================================
@@ -55,19 +71,32 @@ public class ItemServiceImpl implements ItemService {
         boardMapper.findById(boardId)
                 .orElseThrow(() -> BusinessException.boardNotFound(boardId));
 
+        // 커서 검증 (손상되었거나 정렬 조건이 다른 커서는 400)
+        boolean firstCursorPage = request.isCursorMode() && request.getKeyset() == null;
+
         // 아이템 목록 조회
         List<Item> items = itemMapper.findByBoardIdWithFilter(boardId, request);
+        boolean hasNext = PageCountCacheService.trimProbeRow(items, request.getSize());
+        String nextCursor = request.isCursorMode() && hasNext
+                ? request.nextCursor(items.get(items.size() - 1))
+                : null;
 
         // 동적 속성값 로드
         loadItemPropertiesBatch(items);
 
-        // 총 개수 조회
-        long totalElements = itemMapper.countByBoardIdWithFilter(boardId, request);
+        // 총 개수 조회 (count 파라미터에 따라 생략/추정)
+        long totalElements = pageCountCacheService.resolveTotal(request.getCountMode(),
+                "board-items:" + boardId + "|" + request.countKey(),
+                request.isCursorMode() ? -1 : request.getOffset(), items.size(), hasNext,
+                () -> itemMapper.countByBoardIdWithFilter(boardId, request));
 
         // 응답 변환
         List<ItemResponse> content = ItemResponse.fromList(items);
 
-        return ItemPageResponse.of(content, request.getPage(), request.getSize(), totalElements);
+        if (request.isCursorMode()) {
+            return ItemPageResponse.ofCursor(content, request.getSize(), totalElements, firstCursorPage, nextCursor);
+        }
+        return ItemPageResponse.of(content, request.getPage(), request.getSize(), totalElements, hasNext);
     }
 
     @Override
@@ -171,6 +200,7 @@ public class ItemServiceImpl implements ItemService {
         }
 
         ItemResponse response = getItem(item.getItemId());
+        itemStatsCacheService.recordChange(boardId, null, ItemState.of(response));
 
         // SSE 이벤트 발행
         sseEventPublisher.publishItemCreated(boardId, response, createdBy);
@@ -187,6 +217,15 @@ public class ItemServiceImpl implements ItemService {
         Item item = itemMapper.findById(itemId)
                 .orElseThrow(() -> BusinessException.itemNotFound(itemId));
 
+        ItemState beforeState = ItemState.of(item);
+
+        // SSE 델타 이벤트용 수정 전 스냅샷
+        ItemResponse before = null;
+        if (sseEventPublisher.isDeltaEnabled()) {
+            loadItemProperties(item);
+            before = ItemResponse.from(item);
+        }
+
         // 그룹 존재 확인
         if (request.getGroupId() != null) {
             groupMapper.findById(request.getGroupId())
@@ -243,9 +282,10 @@ public class ItemServiceImpl implements ItemService {
         }
 
         ItemResponse response = getItem(itemId);
+        itemStatsCacheService.recordChange(item.getBoardId(), beforeState, ItemState.of(response));
 
         // SSE 이벤트 발행
-        sseEventPublisher.publishItemUpdated(item.getBoardId(), response, updatedBy);
+        sseEventPublisher.publishItemChanged(item.getBoardId(), before, response, updatedBy);
 
         return response;
     }
@@ -271,6 +311,7 @@ public class ItemServiceImpl implements ItemService {
         log.info("Item completed: id={}", itemId);
 
         ItemResponse response = getItem(itemId);
+        itemStatsCacheService.recordChange(item.getBoardId(), ItemState.of(item), ItemState.of(response));
 
         // SSE 이벤트 발행
         sseEventPublisher.publishItemCompleted(item.getBoardId(), response, completedBy);
@@ -296,6 +337,7 @@ public class ItemServiceImpl implements ItemService {
         log.info("Item deleted: id={}", itemId);
 
         ItemResponse response = getItem(itemId);
+        itemStatsCacheService.recordChange(item.getBoardId(), ItemState.of(item), ItemState.of(response));
 
         // SSE 이벤트 발행
         sseEventPublisher.publishItemDeleted(item.getBoardId(), response, deletedBy);
@@ -321,6 +363,7 @@ public class ItemServiceImpl implements ItemService {
         log.info("Item restored: id={}", itemId);
 
         ItemResponse response = getItem(itemId);
+        itemStatsCacheService.recordChange(item.getBoardId(), ItemState.of(item), ItemState.of(response));
 
         // SSE 이벤트 발행
         sseEventPublisher.publishItemRestored(item.getBoardId(), response, updatedBy);
@@ -334,7 +377,7 @@ public class ItemServiceImpl implements ItemService {
         log.info("Hard deleting item: id={}", itemId);
 
         // 아이템 존재 확인
-        itemMapper.findById(itemId)
+        Item item = itemMapper.findById(itemId)
                 .orElseThrow(() -> BusinessException.itemNotFound(itemId));
 
         // 속성값 삭제
@@ -343,6 +386,8 @@ public class ItemServiceImpl implements ItemService {
 
         // 아이템 삭제
         itemMapper.delete(itemId);
+        permissionCacheService.evictItem(itemId);
+        itemStatsCacheService.recordChange(item.getBoardId(), ItemState.of(item), null);
         log.info("Item hard deleted: id={}", itemId);
     }
 
@@ -354,91 +399,112 @@ public class ItemServiceImpl implements ItemService {
     public ItemPageResponse getOverdueItems(Long userId, CrossBoardSearchRequest request) {
         log.debug("Get overdue items: userId={}, request={}", userId, request);
 
+        // 커서 검증 (손상되었거나 정렬 조건이 다른 커서는 400)
+        boolean firstCursorPage = request.isCursorMode() && request.getKeyset() == null;
+
         // 지연 아이템 목록 조회
         List<Item> items = itemMapper.findOverdueItems(userId, request);
+        boolean hasNext = PageCountCacheService.trimProbeRow(items, request.getSafeSize());
+        String nextCursor = request.isCursorMode() && hasNext
+                ? request.nextCursor(items.get(items.size() - 1))
+                : null;
 
         // 동적 속성값 로드
         loadItemPropertiesBatch(items);
 
-        // 총 개수 조회
-        long totalElements = itemMapper.countOverdueItems(userId, request);
+        // 총 개수 조회 (count 파라미터에 따라 생략/추정)
+        long totalElements = pageCountCacheService.resolveTotal(request.getCountMode(),
+                "overdue-items:" + userId + "|" + request.countKey(),
+                request.isCursorMode() ? -1 : request.getOffset(), items.size(), hasNext,
+                () -> itemMapper.countOverdueItems(userId, request));
 
         // 응답 변환
         List<ItemResponse> content = ItemResponse.fromList(items);
 
-        return ItemPageResponse.of(content, request.getPage(), request.getSize(), totalElements);
+        if (request.isCursorMode()) {
+            return ItemPageResponse.ofCursor(content, request.getSafeSize(), totalElements, firstCursorPage, nextCursor);
+        }
+        return ItemPageResponse.of(content, request.getSafePage(), request.getSafeSize(), totalElements, hasNext);
     }
 
     @Override
     public ItemPageResponse getPendingItems(Long userId, CrossBoardSearchRequest request) {
         log.debug("Get pending items: userId={}, request={}", userId, request);
 
+        // 커서 검증 (손상되었거나 정렬 조건이 다른 커서는 400)
+        boolean firstCursorPage = request.isCursorMode() && request.getKeyset() == null;
+
         // 보류 아이템 목록 조회
         List<Item> items = itemMapper.findPendingItems(userId, request);
+        boolean hasNext = PageCountCacheService.trimProbeRow(items, request.getSafeSize());
+        String nextCursor = request.isCursorMode() && hasNext
+                ? request.nextCursor(items.get(items.size() - 1))
+                : null;
 
         // 동적 속성값 로드
         loadItemPropertiesBatch(items);
 
-        // 총 개수 조회
-        long totalElements = itemMapper.countPendingItems(userId, request);
+        // 총 개수 조회 (count 파라미터에 따라 생략/추정)
+        long totalElements = pageCountCacheService.resolveTotal(request.getCountMode(),
+                "pending-items:" + userId + "|" + request.countKey(),
+                request.isCursorMode() ? -1 : request.getOffset(), items.size(), hasNext,
+                () -> itemMapper.countPendingItems(userId, request));
 
         // 응답 변환
         List<ItemResponse> content = ItemResponse.fromList(items);
 
-        return ItemPageResponse.of(content, request.getPage(), request.getSize(), totalElements);
+        if (request.isCursorMode()) {
+            return ItemPageResponse.ofCursor(content, request.getSafeSize(), totalElements, firstCursorPage, nextCursor);
+        }
+        return ItemPageResponse.of(content, request.getSafePage(), request.getSafeSize(), totalElements, hasNext);
     }
 
     @Override
     public ItemPageResponse getActiveItemsCrossBoard(Long userId, CrossBoardSearchRequest request) {
         log.debug("Get active items cross-board: userId={}, request={}", userId, request);
 
+        // 커서 검증 (손상되었거나 정렬 조건이 다른 커서는 400)
+        boolean firstCursorPage = request.isCursorMode() && request.getKeyset() == null;
+
         // 활성 아이템 목록 조회
         List<Item> items = itemMapper.findActiveItemsCrossBoard(userId, request);
+        boolean hasNext = PageCountCacheService.trimProbeRow(items, request.getSafeSize());
+        String nextCursor = request.isCursorMode() && hasNext
+                ? request.nextCursor(items.get(items.size() - 1))
+                : null;
 
         // 동적 속성값 로드
         loadItemPropertiesBatch(items);
 
-        // 총 개수 조회
-        long totalElements = itemMapper.countActiveItemsCrossBoard(userId, request);
+        // 총 개수 조회 (count 파라미터에 따라 생략/추정)
+        long totalElements = pageCountCacheService.resolveTotal(request.getCountMode(),
+                "active-items:" + userId + "|" + request.countKey(),
+                request.isCursorMode() ? -1 : request.getOffset(), items.size(), hasNext,
+                () -> itemMapper.countActiveItemsCrossBoard(userId, request));
 
         // 응답 변환
         List<ItemResponse> content = ItemResponse.fromList(items);
 
-        return ItemPageResponse.of(content, request.getPage(), request.getSize(), totalElements);
+        if (request.isCursorMode()) {
+            return ItemPageResponse.ofCursor(content, request.getSafeSize(), totalElements, firstCursorPage, nextCursor);
+        }
+        return ItemPageResponse.of(content, request.getSafePage(), request.getSafeSize(), totalElements, hasNext);
     }
 
     @Override
     public Map<String, Object> getCrossBoardStats(Long userId) {
         log.debug("Get cross-board stats: userId={}", userId);
 
-        CrossBoardSearchRequest emptyRequest = new CrossBoardSearchRequest();
-        emptyRequest.setPage(0);
-        emptyRequest.setSize(1); // 카운트만 필요하므로 1개만
-
-        // 지연 업무 개수
-        long overdueCount = itemMapper.countOverdueItems(userId, emptyRequest);
-
-        // 보류 업무 개수
-        long pendingCount = itemMapper.countPendingItems(userId, emptyRequest);
-
-        // 전체 활성 업무 개수
-        long activeCount = itemMapper.countActiveItemsCrossBoard(userId, emptyRequest);
-
-        // 우선순위별 지연 업무 개수
-        CrossBoardSearchRequest urgentRequest = new CrossBoardSearchRequest();
-        urgentRequest.setPriority("URGENT");
-        long urgentOverdueCount = itemMapper.countOverdueItems(userId, urgentRequest);
-
-        CrossBoardSearchRequest highRequest = new CrossBoardSearchRequest();
-        highRequest.setPriority("HIGH");
-        long highOverdueCount = itemMapper.countOverdueItems(userId, highRequest);
+        // 접근 가능한 보드의 업무 통계 카운터 합계
+        List<Long> boardIds = boardAccessService.getActiveBoardIds(userId);
+        ItemStats itemStats = itemStatsCacheService.getStats(boardIds);
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("overdueCount", overdueCount);
-        stats.put("pendingCount", pendingCount);
-        stats.put("activeCount", activeCount);
-        stats.put("urgentOverdueCount", urgentOverdueCount);
-        stats.put("highOverdueCount", highOverdueCount);
+        stats.put("overdueCount", itemStats.overdueCount());
+        stats.put("pendingCount", itemStats.pendingCount());
+        stats.put("activeCount", itemStats.activeCount());
+        stats.put("urgentOverdueCount", itemStats.urgentOverdueCount());
+        stats.put("highOverdueCount", itemStats.highOverdueCount());
 
         return stats;
     }
@@ -484,77 +550,184 @@ public class ItemServiceImpl implements ItemService {
 
     /**
      * 아이템의 동적 속성값 저장
+     *
+     * 속성 정의/옵션은 보드 속성 캐시에서 조회 (캐시 적중 시 메타데이터 조회 쿼리 없음)
+     * 모든 값을 검증/변환한 뒤 속성 수와 관계없이 최대 4개의 SQL 로 저장 (PropertyWriteBatch)
      */
     private void saveItemProperties(Long itemId, Long boardId, Map<Long, Object> propertyValues, Long userId) {
+        BoardPropertyIndex boardProperties = propertyCacheService.getBoardProperties(boardId);
+        PropertyWriteBatch batch = new PropertyWriteBatch();
+
         for (Map.Entry<Long, Object> entry : propertyValues.entrySet()) {
             Long propertyId = entry.getKey();
             Object value = entry.getValue();
 
-            // 속성 정의 조회
-            PropertyDef propertyDef = propertyDefMapper.findById(propertyId)
-                    .orElseThrow(() -> BusinessException.propertyNotFound(propertyId));
+            // 속성 정의 조회 (캐시에 없는 숨김 속성 등은 DB 조회)
+            PropertyDef propertyDef = boardProperties.getProperty(propertyId);
+            boolean cached = propertyDef != null;
+            if (!cached) {
+                propertyDef = propertyDefMapper.findById(propertyId)
+                        .orElseThrow(() -> BusinessException.propertyNotFound(propertyId));
 
-            // 보드 일치 확인
-            if (!boardId.equals(propertyDef.getBoardId())) {
-                throw BusinessException.badRequest("속성이 해당 보드에 속하지 않습니다: " + propertyId);
+                // 보드 일치 확인
+                if (!boardId.equals(propertyDef.getBoardId())) {
+                    throw BusinessException.badRequest("속성이 해당 보드에 속하지 않습니다: " + propertyId);
+                }
             }
 
             // 값이 null이면 삭제
             if (value == null || (value instanceof String && ((String) value).isEmpty())) {
-                itemPropertyMapper.deleteByItemIdAndPropertyId(itemId, propertyId);
+                batch.deletedPropertyIds.add(propertyId);
                 if (PropertyDef.TYPE_MULTI_SELECT.equals(propertyDef.getPropertyType())) {
-                    itemPropertyMapper.deleteMultiByItemIdAndPropertyId(itemId, propertyId);
+                    batch.multiPropertyIds.add(propertyId);
                 }
                 continue;
             }
 
+            // 옵션 유효성 확인 (캐시된 속성의 사용 중인 옵션)
+            if (cached && propertyDef.isSelectType()) {
+                validateOptions(itemId, boardProperties, propertyDef, value);
+            }
+
             // 다중선택의 경우 특별 처리
             if (PropertyDef.TYPE_MULTI_SELECT.equals(propertyDef.getPropertyType())) {
-                saveMultiSelectProperty(itemId, propertyId, value, userId);
+                addMultiSelectProperty(batch, itemId, propertyId, value, userId);
             } else {
-                saveSingleProperty(itemId, propertyId, propertyDef.getPropertyType(), value, userId);
+                addSingleProperty(batch, itemId, propertyId, propertyDef.getPropertyType(), value, userId);
             }
         }
+
+        flushPropertyWrites(itemId, batch, userId);
     }
 
     /**
-     * 단일 값 속성 저장
+     * 모아 둔 속성값 변경 저장
+     *
+     * 삭제 → 다중선택 삭제 → 다중선택 등록 → 속성값 UPSERT 순서로 각각 한 번씩 실행 (다중 행 SQL)
      */
-    private void saveSingleProperty(Long itemId, Long propertyId, String propertyType, Object value, Long userId) {
-        ItemProperty itemProperty = ItemProperty.builder()
-                .itemId(itemId)
-                .propertyId(propertyId)
-                .createdBy(userId)
-                .updatedBy(userId)
-                .build();
+    private void flushPropertyWrites(Long itemId, PropertyWriteBatch batch, Long userId) {
+        if (!batch.deletedPropertyIds.isEmpty()) {
+            itemPropertyMapper.deleteByItemIdAndPropertyIds(itemId, batch.deletedPropertyIds);
+        }
+        if (!batch.multiPropertyIds.isEmpty()) {
+            itemPropertyMapper.deleteMultiByItemIdAndPropertyIds(itemId, batch.multiPropertyIds);
+        }
+        if (!batch.multiValues.isEmpty()) {
+            itemPropertyMapper.insertMultiBatch(batch.multiValues);
+        }
+        if (!batch.upserts.isEmpty()) {
+            itemPropertyMapper.upsertBatch(batch.upserts, userId);
+        }
+    }
 
-        itemProperty.setValue(propertyType, value);
-        itemPropertyMapper.upsert(itemProperty);
+    /**
+     * 선택형 속성값의 옵션 확인
+     *
+     * 단일선택에 옵션 ID가 아닌 텍스트가 오면 텍스트로 저장하므로 확인하지 않음
+     * 캐시에 없는 옵션은 다음 순서로 확인하고, 모두 아니면 400
+     * - 아이템이 이미 가진 옵션 (사용 중지된 옵션이 남아 있는 아이템도 그대로 저장 가능)
+     * - 보드 캐시 갱신 후 다시 확인 (다른 인스턴스에서 추가된 옵션, 보드별 최소 간격 제한)
+     */
+    private void validateOptions(Long itemId, BoardPropertyIndex boardProperties, PropertyDef propertyDef,
+                                 Object value) {
+        List<Long> optionIds;
+        if (PropertyDef.TYPE_MULTI_SELECT.equals(propertyDef.getPropertyType())) {
+            optionIds = parseOptionIds(value);
+        } else {
+            try {
+                optionIds = List.of(Long.parseLong(value.toString()));
+            } catch (NumberFormatException e) {
+                return;
+            }
+        }
+
+        Long propertyId = propertyDef.getPropertyId();
+        List<Long> unknown = optionIds.stream()
+                .filter(optionId -> !boardProperties.isValidOption(propertyId, optionId))
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        Set<Long> heldOptionIds = findHeldOptionIds(itemId, propertyDef);
+        unknown = unknown.stream()
+                .filter(optionId -> !heldOptionIds.contains(optionId))
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        BoardPropertyIndex refreshed = propertyCacheService.refreshBoardCacheIfStale(propertyDef.getBoardId());
+        for (Long optionId : unknown) {
+            if (!refreshed.isValidOption(propertyId, optionId)) {
+                throw BusinessException.badRequest("유효하지 않은 옵션입니다: " + optionId);
+            }
+        }
     }
 
     /**
-     * 다중선택 속성값 저장
+     * 아이템이 현재 가진 선택형 속성의 옵션 ID
      */
-    private void saveMultiSelectProperty(Long itemId, Long propertyId, Object value, Long userId) {
-        // 기존 값 삭제
-        itemPropertyMapper.deleteMultiByItemIdAndPropertyId(itemId, propertyId);
+    private Set<Long> findHeldOptionIds(Long itemId, PropertyDef propertyDef) {
+        Set<Long> held = new HashSet<>();
+        if (PropertyDef.TYPE_MULTI_SELECT.equals(propertyDef.getPropertyType())) {
+            for (ItemPropertyMulti multi : itemPropertyMapper.findMultiByItemIdAndPropertyId(itemId,
+                    propertyDef.getPropertyId())) {
+                held.add(multi.getOptionId());
+            }
+        } else {
+            itemPropertyMapper.findByItemIdAndPropertyId(itemId, propertyDef.getPropertyId())
+                    .map(ItemProperty::getValueOptionId)
+                    .ifPresent(held::add);
+        }
+        return held;
+    }
 
-        // 옵션 ID 목록 추출
-        List<Long> optionIds;
+    /**
+     * 다중선택 값에서 옵션 ID 목록 추출
+     */
+    private List<Long> parseOptionIds(Object value) {
         if (value instanceof List) {
-            optionIds = ((List<?>) value).stream()
+            return ((List<?>) value).stream()
                     .map(v -> Long.parseLong(v.toString()))
                     .collect(Collectors.toList());
         } else if (value instanceof String) {
             String strValue = (String) value;
-            optionIds = Arrays.stream(strValue.split(","))
+            return Arrays.stream(strValue.split(","))
                     .map(String::trim)
                     .filter(s -> !s.isEmpty())
                     .map(Long::parseLong)
                     .collect(Collectors.toList());
-        } else {
-            optionIds = List.of(Long.parseLong(value.toString()));
         }
+        return List.of(Long.parseLong(value.toString()));
+    }
+
+    /**
+     * 단일 값 속성 저장 대상 추가
+     */
+    private void addSingleProperty(PropertyWriteBatch batch, Long itemId, Long propertyId, String propertyType,
+                                   Object value, Long userId) {
+        ItemProperty itemProperty = ItemProperty.builder()
+                .itemId(itemId)
+                .propertyId(propertyId)
+                .createdBy(userId)
+                .updatedBy(userId)
+                .build();
+
+        itemProperty.setValue(propertyType, value);
+        batch.upserts.add(itemProperty);
+    }
+
+    /**
+     * 다중선택 속성값 저장 대상 추가
+     */
+    private void addMultiSelectProperty(PropertyWriteBatch batch, Long itemId, Long propertyId, Object value,
+                                        Long userId) {
+        // 기존 값 삭제
+        batch.multiPropertyIds.add(propertyId);
+
+        // 옵션 ID 목록 추출
+        List<Long> optionIds = parseOptionIds(value);
 
         // 다중선택 테이블에 저장
         for (Long optionId : optionIds) {
@@ -564,7 +737,7 @@ public class ItemServiceImpl implements ItemService {
                     .optionId(optionId)
                     .createdBy(userId)
                     .build();
-            itemPropertyMapper.insertMulti(multi);
+            batch.multiValues.add(multi);
         }
 
         // VALUE_TEXT에도 콤마 구분으로 저장 (검색용)
@@ -579,6 +752,32 @@ public class ItemServiceImpl implements ItemService {
                 .createdBy(userId)
                 .updatedBy(userId)
                 .build();
-        itemPropertyMapper.upsert(itemProperty);
+        batch.upserts.add(itemProperty);
+    }
+
+    /**
+     * 아이템 한 건의 속성값 변경 모음 (saveItemProperties 에서 한 번에 저장)
+     */
+    private static final class PropertyWriteBatch {
+
+        /**
+         * 값을 비운 속성 ID (TB_ITEM_PROPERTY 삭제)
+         */
+        private final List<Long> deletedPropertyIds = new ArrayList<>();
+
+        /**
+         * 기존 선택값을 지울 다중선택 속성 ID (TB_ITEM_PROPERTY_MULTI 삭제)
+         */
+        private final List<Long> multiPropertyIds = new ArrayList<>();
+
+        /**
+         * 새 다중선택 값 (TB_ITEM_PROPERTY_MULTI 등록)
+         */
+        private final List<ItemPropertyMulti> multiValues = new ArrayList<>();
+
+        /**
+         * 저장할 속성값 (TB_ITEM_PROPERTY UPSERT)
+         */
+        private final List<ItemProperty> upserts = new ArrayList<>();
     }
 }
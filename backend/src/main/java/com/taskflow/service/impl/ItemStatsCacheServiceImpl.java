@@ -0,0 +1,326 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.common.ExpiringLruCache;
+import com.taskflow.config.ItemStatsCacheProperties;
+import com.taskflow.domain.Item;
+import com.taskflow.dto.item.ItemStatsBucket;
+import com.taskflow.mapper.ItemMapper;
+import com.taskflow.service.ItemStatsCacheService;
+import com.taskflow.sse.CacheEviction;
+import com.taskflow.sse.CacheEvictionListener;
+import com.taskflow.sse.SseEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 보드별 업무 통계 카운터 서비스 구현
+ *
+ * 인메모리 카운터
+ * - 보드 카운터는 적재 후 item-stats-cache.ttl-seconds 가 지나면 집계 쿼리로 다시 적재 (누적 오차 상한)
+ * - 최대 보드 수를 넘으면 가장 오래 조회되지 않은 보드 카운터부터 제거
+ * - 업무 변경은 티켓을 발급해 두고 커밋 후 적용
+ *   · 카운터 적재 이후 발급된 티켓이면 변경 전/후 차이를 더함
+ *   · 적재 이전(또는 적재 도중)에 발급된 티켓이면 적재 쿼리가 변경을 이미 읽었는지 알 수 없으므로 카운터 제거
+ * - 적재 도중 같은 보드에 티켓이 발급되면(커밋 후 적용 시점 포함) 적재 결과를 보관하지 않음
+ * - 커밋 후 변경된 보드를 이벤트 버스로 다른 인스턴스에 전달하여 해당 보드 카운터 제거 (sse.bus.type=DATABASE)
+ */
+@Slf4j
+@Service
+public class ItemStatsCacheServiceImpl implements ItemStatsCacheService, CacheEvictionListener {
+
+    /**
+     * 보드별 티켓 기록 슬롯 수 (보드 ID 해시로 분산)
+     */
+    private static final int TICKET_SLOTS = 1024;
+
+    private final ItemMapper itemMapper;
+    private final ItemStatsCacheProperties cacheProperties;
+    private final SseEventBus eventBus;
+
+    /**
+     * 보드별 카운터
+     * Key: boardId
+     */
+    private final ExpiringLruCache<Long, BoardCounters> counters;
+
+    /**
+     * 변경 티켓 (변경마다 증가)
+     */
+    private final AtomicLong ticket = new AtomicLong();
+
+    /**
+     * 슬롯별 마지막 변경 티켓
+     */
+    private final AtomicLongArray slotTickets = new AtomicLongArray(TICKET_SLOTS);
+
+    public ItemStatsCacheServiceImpl(ItemMapper itemMapper, ItemStatsCacheProperties cacheProperties,
+                                     SseEventBus eventBus) {
+        this.itemMapper = itemMapper;
+        this.cacheProperties = cacheProperties;
+        this.eventBus = eventBus;
+        this.counters = new ExpiringLruCache<>(cacheProperties::getMaxBoards);
+    }
+
+    @Override
+    public ItemStats getStats(Collection<Long> boardIds) {
+        long[] totals = new long[BoardCounters.SIZE];
+        if (boardIds == null || boardIds.isEmpty()) {
+            return toStats(totals);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (cacheProperties.getMaxBoards() <= 0) {
+            load(boardIds, 0).values().forEach(board -> board.addTo(totals, now));
+            return toStats(totals);
+        }
+
+        long nowMillis = System.currentTimeMillis();
+        List<Long> missing = new ArrayList<>();
+        for (Long boardId : new LinkedHashSet<>(boardIds)) {
+            BoardCounters cached = counters.get(boardId, nowMillis);
+            if (cached != null) {
+                cached.addTo(totals, now);
+                continue;
+            }
+            missing.add(boardId);
+        }
+
+        if (!missing.isEmpty()) {
+            // 슬롯 티켓 → 전체 티켓 순서로 기록 (적재 도중 발급된 티켓 판별)
+            Map<Long, Long> slotSnapshot = new HashMap<>();
+            for (Long boardId : missing) {
+                slotSnapshot.put(boardId, slotTickets.get(slot(boardId)));
+            }
+            long loadTicket = ticket.get();
+
+            Map<Long, BoardCounters> loaded = load(missing, loadTicket);
+            for (Map.Entry<Long, BoardCounters> entry : loaded.entrySet()) {
+                entry.getValue().addTo(totals, now);
+                store(entry.getKey(), entry.getValue(), slotSnapshot.get(entry.getKey()));
+            }
+        }
+
+        return toStats(totals);
+    }
+
+    @Override
+    public void recordChange(Long boardId, ItemState before, ItemState after) {
+        if (boardId == null || sameContribution(before, after)) {
+            return;
+        }
+
+        long changeTicket = issueTicket(boardId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 이미 커밋된 변경 - 적재 시점과의 선후를 알 수 없으므로 제거
+            invalidate(boardId);
+            eventBus.publishEviction(CacheEviction.itemStats(boardId));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyChange(boardId, changeTicket, before, after);
+                eventBus.publishEviction(CacheEviction.itemStats(boardId));
+            }
+        });
+    }
+
+    @Override
+    public void evictBoard(Long boardId) {
+        log.debug("Evicting item stats counters: boardId={}", boardId);
+        issueTicket(boardId);
+        invalidate(boardId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventBus.publishEviction(CacheEviction.itemStats(boardId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                issueTicket(boardId);
+                invalidate(boardId);
+                eventBus.publishEviction(CacheEviction.itemStats(boardId));
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 업무 변경 반영 (변경 전/후 상태를 모르므로 보드 카운터 제거)
+     */
+    @Override
+    public void onRemoteEviction(CacheEviction eviction) {
+        if (!eviction.isFor(CacheEviction.ITEM_STATS) || eviction.boardId() == null) {
+            return;
+        }
+        log.debug("Evicting item stats counters from another instance: boardId={}", eviction.boardId());
+        issueTicket(eviction.boardId());
+        invalidate(eviction.boardId());
+    }
+
+    // =============================================
+    // 내부
+    // =============================================
+
+    private Map<Long, BoardCounters> load(Collection<Long> boardIds, long loadTicket) {
+        LocalDateTime now = LocalDateTime.now();
+        long expiresAt = System.currentTimeMillis() + cacheProperties.getTtlSeconds() * 1000;
+
+        Map<Long, BoardCounters> loaded = new HashMap<>();
+        for (Long boardId : boardIds) {
+            loaded.put(boardId, new BoardCounters(loadTicket, expiresAt));
+        }
+        for (ItemStatsBucket bucket : itemMapper.aggregateActiveItemStats(boardIds)) {
+            BoardCounters board = loaded.get(bucket.getBoardId());
+            if (board != null) {
+                board.add(new ItemState(bucket.getStatus(), bucket.getPriority(), bucket.getEndTime()),
+                        bucket.getItemCount(), now);
+            }
+        }
+        return loaded;
+    }
+
+    private void store(Long boardId, BoardCounters loaded, long slotTicket) {
+        counters.putIf(boardId, loaded, loaded.expiresAt,
+                () -> slotTickets.get(slot(boardId)) == slotTicket);
+    }
+
+    private void applyChange(Long boardId, long changeTicket, ItemState before, ItemState after) {
+        // 커밋 전 변경을 읽은 채 진행 중인 적재가 있으면 보관하지 않도록 슬롯 티켓 갱신
+        issueTicket(boardId);
+        LocalDateTime now = LocalDateTime.now();
+        counters.computeIfPresent(boardId, (key, board) -> {
+            if (changeTicket <= board.loadTicket) {
+                return null;
+            }
+            board.add(before, -1, now);
+            board.add(after, 1, now);
+            return board;
+        });
+    }
+
+    private void invalidate(Long boardId) {
+        counters.remove(boardId);
+    }
+
+    private long issueTicket(Long boardId) {
+        long issued = ticket.incrementAndGet();
+        slotTickets.accumulateAndGet(slot(boardId), issued, Math::max);
+        return issued;
+    }
+
+    private static int slot(Long boardId) {
+        return Math.floorMod(boardId.hashCode(), TICKET_SLOTS);
+    }
+
+    private static boolean sameContribution(ItemState before, ItemState after) {
+        boolean beforeActive = before != null && before.isActive();
+        boolean afterActive = after != null && after.isActive();
+        if (!beforeActive && !afterActive) {
+            return true;
+        }
+        return beforeActive && afterActive && before.equals(after);
+    }
+
+    private static ItemStats toStats(long[] totals) {
+        return new ItemStats(
+                totals[BoardCounters.OVERDUE],
+                totals[BoardCounters.PENDING],
+                totals[BoardCounters.ACTIVE],
+                totals[BoardCounters.URGENT_OVERDUE],
+                totals[BoardCounters.HIGH_OVERDUE]);
+    }
+
+    /**
+     * 보드 카운터
+     *
+     * 활성 업무 수, 보류 업무 수와 종료 시간 버킷을 유지
+     * - upcoming: 아직 지연되지 않은 업무의 종료 시간별 (전체, 긴급, 높음) 업무 수
+     * - 조회/변경 시점까지 종료 시간이 지난 버킷은 지연 카운터로 이동 (시간은 되돌아가지 않음)
+     */
+    private static final class BoardCounters {
+
+        private static final int OVERDUE = 0;
+        private static final int PENDING = 1;
+        private static final int ACTIVE = 2;
+        private static final int URGENT_OVERDUE = 3;
+        private static final int HIGH_OVERDUE = 4;
+        private static final int SIZE = 5;
+
+        private final long loadTicket;
+        private final long expiresAt;
+
+        private final long[] counts = new long[SIZE];
+        private final TreeMap<LocalDateTime, long[]> upcoming = new TreeMap<>();
+        private LocalDateTime drainedUntil = LocalDateTime.MIN;
+
+        private BoardCounters(long loadTicket, long expiresAt) {
+            this.loadTicket = loadTicket;
+            this.expiresAt = expiresAt;
+        }
+
+        private synchronized void add(ItemState state, long delta, LocalDateTime now) {
+            if (state == null || !state.isActive()) {
+                return;
+            }
+
+            counts[ACTIVE] += delta;
+            if (Item.STATUS_PENDING.equals(state.status())) {
+                counts[PENDING] += delta;
+            }
+            if (state.endTime() == null) {
+                return;
+            }
+
+            drain(now);
+            long urgent = Item.PRIORITY_URGENT.equals(state.priority()) ? delta : 0;
+            long high = Item.PRIORITY_HIGH.equals(state.priority()) ? delta : 0;
+            if (state.endTime().isBefore(drainedUntil)) {
+                counts[OVERDUE] += delta;
+                counts[URGENT_OVERDUE] += urgent;
+                counts[HIGH_OVERDUE] += high;
+                return;
+            }
+
+            long[] bucket = upcoming.computeIfAbsent(state.endTime(), key -> new long[3]);
+            bucket[0] += delta;
+            bucket[1] += urgent;
+            bucket[2] += high;
+            if (bucket[0] == 0 && bucket[1] == 0 && bucket[2] == 0) {
+                upcoming.remove(state.endTime());
+            }
+        }
+
+        private synchronized void addTo(long[] totals, LocalDateTime now) {
+            drain(now);
+            for (int i = 0; i < SIZE; i++) {
+                totals[i] += counts[i];
+            }
+        }
+
+        private void drain(LocalDateTime now) {
+            if (now.isAfter(drainedUntil)) {
+                drainedUntil = now;
+            }
+            while (!upcoming.isEmpty() && upcoming.firstKey().isBefore(drainedUntil)) {
+                long[] bucket = upcoming.pollFirstEntry().getValue();
+                counts[OVERDUE] += bucket[0];
+                counts[URGENT_OVERDUE] += bucket[1];
+                counts[HIGH_OVERDUE] += bucket[2];
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.common.CountMode;
+import com.taskflow.common.ExpiringLruCache;
+import com.taskflow.config.PageCountCacheProperties;
+import com.taskflow.service.PageCountCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 페이징 목록 총 개수 서비스 구현
+ *
+ * 인메모리 캐시
+ * - COUNT 결과를 page-count-cache.ttl-seconds 동안 보관 (최대 page-count-cache.max-entries 건, 넘치면 가장 오래 사용되지 않은 항목부터 제거)
+ * - ESTIMATE 는 캐시 값을 현재 페이지로 확인된 범위로 보정
+ *   · 다음 페이지가 있으면 최소 offset + rows + 1
+ *   · 다음 페이지가 없으면 정확히 offset + rows (COUNT 없이 확정, 캐시 갱신)
+ * - 항목 변경 시 무효화하지 않으므로 TTL 동안의 오차는 허용 (정확한 값이 필요하면 EXACT)
+ */
+@Slf4j
+@Service
+public class PageCountCacheServiceImpl implements PageCountCacheService {
+
+    private final PageCountCacheProperties cacheProperties;
+
+    /**
+     * 총 개수 캐시
+     * Key: 목록 종류 + 필터 조건
+     */
+    private final ExpiringLruCache<String, Long> counts;
+
+    public PageCountCacheServiceImpl(PageCountCacheProperties cacheProperties) {
+        this.cacheProperties = cacheProperties;
+        this.counts = new ExpiringLruCache<>(cacheProperties::getMaxEntries);
+    }
+
+    @Override
+    public long resolveTotal(CountMode mode, String key, long offset, int rows, boolean hasNext,
+                             LongSupplier exactCount) {
+        if (mode == CountMode.NONE) {
+            return UNKNOWN;
+        }
+        if (mode == CountMode.EXACT) {
+            long total = exactCount.getAsLong();
+            store(key, total);
+            return total;
+        }
+
+        // 마지막 페이지면 COUNT 없이 확정 (범위를 벗어난 빈 페이지는 제외)
+        if (!hasNext && offset >= 0 && (rows > 0 || offset == 0)) {
+            long total = offset + rows;
+            store(key, total);
+            return total;
+        }
+
+        Long cached = counts.get(key, System.currentTimeMillis());
+        if (cached != null) {
+            long lowerBound = offset >= 0 ? offset + rows + (hasNext ? 1 : 0) : 0;
+            return Math.max(cached, lowerBound);
+        }
+
+        long total = exactCount.getAsLong();
+        store(key, total);
+        return total;
+    }
+
+    private void store(String key, long total) {
+        counts.put(key, total, System.currentTimeMillis() + cacheProperties.getTtlSeconds() * 1000);
+    }
+}
@@ -0,0 +1,255 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.common.ExpiringLruCache;
+import com.taskflow.config.PermissionCacheProperties;
+import com.taskflow.dto.board.PermissionCacheStatsResponse;
+import com.taskflow.service.PermissionCacheService;
+import com.taskflow.sse.CacheEviction;
+import com.taskflow.sse.CacheEvictionListener;
+import com.taskflow.sse.SseEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * 보드/업무 권한 캐시 서비스 구현
+ *
+ * 인메모리 캐시
+ * - 항목은 적재 후 permission-cache.ttl-seconds 가 지나면 만료
+ * - 보드 권한, 업무 권한 각각 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 권한 없음(null)도 캐싱하여 반복 조회 방지
+ * - 조회 도중 무효화가 발생하면 조회 결과를 캐싱하지 않음 (변경 이전 권한 보관 방지)
+ * - 커밋 후 무효화를 이벤트 버스로 다른 인스턴스에 전달 (sse.bus.type=DATABASE)
+ */
+@Slf4j
+@Service
+public class PermissionCacheServiceImpl implements PermissionCacheService, CacheEvictionListener {
+
+    private final PermissionCacheProperties cacheProperties;
+    private final SseEventBus eventBus;
+
+    /**
+     * 보드 권한 캐시
+     * Key: (boardId, userId), Value: 권한
+     */
+    private final ExpiringLruCache<BoardUserKey, CacheEntry> boardPermissions;
+
+    /**
+     * 업무 권한 캐시
+     * Key: (itemId, userId), Value: 권한 + 업무가 속한 보드 ID
+     */
+    private final ExpiringLruCache<ItemUserKey, CacheEntry> itemPermissions;
+
+    /**
+     * 무효화 세대 (무효화마다 증가)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PermissionCacheServiceImpl(PermissionCacheProperties cacheProperties, SseEventBus eventBus) {
+        this.cacheProperties = cacheProperties;
+        this.eventBus = eventBus;
+        this.boardPermissions = new ExpiringLruCache<>(cacheProperties::getMaxEntries);
+        this.itemPermissions = new ExpiringLruCache<>(cacheProperties::getMaxEntries);
+    }
+
+    @Override
+    public String getBoardPermission(Long boardId, Long userId, Supplier<String> loader) {
+        if (cacheProperties.getMaxEntries() <= 0) {
+            return loader.get();
+        }
+
+        BoardUserKey key = new BoardUserKey(boardId, userId);
+        CacheEntry cached = lookup(boardPermissions, key);
+        if (cached != null) {
+            return cached.permission();
+        }
+
+        long loadGeneration = generation.get();
+        String permission = loader.get();
+        store(boardPermissions, key, new CacheEntry(permission, boardId), loadGeneration);
+        return permission;
+    }
+
+    @Override
+    public String getItemPermission(Long itemId, Long userId, Supplier<ItemPermission> loader) {
+        if (cacheProperties.getMaxEntries() <= 0) {
+            ItemPermission loaded = loader.get();
+            return loaded != null ? loaded.permission() : null;
+        }
+
+        ItemUserKey key = new ItemUserKey(itemId, userId);
+        CacheEntry cached = lookup(itemPermissions, key);
+        if (cached != null) {
+            return cached.permission();
+        }
+
+        long loadGeneration = generation.get();
+        ItemPermission loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        store(itemPermissions, key, new CacheEntry(loaded.permission(), loaded.boardId()), loadGeneration);
+        return loaded.permission();
+    }
+
+    @Override
+    public void evictBoardUser(Long boardId, Long userId) {
+        log.debug("Evicting permission cache: boardId={}, userId={}", boardId, userId);
+        evictNowAndAfterCommit(() -> removeBoardUser(boardId, userId),
+                CacheEviction.permission(boardId, null, userId));
+    }
+
+    @Override
+    public void evictBoard(Long boardId) {
+        log.debug("Evicting permission cache: boardId={}", boardId);
+        evictNowAndAfterCommit(() -> removeBoard(boardId),
+                CacheEviction.permission(boardId, null, null));
+    }
+
+    @Override
+    public void evictItemUser(Long itemId, Long userId) {
+        log.debug("Evicting permission cache: itemId={}, userId={}", itemId, userId);
+        evictNowAndAfterCommit(() -> removeItemUser(itemId, userId),
+                CacheEviction.permission(null, itemId, userId));
+    }
+
+    @Override
+    public void evictItem(Long itemId) {
+        log.debug("Evicting permission cache: itemId={}", itemId);
+        evictNowAndAfterCommit(() -> removeItems((key, entry) -> key.itemId().equals(itemId)),
+                CacheEviction.permission(null, itemId, null));
+    }
+
+    /**
+     * 다른 인스턴스의 권한 변경 반영 (이미 커밋된 변경이므로 한 번만 무효화)
+     */
+    @Override
+    public void onRemoteEviction(CacheEviction eviction) {
+        if (!eviction.isFor(CacheEviction.PERMISSION)) {
+            return;
+        }
+        log.debug("Evicting permission cache from another instance: {}", eviction);
+        generation.incrementAndGet();
+        Long boardId = eviction.boardId();
+        Long itemId = eviction.itemId();
+        Long userId = eviction.userId();
+        if (itemId != null) {
+            if (userId != null) {
+                removeItemUser(itemId, userId);
+            } else {
+                removeItems((key, entry) -> key.itemId().equals(itemId));
+            }
+        } else if (boardId != null) {
+            if (userId != null) {
+                removeBoardUser(boardId, userId);
+            } else {
+                removeBoard(boardId);
+            }
+        }
+    }
+
+    @Override
+    public PermissionCacheStatsResponse getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        return PermissionCacheStatsResponse.builder()
+                .boardEntries(boardPermissions.size())
+                .itemEntries(itemPermissions.size())
+                .maxEntries(cacheProperties.getMaxEntries())
+                .ttlSeconds(cacheProperties.getTtlSeconds())
+                .hits(hitCount)
+                .misses(missCount)
+                .evictions(boardPermissions.getEvictionCount() + itemPermissions.getEvictionCount())
+                .invalidations(invalidations.get())
+                .hitRate(total == 0 ? 0 : (double) hitCount / total)
+                .build();
+    }
+
+    // =============================================
+    // 내부
+    // =============================================
+
+    private <K> CacheEntry lookup(ExpiringLruCache<K, CacheEntry> cache, K key) {
+        CacheEntry cached = cache.get(key, System.currentTimeMillis());
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private <K> void store(ExpiringLruCache<K, CacheEntry> cache, K key, CacheEntry entry, long loadGeneration) {
+        cache.putIf(key, entry, expiresAt(), () -> generation.get() == loadGeneration);
+    }
+
+    private void removeBoardUser(Long boardId, Long userId) {
+        if (boardPermissions.remove(new BoardUserKey(boardId, userId)) != null) {
+            invalidations.incrementAndGet();
+        }
+        removeItems((key, entry) -> key.userId().equals(userId) && boardId.equals(entry.boardId()));
+    }
+
+    private void removeBoard(Long boardId) {
+        invalidations.addAndGet(boardPermissions.removeIf((key, entry) -> key.boardId().equals(boardId)));
+        removeItems((key, entry) -> boardId.equals(entry.boardId()));
+    }
+
+    private void removeItemUser(Long itemId, Long userId) {
+        if (itemPermissions.remove(new ItemUserKey(itemId, userId)) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    private void removeItems(BiPredicate<ItemUserKey, CacheEntry> matcher) {
+        invalidations.addAndGet(itemPermissions.removeIf(matcher));
+    }
+
+    /**
+     * 즉시 무효화 + 트랜잭션 커밋 후 재무효화
+     * (커밋 전에 다른 요청이 변경 이전 권한을 다시 캐싱한 경우 제거)
+     * 커밋된 변경만 다른 인스턴스에 전달합니다.
+     */
+    private void evictNowAndAfterCommit(Runnable eviction, CacheEviction remote) {
+        generation.incrementAndGet();
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventBus.publishEviction(remote);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                generation.incrementAndGet();
+                eviction.run();
+                eventBus.publishEviction(remote);
+            }
+        });
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + cacheProperties.getTtlSeconds() * 1000;
+    }
+
+    private record BoardUserKey(Long boardId, Long userId) {
+    }
+
+    private record ItemUserKey(Long itemId, Long userId) {
+    }
+
+    /**
+     * 캐시 항목 (권한 + 보드 ID)
+     */
+    private record CacheEntry(String permission, Long boardId) {
+    }
+}
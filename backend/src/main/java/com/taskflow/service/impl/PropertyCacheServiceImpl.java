@@ -1,22 +1,37 @@
 package com.taskflow.service.impl;
 
+import com.taskflow.config.PropertyCacheProperties;
 import com.taskflow.domain.PropertyDef;
+import com.taskflow.dto.property.PropertyCacheStatsResponse;
 import com.taskflow.mapper.PropertyDefMapper;
+import com.taskflow.service.BoardPropertyIndex;
 import com.taskflow.service.PropertyCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 속성 정의 캐시 서비스 구현
  *
  * ConcurrentHashMap 기반의 인메모리 캐시
- * - 보드별로 속성 정의 목록 캐싱
- * - 속성/옵션 변경 시 해당 보드 캐시 무효화
+ * - 보드별로 속성 정의 목록 캐싱 (최대 property-cache.max-boards 개)
+ * - 적재 후 property-cache.ttl-seconds 가 지나면 만료
+ * - 크기 초과 시 가장 오래 사용되지 않은 보드부터 제거
+ * - 같은 보드의 동시 미스는 한 번만 DB 조회 (나머지는 조회 결과 대기)
+ * - 속성/옵션 변경 시 해당 보드 캐시 무효화 (트랜잭션 커밋 후 한 번 더)
+ * - 캐시에 없는 옵션 확인을 위한 갱신은 보드별 property-cache.min-refresh-seconds 에 한 번
+ * - 캐시 항목은 DB 조회 결과의 복사본이며, 조회 시에도 복사본을 반환 (호출자가 수정해도 캐시에 영향 없음)
+ * - 속성 ID/옵션 ID 조회 구조(BoardPropertyIndex)를 함께 보관하여 아이템 속성값 저장 시 DB 조회 생략
  */
 @Slf4j
 @Service
@@ -24,46 +39,220 @@ import java.util.concurrent.ConcurrentHashMap;
 public class PropertyCacheServiceImpl implements PropertyCacheService {
 
     private final PropertyDefMapper propertyDefMapper;
+    private final PropertyCacheProperties cacheProperties;
 
     /**
      * 보드별 속성 정의 캐시
      * Key: boardId, Value: 속성 정의 목록 (옵션 포함)
      */
-    private final Map<Long, List<PropertyDef>> propertyCache = new ConcurrentHashMap<>();
+    private final Map<Long, CacheEntry> propertyCache = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 중인 보드 (single-flight)
+     */
+    private final Map<Long, CompletableFuture<BoardPropertyIndex>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
 
     @Override
     public List<PropertyDef> getPropertiesByBoardId(Long boardId) {
+        return getBoardProperties(boardId).getProperties();
+    }
+
+    @Override
+    public BoardPropertyIndex getBoardProperties(Long boardId) {
+        long now = System.currentTimeMillis();
+
         // 캐시에서 조회
-        List<PropertyDef> cached = propertyCache.get(boardId);
+        CacheEntry cached = propertyCache.get(boardId);
         if (cached != null) {
-            log.debug("Property cache hit: boardId={}", boardId);
-            return cached;
+            if (!cached.isExpired(now)) {
+                cached.lastAccessAt = now;
+                hits.incrementAndGet();
+                return cached.index;
+            }
+            if (propertyCache.remove(boardId, cached)) {
+                evictions.incrementAndGet();
+            }
         }
 
         // 캐시 미스: DB에서 조회 후 캐싱
         log.debug("Property cache miss: boardId={}", boardId);
-        List<PropertyDef> properties = propertyDefMapper.findByBoardIdWithOptions(boardId, "Y");
-        propertyCache.put(boardId, properties);
-
-        return properties;
+        misses.incrementAndGet();
+        return load(boardId);
     }
 
     @Override
     public void evictBoardCache(Long boardId) {
         log.info("Evicting property cache: boardId={}", boardId);
-        propertyCache.remove(boardId);
+        evict(boardId);
+
+        // 트랜잭션 안에서 호출된 경우, 커밋 전에 다시 적재된 변경 이전 데이터를 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(boardId);
+                }
+            });
+        }
     }
 
     @Override
     public void evictAllCache() {
         log.info("Evicting all property cache");
+        loading.clear();
+        invalidations.addAndGet(propertyCache.size());
         propertyCache.clear();
     }
 
     @Override
     public void refreshBoardCache(Long boardId) {
+        refresh(boardId);
+    }
+
+    @Override
+    public BoardPropertyIndex refreshBoardCacheIfStale(Long boardId) {
+        long now = System.currentTimeMillis();
+        CacheEntry cached = propertyCache.get(boardId);
+        if (cached == null || cached.isExpired(now)) {
+            return getBoardProperties(boardId);
+        }
+
+        // 최근 적재했거나 다른 요청이 이미 갱신 중이면 현재 캐시 사용
+        if (now - cached.loadedAt < cacheProperties.getMinRefreshSeconds() * 1000
+                || !cached.refreshClaimed.compareAndSet(false, true)) {
+            cached.lastAccessAt = now;
+            return cached.index;
+        }
+        return refresh(boardId);
+    }
+
+    @Override
+    public PropertyCacheStatsResponse getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        return PropertyCacheStatsResponse.builder()
+                .size(propertyCache.size())
+                .maxSize(cacheProperties.getMaxBoards())
+                .ttlSeconds(cacheProperties.getTtlSeconds())
+                .hits(hitCount)
+                .misses(missCount)
+                .loads(loads.get())
+                .evictions(evictions.get())
+                .invalidations(invalidations.get())
+                .hitRate(total == 0 ? 0 : (double) hitCount / total)
+                .build();
+    }
+
+    // =============================================
+    // 내부
+    // =============================================
+
+    private BoardPropertyIndex refresh(Long boardId) {
         log.info("Refreshing property cache: boardId={}", boardId);
-        List<PropertyDef> properties = propertyDefMapper.findByBoardIdWithOptions(boardId, "Y");
-        propertyCache.put(boardId, properties);
+        loading.remove(boardId);
+        BoardPropertyIndex loaded = new BoardPropertyIndex(propertyDefMapper.findByBoardIdWithOptions(boardId, "Y"));
+        loads.incrementAndGet();
+        put(boardId, loaded);
+        return loaded;
+    }
+
+    private void evict(Long boardId) {
+        // 조회 중인 결과는 변경 이전 데이터일 수 있으므로 캐시에 저장되지 않도록 함께 제거
+        loading.remove(boardId);
+        if (propertyCache.remove(boardId) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * 보드 속성 조회 (동시 미스는 먼저 시작한 조회 결과를 공유)
+     */
+    private BoardPropertyIndex load(Long boardId) {
+        CompletableFuture<BoardPropertyIndex> future = new CompletableFuture<>();
+        CompletableFuture<BoardPropertyIndex> inFlight = loading.putIfAbsent(boardId, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            BoardPropertyIndex loaded = new BoardPropertyIndex(propertyDefMapper.findByBoardIdWithOptions(boardId, "Y"));
+            loads.incrementAndGet();
+            // 조회 도중 무효화되지 않은 경우에만 캐싱
+            if (loading.get(boardId) == future) {
+                put(boardId, loaded);
+            }
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(boardId, future);
+        }
+    }
+
+    private BoardPropertyIndex await(CompletableFuture<BoardPropertyIndex> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 저장 (최대 크기 초과 시 가장 오래 사용되지 않은 보드 제거)
+     */
+    private void put(Long boardId, BoardPropertyIndex loaded) {
+        long now = System.currentTimeMillis();
+        propertyCache.put(boardId, new CacheEntry(loaded, now + cacheProperties.getTtlSeconds() * 1000));
+
+        while (propertyCache.size() > cacheProperties.getMaxBoards()) {
+            Map.Entry<Long, CacheEntry> eldest = null;
+            for (Map.Entry<Long, CacheEntry> entry : propertyCache.entrySet()) {
+                if (eldest == null || entry.getValue().lastAccessAt < eldest.getValue().lastAccessAt) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                break;
+            }
+            if (propertyCache.remove(eldest.getKey(), eldest.getValue())) {
+                evictions.incrementAndGet();
+                log.debug("Property cache evicted (size): boardId={}", eldest.getKey());
+            }
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static final class CacheEntry {
+
+        private final BoardPropertyIndex index;
+        private final long loadedAt;
+        private final long expiresAt;
+        private final AtomicBoolean refreshClaimed = new AtomicBoolean();
+        private volatile long lastAccessAt;
+
+        private CacheEntry(BoardPropertyIndex index, long expiresAt) {
+            this.index = index;
+            this.loadedAt = System.currentTimeMillis();
+            this.expiresAt = expiresAt;
+            this.lastAccessAt = loadedAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
     }
 }
@@ -8,6 +8,7 @@ import com.taskflow.dto.template.TaskTemplateUpdateRequest;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.TaskTemplateMapper;
 import com.taskflow.service.TaskTemplateService;
+import com.taskflow.service.TemplateSearchCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ import java.util.List;
 public class TaskTemplateServiceImpl implements TaskTemplateService {
 
     private final TaskTemplateMapper taskTemplateMapper;
+    private final TemplateSearchCacheService templateSearchCacheService;
 
     /**
      * 자동완성 검색 시 최대 결과 수
@@ -62,8 +64,8 @@ public class TaskTemplateServiceImpl implements TaskTemplateService {
             return List.of();
         }
 
-        List<TaskTemplate> templates = taskTemplateMapper.searchByKeyword(keyword.trim(), SEARCH_LIMIT);
-        return TaskTemplateSearchResponse.fromList(templates);
+        // 메모리 검색 구조에서 조회 (초성 검색 지원, DB 조회 없음)
+        return templateSearchCacheService.search(keyword, SEARCH_LIMIT);
     }
 
     // =============================================
@@ -112,6 +114,7 @@ public class TaskTemplateServiceImpl implements TaskTemplateService {
 
         // 템플릿 저장
         taskTemplateMapper.insert(template);
+        templateSearchCacheService.evict();
         log.info("Task template created: id={}", template.getTemplateId());
 
         return getTemplate(template.getTemplateId());
@@ -151,6 +154,7 @@ public class TaskTemplateServiceImpl implements TaskTemplateService {
         template.setUpdatedBy(updatedBy);
 
         taskTemplateMapper.update(template);
+        templateSearchCacheService.evict();
         log.info("Task template updated: id={}", templateId);
 
         return getTemplate(templateId);
@@ -166,6 +170,7 @@ public class TaskTemplateServiceImpl implements TaskTemplateService {
                 .orElseThrow(() -> BusinessException.templateNotFound(templateId));
 
         taskTemplateMapper.delete(templateId);
+        templateSearchCacheService.evict();
         log.info("Task template deleted: id={}", templateId);
     }
 
@@ -178,6 +183,7 @@ public class TaskTemplateServiceImpl implements TaskTemplateService {
         taskTemplateMapper.findById(templateId)
                 .orElseThrow(() -> BusinessException.templateNotFound(templateId));
 
+        // 자동완성 순위의 사용 횟수는 검색 구조 재구성 시 반영 (template-search-cache.ttl-seconds)
         taskTemplateMapper.incrementUseCount(templateId);
     }
 }
@@ -0,0 +1,115 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.config.TemplateSearchCacheProperties;
+import com.taskflow.dto.template.TaskTemplateSearchResponse;
+import com.taskflow.mapper.TaskTemplateMapper;
+import com.taskflow.service.TemplateSearchCacheService;
+import com.taskflow.service.TemplateSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작업 템플릿 자동완성 검색 캐시 서비스 구현
+ *
+ * 활성 템플릿 전체로 만든 검색 구조 하나를 보관
+ * - 적재 후 template-search-cache.ttl-seconds 가 지나면 만료
+ * - 동시 미스는 한 번만 DB 조회 (나머지는 재구성 결과 사용)
+ * - 무효화 시 즉시 제거하고 트랜잭션 커밋 후 한 번 더 제거
+ * - 재구성 도중 무효화되면 결과를 저장하지 않음 (변경 이전 데이터일 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TemplateSearchCacheServiceImpl implements TemplateSearchCacheService {
+
+    private final TaskTemplateMapper taskTemplateMapper;
+    private final TemplateSearchCacheProperties cacheProperties;
+
+    /**
+     * 검색 구조 캐시
+     */
+    private volatile CacheEntry cache;
+
+    /**
+     * 무효화 횟수 (재구성 도중 무효화 여부 확인)
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    private final Object loadLock = new Object();
+
+    @Override
+    public List<TaskTemplateSearchResponse> search(String keyword, int limit) {
+        return getIndex().search(keyword, limit);
+    }
+
+    @Override
+    public void evict() {
+        log.debug("Evicting template search cache");
+        invalidate();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    // =============================================
+    // 내부
+    // =============================================
+
+    private TemplateSearchIndex getIndex() {
+        CacheEntry cached = cache;
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached.index;
+        }
+
+        synchronized (loadLock) {
+            long now = System.currentTimeMillis();
+            cached = cache;
+            if (cached != null && !cached.isExpired(now)) {
+                return cached.index;
+            }
+
+            long loadingVersion = version.get();
+            TemplateSearchIndex index = new TemplateSearchIndex(taskTemplateMapper.findAllActive());
+            log.debug("Template search index rebuilt: {} templates", index.size());
+            if (version.get() == loadingVersion) {
+                cache = new CacheEntry(index, now + cacheProperties.getTtlSeconds() * 1000);
+            }
+            return index;
+        }
+    }
+
+    private void invalidate() {
+        version.incrementAndGet();
+        cache = null;
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static final class CacheEntry {
+
+        private final TemplateSearchIndex index;
+        private final long expiresAt;
+
+        private CacheEntry(TemplateSearchIndex index, long expiresAt) {
+            this.index = index;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import com.taskflow.dto.user.*;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.UserGroupMapper;
 import com.taskflow.mapper.UserMapper;
+import com.taskflow.service.DirectoryCacheService;
+import com.taskflow.service.PageCountCacheService;
 import com.taskflow.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +32,13 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final UserGroupMapper userGroupMapper;
     private final PasswordEncoder passwordEncoder;
+    private final DirectoryCacheService directoryCacheService;
+    private final PageCountCacheService pageCountCacheService;
+
+    /**
+     * 사용자 검색 최대 결과 수
+     */
+    private static final int MAX_SEARCH_LIMIT = 50;
 
     // =============================================
     // 조회
@@ -72,13 +81,16 @@ public class UserServiceImpl implements UserService {
     @Override
     public PageResponse<UserResponse> getUsers(UserSearchRequest request) {
         List<User> users = userMapper.findAll(request);
-        long totalCount = userMapper.countAll(request);
+        boolean hasNext = PageCountCacheService.trimProbeRow(users, request.getSize());
+        long totalCount = pageCountCacheService.resolveTotal(request.getCountMode(),
+                "users|" + request.countKey(), request.getOffset(), users.size(), hasNext,
+                () -> userMapper.countAll(request));
 
         List<UserResponse> content = users.stream()
                 .map(UserResponse::from)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(content, request.getPage(), request.getSize(), totalCount);
+        return PageResponse.of(content, request.getPage(), request.getSize(), totalCount, hasNext);
     }
 
     @Override
@@ -88,6 +100,21 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserResponse> searchUsers(String keyword, Long departmentId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return directoryCacheService.searchUsers(keyword, departmentId, size).stream()
+                .map(user -> UserResponse.builder()
+                        .userId(user.userId())
+                        .username(user.username())
+                        .name(user.name())
+                        .departmentId(user.departmentId())
+                        .departmentName(user.departmentName())
+                        .useYn("Y")
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     // =============================================
     // 등록/수정/삭제
     // =============================================
@@ -124,6 +151,8 @@ public class UserServiceImpl implements UserService {
 
         // 그룹 매핑 추가
         saveUserGroups(user.getUserId(), request.getGroupIds(), createdBy);
+        directoryCacheService.evictUser(user.getUserId());
+        directoryCacheService.evictGroups();
 
         // 생성된 사용자 조회하여 반환
         return getUser(user.getUserId());
@@ -156,12 +185,14 @@ public class UserServiceImpl implements UserService {
 
         // 저장
         userMapper.update(user);
+        directoryCacheService.evictUser(userId);
         log.info("User updated: userId={}", userId);
 
         // 그룹 매핑 갱신 (기존 그룹 삭제 후 새 그룹 추가)
         if (request.getGroupIds() != null) {
             userGroupMapper.deleteByUserId(userId);
             saveUserGroups(userId, request.getGroupIds(), updatedBy);
+            directoryCacheService.evictGroups();
         }
 
         // 수정된 사용자 조회하여 반환
@@ -209,6 +240,8 @@ public class UserServiceImpl implements UserService {
 
         // 삭제 (논리 삭제로 변경하려면 deactivate 사용)
         userMapper.delete(userId);
+        directoryCacheService.evictUser(userId);
+        directoryCacheService.evictGroups();
         log.info("User deleted: userId={}", userId);
     }
 
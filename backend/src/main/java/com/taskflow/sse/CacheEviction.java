@@ -0,0 +1,36 @@
+package com.taskflow.sse;
+
+/**
+ * 다른 서버 인스턴스에 전달하는 캐시 무효화 요청
+ *
+ * 설정된 ID 조합으로 무효화 범위를 나타냅니다.
+ * - 권한 캐시: (boardId, userId), (boardId), (itemId, userId), (itemId)
+ * - 업무 통계 카운터: (boardId)
+ *
+ * @param cache   대상 캐시 (PERMISSION, ITEM_STATS)
+ * @param boardId 보드 ID
+ * @param itemId  업무 ID
+ * @param userId  사용자 ID
+ */
+public record CacheEviction(String cache, Long boardId, Long itemId, Long userId) {
+
+    /**
+     * outbox 이벤트 타입 (SSE 구독자에게는 전송하지 않음)
+     */
+    public static final String EVENT_TYPE = "cache:evict";
+
+    public static final String PERMISSION = "permission";
+    public static final String ITEM_STATS = "item-stats";
+
+    public static CacheEviction permission(Long boardId, Long itemId, Long userId) {
+        return new CacheEviction(PERMISSION, boardId, itemId, userId);
+    }
+
+    public static CacheEviction itemStats(Long boardId) {
+        return new CacheEviction(ITEM_STATS, boardId, null, null);
+    }
+
+    public boolean isFor(String cacheName) {
+        return cacheName.equals(cache);
+    }
+}
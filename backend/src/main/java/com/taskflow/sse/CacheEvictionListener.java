@@ -0,0 +1,15 @@
+package com.taskflow.sse;
+
+/**
+ * 다른 서버 인스턴스에서 전달된 캐시 무효화 수신
+ *
+ * 인스턴스별 인메모리 캐시가 구현하며, 이벤트 버스가 outbox 폴링 중 호출합니다.
+ * 수신한 무효화는 다시 전달하지 않습니다.
+ */
+public interface CacheEvictionListener {
+
+    /**
+     * 캐시 무효화 적용 (대상 캐시가 아니면 무시)
+     */
+    void onRemoteEviction(CacheEviction eviction);
+}
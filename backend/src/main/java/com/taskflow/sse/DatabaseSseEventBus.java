@@ -0,0 +1,324 @@
+package com.taskflow.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.domain.SseOutbox;
+import com.taskflow.dto.sse.SseBusStatsResponse;
+import com.taskflow.dto.sse.SseEvent;
+import com.taskflow.mapper.SseOutboxMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MySQL outbox 기반 SSE 이벤트 버스
+ *
+ * 발행 인스턴스는 이벤트를 TB_SSE_OUTBOX 에 기록하고, 각 인스턴스는 outbox 를 주기적으로 폴링하여
+ * 자신의 구독자에게 전송합니다.
+ *
+ * 모든 인스턴스가 outbox ID 순서대로 전송하고 outbox ID 를 SSE 이벤트 ID 로 사용하므로,
+ * 클라이언트가 다른 인스턴스로 재연결해도 Last-Event-ID 이후의 이벤트를 재전송할 수 있습니다.
+ * 발행 인스턴스는 기록한 ID 가 바로 다음 순번이면 폴링을 기다리지 않고 즉시 전송합니다.
+ *
+ * 캐시 무효화(cache:evict)도 outbox 에 기록하며, 다른 인스턴스는 폴링 중 CacheEvictionListener 로
+ * 자신의 캐시를 무효화합니다. (SSE 구독자에게는 전송하지 않음)
+ *
+ * AUTO_INCREMENT ID 는 커밋 순서와 다를 수 있으므로 ID 구간이 비어 있으면 확인 후 건너뜁니다.
+ * outbox 기록은 단일 INSERT(autocommit)이므로, 빈 ID 뒤의 이벤트가 기록된 지 gap-timeout-ms 가
+ * 지났다면 빈 ID 는 실패/롤백으로 생긴 빈 번호입니다. 그보다 최근일 때만 커밋을 기다립니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.bus.type", havingValue = "DATABASE")
+public class DatabaseSseEventBus implements SseEventBus {
+
+    /**
+     * 1회 정리 작업에서 삭제할 최대 건수
+     */
+    private static final int PURGE_BATCH_SIZE = 5000;
+
+    private final SseOutboxMapper outboxMapper;
+    private final SseEventEncoder eventEncoder;
+    private final SseEmitterManager emitterManager;
+    private final SseProperties.Bus properties;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor taskExecutor;
+
+    /**
+     * 캐시 무효화 수신 대상 (캐시 서비스가 이벤트 버스를 참조하므로 지연 조회)
+     */
+    private final ObjectProvider<CacheEvictionListener> evictionListeners;
+
+    /**
+     * 현재 인스턴스 ID
+     */
+    private final String nodeId;
+
+    /**
+     * 전송 순서 잠금 (lastOutboxId 갱신과 전송을 outbox ID 순서로 직렬화)
+     */
+    private final Object deliveryLock = new Object();
+
+    /**
+     * 마지막으로 전송한 outbox ID
+     */
+    private volatile long lastOutboxId;
+
+    /**
+     * 버스 통계
+     */
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder skippedGaps = new LongAdder();
+    private final LongAdder evictionsPublished = new LongAdder();
+    private final LongAdder evictionsReceived = new LongAdder();
+    private final LongAdder lagTotal = new LongAdder();
+    private final AtomicLong lastLag = new AtomicLong();
+    private final AtomicLong maxLag = new AtomicLong();
+
+    public DatabaseSseEventBus(SseOutboxMapper outboxMapper,
+                               SseEventEncoder eventEncoder,
+                               SseEmitterManager emitterManager,
+                               SseProperties sseProperties,
+                               ObjectMapper objectMapper,
+                               @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                               ObjectProvider<CacheEvictionListener> evictionListeners) {
+        this.outboxMapper = outboxMapper;
+        this.eventEncoder = eventEncoder;
+        this.emitterManager = emitterManager;
+        this.properties = sseProperties.getBus();
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.evictionListeners = evictionListeners;
+        this.nodeId = StringUtils.hasText(properties.getNodeId())
+                ? properties.getNodeId()
+                : UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    public void init() {
+        // 기동 이전 이벤트는 전달하지 않음
+        lastOutboxId = outboxMapper.findMaxId();
+        emitterManager.useExternalEventIds(lastOutboxId);
+        log.info("Database SSE event bus initialized: nodeId={}, lastOutboxId={}, pollInterval={}ms",
+                nodeId, lastOutboxId, properties.getPollIntervalMs());
+    }
+
+    // =============================================
+    // 발행
+    // =============================================
+
+    @Override
+    public void publish(SseEvent<?> event) {
+        if (event.getBoardId() == null) {
+            log.warn("Board ID is null, cannot publish event");
+            return;
+        }
+
+        SseFrame frame = eventEncoder.encode(event);
+        if (frame == null) {
+            return;
+        }
+
+        SseOutbox outbox = SseOutbox.builder()
+                .originNode(nodeId)
+                .boardId(event.getBoardId())
+                .eventType(event.getType())
+                .payload(new String(frame.getData(), StandardCharsets.UTF_8))
+                .triggeredBy(event.getTriggeredBy())
+                .build();
+        try {
+            outboxMapper.insert(outbox);
+        } catch (Exception e) {
+            // 다른 인스턴스 전달에 실패해도 로컬 구독자에게는 전송 (이벤트 ID 없음, 재전송 불가)
+            log.error("Failed to write SSE outbox: type={}, boardId={}", event.getType(), event.getBoardId(), e);
+            emitterManager.sendToBoardWithoutId(event.getBoardId(), event.getTriggeredBy(), frame);
+            return;
+        }
+
+        published.increment();
+
+        // 바로 다음 순번이면 즉시 전송, 아니면 앞선 이벤트와의 순서를 지키도록 폴링에서 전송
+        synchronized (deliveryLock) {
+            if (outbox.getOutboxId() == lastOutboxId + 1) {
+                lastOutboxId = outbox.getOutboxId();
+                emitterManager.sendToBoard(event.getBoardId(), event.getTriggeredBy(), frame, lastOutboxId);
+            }
+        }
+    }
+
+    /**
+     * 캐시 무효화 기록 (커밋 중인 트랜잭션과 분리하도록 전송 스레드에서 기록)
+     */
+    @Override
+    public void publishEviction(CacheEviction eviction) {
+        try {
+            taskExecutor.execute(() -> writeEviction(eviction));
+        } catch (RejectedExecutionException e) {
+            log.warn("SSE event executor rejected cache eviction, writing inline");
+            writeEviction(eviction);
+        }
+    }
+
+    private void writeEviction(CacheEviction eviction) {
+        try {
+            outboxMapper.insert(SseOutbox.builder()
+                    .originNode(nodeId)
+                    // 업무 단위 무효화는 보드 ID 가 없음 (BOARD_ID NOT NULL)
+                    .boardId(eviction.boardId() != null ? eviction.boardId() : 0L)
+                    .eventType(CacheEviction.EVENT_TYPE)
+                    .payload(objectMapper.writeValueAsString(eviction))
+                    .build());
+            evictionsPublished.increment();
+        } catch (Exception e) {
+            // 다른 인스턴스는 캐시 TTL 이 지나면 반영
+            log.error("Failed to write cache eviction to SSE outbox: {}", eviction, e);
+        }
+    }
+
+    // =============================================
+    // 폴링
+    // =============================================
+
+    /**
+     * outbox 이벤트 폴링 (ID 순서대로 전송)
+     */
+    @Scheduled(fixedDelayString = "${sse.bus.poll-interval-ms:200}")
+    public void poll() {
+        List<SseOutbox> rows;
+        try {
+            rows = outboxMapper.findAfter(lastOutboxId, properties.getBatchSize());
+        } catch (Exception e) {
+            log.warn("Failed to poll SSE outbox: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (deliveryLock) {
+            for (SseOutbox row : rows) {
+                // 조회 이후 발행 인스턴스가 직접 전송한 이벤트
+                if (row.getOutboxId() <= lastOutboxId) {
+                    continue;
+                }
+                if (row.getOutboxId() != lastOutboxId + 1) {
+                    // 아직 커밋되지 않은 이벤트일 수 있으면 다음 폴링까지 대기
+                    if (!isHole(row)) {
+                        break;
+                    }
+                    skippedGaps.increment();
+                    log.debug("Skipping SSE outbox gap: {} -> {}", lastOutboxId, row.getOutboxId());
+                }
+
+                lastOutboxId = row.getOutboxId();
+                deliver(row);
+            }
+        }
+    }
+
+    /**
+     * 빈 ID 구간이 커밋될 수 없는 빈 번호인지 확인
+     *
+     * 빈 ID 는 next 보다 먼저 발급되었으므로, next 가 기록된 지(DB 시각 기준) gap-timeout-ms 가 지났다면
+     * 빈 ID 의 INSERT 도 그 이전에 시작되어 이미 커밋되었거나 실패한 것입니다.
+     *
+     * @param next 빈 구간 바로 뒤의 이벤트
+     */
+    private boolean isHole(SseOutbox next) {
+        return next.getLagMs() != null && next.getLagMs() >= properties.getGapTimeoutMs();
+    }
+
+    /**
+     * outbox 이벤트를 로컬 구독자에게 전송 (호출자는 deliveryLock 을 잠근 상태여야 함)
+     */
+    private void deliver(SseOutbox row) {
+        if (CacheEviction.EVENT_TYPE.equals(row.getEventType())) {
+            if (!nodeId.equals(row.getOriginNode())) {
+                applyEviction(row);
+            }
+            return;
+        }
+
+        SseFrame frame = new SseFrame(row.getEventType(), row.getPayload().getBytes(StandardCharsets.UTF_8));
+        emitterManager.sendToBoard(row.getBoardId(), row.getTriggeredBy(), frame, row.getOutboxId());
+
+        // 수신 통계는 다른 인스턴스가 기록한 이벤트만 집계
+        if (nodeId.equals(row.getOriginNode())) {
+            return;
+        }
+        long lag = row.getLagMs() != null ? row.getLagMs() : 0L;
+        received.increment();
+        lagTotal.add(lag);
+        lastLag.set(lag);
+        maxLag.accumulateAndGet(lag, Math::max);
+    }
+
+    /**
+     * 다른 인스턴스의 캐시 무효화를 현재 인스턴스 캐시에 적용
+     */
+    private void applyEviction(SseOutbox row) {
+        CacheEviction eviction;
+        try {
+            eviction = objectMapper.readValue(row.getPayload(), CacheEviction.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid cache eviction in SSE outbox: id={}", row.getOutboxId());
+            return;
+        }
+        evictionsReceived.increment();
+        evictionListeners.forEach(listener -> {
+            try {
+                listener.onRemoteEviction(eviction);
+            } catch (Exception e) {
+                log.error("Failed to apply cache eviction: {}", eviction, e);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 outbox 이벤트 정리 (1분 주기)
+     */
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void purge() {
+        try {
+            int deleted = outboxMapper.deleteOlderThan(properties.getRetentionMinutes(), PURGE_BATCH_SIZE);
+            if (deleted > 0) {
+                log.debug("Purged {} SSE outbox events", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge SSE outbox: {}", e.getMessage());
+        }
+    }
+
+    // =============================================
+    // 통계
+    // =============================================
+
+    @Override
+    public SseBusStatsResponse getStats() {
+        long receivedCount = received.sum();
+        return SseBusStatsResponse.builder()
+                .type("DATABASE")
+                .nodeId(nodeId)
+                .published(published.sum())
+                .received(receivedCount)
+                .lastOutboxId(lastOutboxId)
+                .skippedGaps(skippedGaps.sum())
+                .evictionsPublished(evictionsPublished.sum())
+                .evictionsReceived(evictionsReceived.sum())
+                .lastLagMs(lastLag.get())
+                .avgLagMs(receivedCount > 0 ? (double) lagTotal.sum() / receivedCount : 0)
+                .maxLagMs(maxLag.get())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.sse;
+
+import com.taskflow.dto.sse.SseBusStatsResponse;
+import com.taskflow.dto.sse.SseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단일 인스턴스 SSE 이벤트 버스
+ *
+ * 이벤트를 현재 인스턴스의 구독자에게 바로 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sse.bus.type", havingValue = "LOCAL", matchIfMissing = true)
+public class LocalSseEventBus implements SseEventBus {
+
+    private final SseEmitterManager emitterManager;
+
+    private final LongAdder published = new LongAdder();
+
+    @Override
+    public void publish(SseEvent<?> event) {
+        published.increment();
+        emitterManager.sendToBoard(event);
+    }
+
+    @Override
+    public SseBusStatsResponse getStats() {
+        return SseBusStatsResponse.builder()
+                .type("LOCAL")
+                .published(published.sum())
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.taskflow.sse;
+
+import com.taskflow.dto.sse.SseSubscription;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * SSE 전송 디스패처
+ *
+ * 이벤트 발행 스레드는 연결별 대기열에 프레임을 넣기만 하고,
+ * 실제 SseEmitter.send 는 전용 전송 스레드 풀에서 수행합니다.
+ * 느린 구독자 한 명이 다른 구독자의 전송을 지연시키지 않으며,
+ * 대기열이 가득 찬 구독자는 설정된 정책(DROP, DISCONNECT)에 따라 처리됩니다.
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final SseProperties.Dispatch properties;
+
+    private final ExecutorService writers;
+
+    /**
+     * 전송 통계
+     * - enqueued: 대기열에 추가된 프레임 수
+     * - sent: 전송 완료된 프레임 수
+     * - dropped: 대기열 초과로 버려진 프레임 수
+     * - evicted: 대기열 초과로 연결 종료된 구독자 수
+     * - failed: 전송 오류로 연결 종료된 구독자 수
+     */
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SseDispatcher(SseProperties sseProperties) {
+        this.properties = sseProperties.getDispatch();
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.writers = Executors.newFixedThreadPool(properties.getWriterThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("SSE dispatcher initialized: writerThreads={}, queueCapacity={}, overflowPolicy={}",
+                properties.getWriterThreads(), properties.getQueueCapacity(), properties.getOverflowPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Shutting down SSE dispatcher...");
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(5, TimeUnit.SECONDS)) {
+                writers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 연결별 전송 대기열 생성
+     */
+    public SseOutboundQueue newQueue() {
+        return new SseOutboundQueue(properties.getQueueCapacity());
+    }
+
+    /**
+     * 프레임 전송 요청
+     *
+     * 프레임을 구독자 대기열에 추가하고 전송 작업을 예약합니다.
+     *
+     * @param subscription 구독 정보
+     * @param frame        인코딩된 프레임
+     * @param onClose      대기열 초과(DISCONNECT) 또는 전송 오류로 연결을 종료해야 할 때 호출
+     * @return 대기열 추가 여부
+     */
+    public boolean dispatch(SseSubscription subscription, SseFrame frame, Consumer<SseSubscription> onClose) {
+        SseOutboundQueue queue = subscription.getOutbound();
+        if (queue.isClosed()) {
+            return false;
+        }
+
+        if (!queue.offer(frame)) {
+            handleOverflow(subscription, onClose);
+            return false;
+        }
+
+        enqueued.increment();
+        schedule(subscription, onClose);
+        return true;
+    }
+
+    /**
+     * 대기열 초과 처리
+     */
+    private void handleOverflow(SseSubscription subscription, Consumer<SseSubscription> onClose) {
+        if (properties.getOverflowPolicy() == SseOverflowPolicy.DROP) {
+            dropped.increment();
+            log.debug("SSE queue full, frame dropped for user: {}", subscription.getUserId());
+            return;
+        }
+
+        dropped.increment();
+        evicted.increment();
+        log.warn("SSE queue full, disconnecting slow consumer: user={}, queued={}",
+                subscription.getUserId(), subscription.getOutbound().size());
+        subscription.getOutbound().close();
+        onClose.accept(subscription);
+    }
+
+    /**
+     * 전송 작업 예약 (연결당 최대 1개)
+     */
+    private void schedule(SseSubscription subscription, Consumer<SseSubscription> onClose) {
+        if (!subscription.getOutbound().trySchedule()) {
+            return;
+        }
+
+        try {
+            writers.execute(() -> drain(subscription, onClose));
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 예약 해제 후 무시
+            subscription.getOutbound().release();
+        }
+    }
+
+    /**
+     * 대기열의 프레임을 순서대로 전송
+     *
+     * 한 번에 drainBatchSize 개까지만 전송한 뒤 스레드를 양보하고,
+     * 남은 프레임이 있으면 다시 예약합니다.
+     */
+    private void drain(SseSubscription subscription, Consumer<SseSubscription> onClose) {
+        SseOutboundQueue queue = subscription.getOutbound();
+        int batch = 0;
+
+        try {
+            SseFrame frame;
+            while (batch < properties.getDrainBatchSize() && (frame = queue.poll()) != null) {
+                subscription.getEmitter().send(frame.toEvent());
+                subscription.updateLastActiveAt();
+                sent.increment();
+                batch++;
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send event to user: {}, removing connection", subscription.getUserId());
+            failed.increment();
+            queue.close();
+            queue.release();
+            onClose.accept(subscription);
+            return;
+        }
+
+        queue.release();
+        if (!queue.isEmpty()) {
+            schedule(subscription, onClose);
+        }
+    }
+
+    // =============================================
+    // 통계
+    // =============================================
+
+    public int getWriterThreads() {
+        return properties.getWriterThreads();
+    }
+
+    public int getQueueCapacity() {
+        return properties.getQueueCapacity();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+}
@@ -1,7 +1,7 @@
 package com.taskflow.sse;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskflow.dto.sse.SseEvent;
+import com.taskflow.dto.sse.SseStatsResponse;
 import com.taskflow.dto.sse.SseSubscription;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,10 +9,16 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * SSE Emitter 관리자
@@ -35,12 +41,85 @@ public class SseEmitterManager {
     private static final long HEARTBEAT_INTERVAL = 30 * 1000L;
 
     /**
-     * 사용자별 SSE 구독 정보
-     * Key: userId
+     * 유휴 재전송 버퍼 정리 간격 (1분)
      */
-    private final Map<Long, SseSubscription> subscriptions = new ConcurrentHashMap<>();
+    private static final long REPLAY_SWEEP_INTERVAL = 60 * 1000L;
 
-    private final ObjectMapper objectMapper;
+    /**
+     * 연결별 SSE 구독 정보
+     * Key: connectionId
+     */
+    private final Map<String, SseSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자별 연결 색인 (멀티 탭 / 멀티 디바이스)
+     * Key: userId, Value: 해당 사용자의 연결 목록
+     */
+    private final Map<Long, Set<SseSubscription>> userConnections = new ConcurrentHashMap<>();
+
+    /**
+     * 보드별 구독자 역색인
+     * Key: boardId, Value: 해당 보드를 구독 중인 연결
+     *
+     * sendToBoard 가 전체 연결이 아닌 보드 구독자만 순회하도록 유지합니다.
+     */
+    private final Map<Long, Set<SseSubscription>> boardSubscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 보드별 재전송 버퍼 (Last-Event-ID 기반 재동기화)
+     * Key: boardId
+     */
+    private final Map<Long, SseReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+
+    /**
+     * 이벤트 ID 시작값
+     *
+     * 서버 재시작 후에도 ID 가 증가하도록 기동 시각 기반으로 설정하며,
+     * 이보다 작은 Last-Event-ID 는 이전 기동의 이벤트이므로 재동기화가 필요합니다.
+     */
+    private final long eventSequenceStart = System.currentTimeMillis() * 1000L;
+
+    /**
+     * 이벤트 ID 시퀀스 (단조 증가)
+     *
+     * 이벤트 버스가 ID 를 부여하는 경우(useExternalEventIds) 마지막으로 전송한 이벤트 ID 입니다.
+     */
+    private final AtomicLong eventSequence = new AtomicLong(eventSequenceStart);
+
+    /**
+     * 제거된 재전송 버퍼의 가장 큰 이벤트 ID
+     *
+     * 새로 만드는 버퍼는 이 값 이하의 Last-Event-ID 를 재전송할 수 없습니다.
+     * (제거된 보드 이벤트는 모두 이 값 이하이므로 그보다 오래된 클라이언트는 재동기화)
+     */
+    private final AtomicLong releasedUpTo = new AtomicLong(eventSequenceStart);
+
+    /**
+     * 보드 전송 통계
+     * - boardFanoutCount: sendToBoard 호출 횟수
+     * - boardFanoutVisited: 역색인으로 실제 순회한 구독자 수 누계
+     * - boardFanoutFullScan: 전체 연결을 순회했다면 방문했을 구독자 수 누계 (변경 전 비용)
+     */
+    private final LongAdder boardFanoutCount = new LongAdder();
+    private final LongAdder boardFanoutVisited = new LongAdder();
+    private final LongAdder boardFanoutFullScan = new LongAdder();
+
+    /**
+     * 직렬화된 이벤트 수
+     */
+    private final LongAdder framesEncoded = new LongAdder();
+
+    /**
+     * 재전송 통계
+     * - framesReplayed: 재연결 시 재전송된 프레임 수
+     * - resyncRequired: 재전송 범위를 벗어나 재동기화를 요청한 횟수
+     */
+    private final LongAdder framesReplayed = new LongAdder();
+    private final LongAdder resyncRequired = new LongAdder();
+
+    private final SseEventEncoder eventEncoder;
+    private final SseDispatcher dispatcher;
+    private final SseProperties properties;
 
     // =============================================
     // 연결 관리
@@ -49,48 +128,75 @@ public class SseEmitterManager {
     /**
      * SSE 연결 생성
      *
+     * 사용자의 기존 연결은 유지되며, 새 연결이 추가됩니다.
+     * 연결 ID 는 connection 이벤트로 클라이언트에 전달됩니다.
+     *
      * @param userId 사용자 ID
      * @return SseEmitter
      */
     public SseEmitter createEmitter(Long userId) {
-        log.info("Creating SSE emitter for user: {}", userId);
+        return createEmitter(userId, null, null);
+    }
 
-        // 기존 연결이 있으면 종료
-        removeEmitter(userId);
+    /**
+     * SSE 연결 생성 (보드 구독 및 누락 이벤트 재전송 포함)
+     *
+     * boardId 가 있으면 연결과 동시에 보드를 구독하고,
+     * lastEventId 가 있으면 그 이후에 발생한 보드 이벤트를 재전송합니다.
+     *
+     * @param userId      사용자 ID
+     * @param boardId     구독할 보드 ID (선택)
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (선택)
+     * @return SseEmitter
+     */
+    public SseEmitter createEmitter(Long userId, Long boardId, Long lastEventId) {
+        String connectionId = UUID.randomUUID().toString();
+        log.info("Creating SSE emitter for user: {}, connection: {}", userId, connectionId);
 
         // 새 Emitter 생성
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
 
         // 구독 정보 생성
         SseSubscription subscription = SseSubscription.builder()
+                .connectionId(connectionId)
                 .userId(userId)
                 .emitter(emitter)
+                .outbound(dispatcher.newQueue())
                 .subscribedAt(LocalDateTime.now())
                 .lastActiveAt(LocalDateTime.now())
                 .build();
 
-        subscriptions.put(userId, subscription);
+        subscriptions.put(connectionId, subscription);
+        userConnections.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
 
         // 연결 완료 콜백
         emitter.onCompletion(() -> {
-            log.info("SSE connection completed for user: {}", userId);
-            removeEmitter(userId);
+            log.info("SSE connection completed for user: {}, connection: {}", userId, connectionId);
+            removeSubscription(subscription);
         });
 
         // 타임아웃 콜백
         emitter.onTimeout(() -> {
-            log.info("SSE connection timed out for user: {}", userId);
-            removeEmitter(userId);
+            log.info("SSE connection timed out for user: {}, connection: {}", userId, connectionId);
+            removeSubscription(subscription);
         });
 
         // 에러 콜백
         emitter.onError(throwable -> {
-            log.error("SSE connection error for user: {}", userId, throwable);
-            removeEmitter(userId);
+            log.error("SSE connection error for user: {}, connection: {}", userId, connectionId, throwable);
+            removeSubscription(subscription);
         });
 
-        // 연결 완료 이벤트 전송
-        sendToUser(userId, SseEvent.connected());
+        // 연결 완료 이벤트 전송 (연결 ID 포함)
+        SseFrame frame = encode(SseEvent.connected(connectionId));
+        if (frame != null) {
+            send(subscription, frame);
+        }
+
+        // 초기 보드 구독 및 누락 이벤트 재전송
+        if (boardId != null) {
+            subscribeConnection(subscription, boardId, lastEventId);
+        }
 
         log.info("SSE emitter created for user: {}, total connections: {}", userId, subscriptions.size());
 
@@ -98,20 +204,84 @@ public class SseEmitterManager {
     }
 
     /**
-     * SSE 연결 제거
+     * 사용자의 모든 SSE 연결 제거
      *
      * @param userId 사용자 ID
      */
     public void removeEmitter(Long userId) {
-        SseSubscription subscription = subscriptions.remove(userId);
+        Set<SseSubscription> connections = userConnections.get(userId);
+        if (connections != null) {
+            List.copyOf(connections).forEach(this::removeSubscription);
+        }
+    }
+
+    /**
+     * 특정 SSE 연결 제거
+     *
+     * @param userId       사용자 ID
+     * @param connectionId 연결 ID
+     */
+    public void removeConnection(Long userId, String connectionId) {
+        SseSubscription subscription = findConnection(userId, connectionId);
         if (subscription != null) {
-            try {
-                subscription.getEmitter().complete();
-            } catch (Exception e) {
-                log.debug("Error completing emitter for user: {}", userId);
-            }
-            log.info("SSE emitter removed for user: {}, total connections: {}", userId, subscriptions.size());
+            removeSubscription(subscription);
+        }
+    }
+
+    /**
+     * 구독 정보 제거
+     *
+     * 이미 제거된 연결이면 아무 작업도 하지 않습니다.
+     *
+     * @param subscription 구독 정보
+     */
+    private void removeSubscription(SseSubscription subscription) {
+        Long userId = subscription.getUserId();
+        if (!subscriptions.remove(subscription.getConnectionId(), subscription)) {
+            return;
+        }
+
+        userConnections.computeIfPresent(userId, (key, subs) -> {
+            subs.remove(subscription);
+            return subs.isEmpty() ? null : subs;
+        });
+        subscription.getOutbound().close();
+        subscription.getSubscribedBoardIds()
+                .forEach(boardId -> removeFromBoardIndex(boardId, subscription));
+        try {
+            subscription.getEmitter().complete();
+        } catch (Exception e) {
+            log.debug("Error completing emitter for user: {}", userId);
+        }
+        log.info("SSE emitter removed for user: {}, connection: {}, total connections: {}",
+                userId, subscription.getConnectionId(), subscriptions.size());
+    }
+
+    /**
+     * 사용자 소유의 연결 조회
+     *
+     * @return 연결 정보, 없거나 다른 사용자의 연결이면 null
+     */
+    private SseSubscription findConnection(Long userId, String connectionId) {
+        SseSubscription subscription = subscriptions.get(connectionId);
+        if (subscription == null || !subscription.getUserId().equals(userId)) {
+            return null;
+        }
+        return subscription;
+    }
+
+    /**
+     * 대상 연결 목록 조회
+     *
+     * connectionId 가 없으면 사용자의 모든 연결을 대상으로 합니다.
+     */
+    private List<SseSubscription> resolveConnections(Long userId, String connectionId) {
+        if (connectionId != null) {
+            SseSubscription subscription = findConnection(userId, connectionId);
+            return subscription != null ? List.of(subscription) : List.of();
         }
+        Set<SseSubscription> connections = userConnections.get(userId);
+        return connections != null ? List.copyOf(connections) : List.of();
     }
 
     // =============================================
@@ -119,31 +289,239 @@ public class SseEmitterManager {
     // =============================================
 
     /**
-     * 보드 구독
+     * 보드 구독 (사용자의 모든 연결)
      *
      * @param userId  사용자 ID
      * @param boardId 보드 ID
      */
     public void subscribeBoard(Long userId, Long boardId) {
-        SseSubscription subscription = subscriptions.get(userId);
-        if (subscription != null) {
-            subscription.subscribeBoard(boardId);
-            log.debug("User {} subscribed to board {}", userId, boardId);
+        subscribeBoard(userId, null, boardId);
+    }
+
+    /**
+     * 보드 구독
+     *
+     * @param userId       사용자 ID
+     * @param connectionId 연결 ID (null 이면 사용자의 모든 연결)
+     * @param boardId      보드 ID
+     */
+    public void subscribeBoard(Long userId, String connectionId, Long boardId) {
+        subscribeBoard(userId, connectionId, boardId, null);
+    }
+
+    /**
+     * 보드 구독 (누락 이벤트 재전송 포함)
+     *
+     * @param userId       사용자 ID
+     * @param connectionId 연결 ID (null 이면 사용자의 모든 연결)
+     * @param boardId      보드 ID
+     * @param lastEventId  클라이언트가 마지막으로 받은 이벤트 ID (null 이면 재전송 없음)
+     */
+    public void subscribeBoard(Long userId, String connectionId, Long boardId, Long lastEventId) {
+        for (SseSubscription subscription : resolveConnections(userId, connectionId)) {
+            subscribeConnection(subscription, boardId, lastEventId);
         }
     }
 
     /**
-     * 보드 구독 해제
+     * 연결의 보드 구독 등록
+     *
+     * 재전송이 필요한 경우 보드 재전송 버퍼를 잠근 상태에서 구독 등록과 재전송을 수행하여,
+     * 재전송 프레임과 새 이벤트 프레임의 순서가 뒤섞이거나 중복되지 않도록 합니다.
+     */
+    private void subscribeConnection(SseSubscription subscription, Long boardId, Long lastEventId) {
+        if (lastEventId == null) {
+            registerBoardSubscription(subscription, boardId);
+            return;
+        }
+
+        while (true) {
+            SseReplayBuffer buffer = replayBufferFor(boardId);
+            synchronized (buffer) {
+                if (buffer.isReleased()) {
+                    continue;
+                }
+                if (registerBoardSubscription(subscription, boardId)) {
+                    replay(subscription, boardId, buffer, lastEventId);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보드 역색인에 연결 등록
+     *
+     * @return 등록 여부 (등록 중 연결이 제거된 경우 false)
+     */
+    private boolean registerBoardSubscription(SseSubscription subscription, Long boardId) {
+        subscription.subscribeBoard(boardId);
+        boardSubscribers.computeIfAbsent(boardId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+
+        // 색인 등록 중 연결이 제거된 경우 역색인에서 다시 정리
+        if (subscriptions.get(subscription.getConnectionId()) != subscription) {
+            removeFromBoardIndex(boardId, subscription);
+            return false;
+        }
+        log.debug("User {} subscribed to board {} (connection: {})",
+                subscription.getUserId(), boardId, subscription.getConnectionId());
+        return true;
+    }
+
+    /**
+     * 보드 구독 해제 (사용자의 모든 연결)
      *
      * @param userId  사용자 ID
      * @param boardId 보드 ID
      */
     public void unsubscribeBoard(Long userId, Long boardId) {
-        SseSubscription subscription = subscriptions.get(userId);
-        if (subscription != null) {
+        unsubscribeBoard(userId, null, boardId);
+    }
+
+    /**
+     * 보드 구독 해제
+     *
+     * @param userId       사용자 ID
+     * @param connectionId 연결 ID (null 이면 사용자의 모든 연결)
+     * @param boardId      보드 ID
+     */
+    public void unsubscribeBoard(Long userId, String connectionId, Long boardId) {
+        for (SseSubscription subscription : resolveConnections(userId, connectionId)) {
             subscription.unsubscribeBoard(boardId);
-            log.debug("User {} unsubscribed from board {}", userId, boardId);
+            removeFromBoardIndex(boardId, subscription);
+            log.debug("User {} unsubscribed from board {} (connection: {})",
+                    userId, boardId, subscription.getConnectionId());
+        }
+    }
+
+    // =============================================
+    // 재전송 (Last-Event-ID)
+    // =============================================
+
+    /**
+     * 이벤트 버스가 부여하는 이벤트 ID 사용 (다중 인스턴스)
+     *
+     * 모든 인스턴스가 같은 이벤트에 같은 ID(outbox ID)를 쓰도록, 자체 시퀀스 대신
+     * sendToBoard(boardId, triggeredBy, encoded, eventId) 로 전달된 ID 를 사용합니다.
+     * startId 이하의 Last-Event-ID 는 이 인스턴스가 받지 못한 이벤트이므로 재동기화합니다.
+     * 기동 시 보드 이벤트를 전송하기 전에 호출해야 합니다.
+     *
+     * @param startId 기동 시점의 마지막 이벤트 ID
+     */
+    public void useExternalEventIds(long startId) {
+        eventSequence.set(startId);
+        releasedUpTo.set(startId);
+    }
+
+    /**
+     * 보드 재전송 버퍼 조회 (없으면 생성)
+     */
+    private SseReplayBuffer replayBufferFor(Long boardId) {
+        return replayBuffers.computeIfAbsent(boardId,
+                key -> new SseReplayBuffer(properties.getReplay().getCapacityPerBoard(), releasedUpTo.get()));
+    }
+
+    /**
+     * 보드 재전송 버퍼 제거 (보드 삭제 시)
+     *
+     * 이후 같은 보드로 재연결하는 클라이언트는 resync:required 를 받습니다.
+     *
+     * @param boardId 보드 ID
+     */
+    public void releaseBoard(Long boardId) {
+        SseReplayBuffer buffer = replayBuffers.get(boardId);
+        if (buffer != null) {
+            releaseReplayBuffer(boardId, buffer);
+        }
+    }
+
+    /**
+     * 유휴 재전송 버퍼 정리
+     *
+     * 구독자가 없고 마지막 이벤트 후 sse.replay.idle-seconds 가 지난 보드의 버퍼를 제거합니다.
+     */
+    @Scheduled(fixedDelay = REPLAY_SWEEP_INTERVAL)
+    public void sweepReplayBuffers() {
+        long now = System.currentTimeMillis();
+        long idleMillis = properties.getReplay().getIdleSeconds() * 1000L;
+        int released = 0;
+        for (Map.Entry<Long, SseReplayBuffer> entry : replayBuffers.entrySet()) {
+            Long boardId = entry.getKey();
+            SseReplayBuffer buffer = entry.getValue();
+            if (getBoardSubscriberCount(boardId) > 0) {
+                continue;
+            }
+            synchronized (buffer) {
+                if (!buffer.isIdle(now, idleMillis)) {
+                    continue;
+                }
+            }
+            if (releaseReplayBuffer(boardId, buffer)) {
+                released++;
+            }
+        }
+        if (released > 0) {
+            log.debug("Released {} idle replay buffers, remaining: {}", released, replayBuffers.size());
+        }
+    }
+
+    /**
+     * 재전송 버퍼 제거 (버퍼 잠금 후 제거하여 진행 중인 기록/재전송과 겹치지 않도록 함)
+     *
+     * @return 제거 여부 (이미 다른 버퍼로 교체된 경우 false)
+     */
+    private boolean releaseReplayBuffer(Long boardId, SseReplayBuffer buffer) {
+        synchronized (buffer) {
+            if (buffer.isReleased() || !replayBuffers.remove(boardId, buffer)) {
+                return false;
+            }
+            buffer.release();
+            releasedUpTo.accumulateAndGet(buffer.newestId(), Math::max);
+            return true;
+        }
+    }
+
+    /**
+     * lastEventId 이후의 보드 이벤트 재전송
+     *
+     * 누락 구간이 버퍼 범위를 벗어나면 resync:required 이벤트를 보냅니다.
+     * 호출자는 buffer 를 잠근 상태여야 합니다.
+     */
+    private void replay(SseSubscription subscription, Long boardId, SseReplayBuffer buffer, long lastEventId) {
+        if (lastEventId > eventSequence.get() || !buffer.canReplayFrom(lastEventId)) {
+            log.info("Replay gap too large, resync required: user={}, board={}, lastEventId={}",
+                    subscription.getUserId(), boardId, lastEventId);
+            resyncRequired.increment();
+            SseFrame frame = encode(SseEvent.resyncRequired(boardId, lastEventId));
+            if (frame != null) {
+                send(subscription, frame);
+            }
+            return;
+        }
+
+        int replayed = 0;
+        for (SseReplayBuffer.Entry entry : buffer.entriesAfter(lastEventId)) {
+            // 이벤트 발생자 제외
+            if (subscription.getUserId().equals(entry.triggeredBy())) {
+                continue;
+            }
+            if (send(subscription, entry.frame())) {
+                replayed++;
+            }
         }
+        framesReplayed.add(replayed);
+        log.debug("Replayed {} events to user {} for board {} after {}",
+                replayed, subscription.getUserId(), boardId, lastEventId);
+    }
+
+    /**
+     * 보드 역색인에서 구독 정보 제거 (비어 있는 보드 항목은 삭제)
+     */
+    private void removeFromBoardIndex(Long boardId, SseSubscription subscription) {
+        boardSubscribers.computeIfPresent(boardId, (key, subs) -> {
+            subs.remove(subscription);
+            return subs.isEmpty() ? null : subs;
+        });
     }
 
     // =============================================
@@ -151,35 +529,37 @@ public class SseEmitterManager {
     // =============================================
 
     /**
-     * 특정 사용자에게 이벤트 전송
+     * 특정 사용자에게 이벤트 전송 (사용자의 모든 연결)
      *
      * @param userId 사용자 ID
      * @param event  이벤트
      */
     public <T> void sendToUser(Long userId, SseEvent<T> event) {
-        SseSubscription subscription = subscriptions.get(userId);
-        if (subscription == null) {
+        Set<SseSubscription> connections = userConnections.get(userId);
+        if (connections == null || connections.isEmpty()) {
             return;
         }
 
-        try {
-            String jsonData = objectMapper.writeValueAsString(event);
-            subscription.getEmitter().send(
-                    SseEmitter.event()
-                            .name(event.getType())
-                            .data(jsonData)
-            );
-            subscription.updateLastActiveAt();
-            log.debug("Sent event {} to user {}", event.getType(), userId);
-        } catch (IOException e) {
-            log.error("Failed to send event to user: {}", userId, e);
-            removeEmitter(userId);
+        SseFrame frame = encode(event);
+        if (frame == null) {
+            return;
         }
+
+        connections.forEach(sub -> {
+            if (send(sub, frame)) {
+                log.debug("Queued event {} to user {} (connection: {})",
+                        event.getType(), userId, sub.getConnectionId());
+            }
+        });
     }
 
     /**
      * 보드 구독자들에게 이벤트 전송 (이벤트 발생자 제외)
      *
+     * 이벤트는 한 번만 직렬화되며, 인코딩된 프레임을 모든 구독자가 공유합니다.
+     * 실제 전송은 SseDispatcher 가 연결별 대기열을 통해 수행합니다.
+     * 모든 보드 이벤트에는 단조 증가하는 ID 가 부여되고 보드 재전송 버퍼에 보관됩니다.
+     *
      * @param event 이벤트 (boardId, triggeredBy 포함)
      */
     public <T> void sendToBoard(SseEvent<T> event) {
@@ -188,23 +568,85 @@ public class SseEmitterManager {
             return;
         }
 
-        subscriptions.values().stream()
-                .filter(sub -> sub.isSubscribedTo(event.getBoardId()))
-                .filter(sub -> !sub.getUserId().equals(event.getTriggeredBy())) // 이벤트 발생자 제외
+        SseFrame encoded = encode(event);
+        if (encoded == null) {
+            return;
+        }
+
+        sendToBoard(event.getBoardId(), event.getTriggeredBy(), encoded);
+    }
+
+    /**
+     * 인코딩된 프레임을 보드 구독자들에게 전송 (이벤트 발생자 제외)
+     *
+     * 다른 서버 인스턴스에서 전달된 이벤트처럼 이미 직렬화된 프레임을 전송할 때 사용합니다.
+     *
+     * @param boardId     보드 ID
+     * @param triggeredBy 이벤트 발생자 ID
+     * @param encoded     인코딩된 프레임 (ID 미부여)
+     */
+    public void sendToBoard(Long boardId, Long triggeredBy, SseFrame encoded) {
+        sendToBoard(boardId, triggeredBy, encoded, eventSequence::incrementAndGet);
+    }
+
+    /**
+     * 이벤트 버스가 부여한 ID 로 보드 구독자들에게 전송 (이벤트 발생자 제외)
+     *
+     * 호출자는 ID 오름차순으로 호출해야 합니다. (useExternalEventIds 참고)
+     *
+     * @param boardId     보드 ID
+     * @param triggeredBy 이벤트 발생자 ID
+     * @param encoded     인코딩된 프레임 (ID 미부여)
+     * @param eventId     모든 인스턴스에 공통인 이벤트 ID
+     */
+    public void sendToBoard(Long boardId, Long triggeredBy, SseFrame encoded, long eventId) {
+        sendToBoard(boardId, triggeredBy, encoded, () -> eventSequence.accumulateAndGet(eventId, Math::max));
+    }
+
+    /**
+     * 재전송 버퍼에 기록하지 않고 보드 구독자들에게 전송 (ID 없음, 이벤트 발생자 제외)
+     *
+     * 이벤트 버스가 ID 를 부여하지 못한 경우(outbox 기록 실패 등) 현재 연결에만 전달합니다.
+     */
+    public void sendToBoardWithoutId(Long boardId, Long triggeredBy, SseFrame encoded) {
+        fanout(boardId, triggeredBy, encoded);
+    }
+
+    private void sendToBoard(Long boardId, Long triggeredBy, SseFrame encoded, LongSupplier nextId) {
+        while (true) {
+            SseReplayBuffer buffer = replayBufferFor(boardId);
+            synchronized (buffer) {
+                // 잠금 대기 중 정리된 버퍼이면 새 버퍼를 다시 조회
+                if (buffer.isReleased()) {
+                    continue;
+                }
+                SseFrame frame = encoded.withId(nextId.getAsLong());
+                buffer.append(frame, triggeredBy);
+                fanout(boardId, triggeredBy, frame);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보드 구독자 대기열에 프레임 추가 (ID 가 있는 프레임은 보드 재전송 버퍼를 잠근 상태여야 함)
+     */
+    private void fanout(Long boardId, Long triggeredBy, SseFrame frame) {
+        Set<SseSubscription> audience = boardSubscribers.get(boardId);
+
+        boardFanoutCount.increment();
+        boardFanoutFullScan.add(subscriptions.size());
+        if (audience == null || audience.isEmpty()) {
+            return;
+        }
+        boardFanoutVisited.add(audience.size());
+
+        audience.stream()
+                .filter(sub -> !sub.getUserId().equals(triggeredBy)) // 이벤트 발생자 제외
                 .forEach(sub -> {
-                    try {
-                        String jsonData = objectMapper.writeValueAsString(event);
-                        sub.getEmitter().send(
-                                SseEmitter.event()
-                                        .name(event.getType())
-                                        .data(jsonData)
-                        );
-                        sub.updateLastActiveAt();
-                        log.debug("Sent event {} to user {} for board {}",
-                                event.getType(), sub.getUserId(), event.getBoardId());
-                    } catch (IOException e) {
-                        log.error("Failed to send event to user: {}", sub.getUserId(), e);
-                        removeEmitter(sub.getUserId());
+                    if (send(sub, frame)) {
+                        log.debug("Queued event {} (id: {}) to user {} for board {}",
+                                frame.getEventName(), frame.getId(), sub.getUserId(), boardId);
                     }
                 });
     }
@@ -215,33 +657,48 @@ public class SseEmitterManager {
      * @param event 이벤트
      */
     public <T> void sendToAll(SseEvent<T> event) {
+        SseFrame frame = encode(event);
+        if (frame == null) {
+            return;
+        }
+
         subscriptions.values().forEach(sub -> {
             // 이벤트 발생자 제외
             if (event.getTriggeredBy() != null && event.getTriggeredBy().equals(sub.getUserId())) {
                 return;
             }
-
-            try {
-                String jsonData = objectMapper.writeValueAsString(event);
-                sub.getEmitter().send(
-                        SseEmitter.event()
-                                .name(event.getType())
-                                .data(jsonData)
-                );
-                sub.updateLastActiveAt();
-            } catch (IOException e) {
-                log.error("Failed to send event to user: {}", sub.getUserId(), e);
-                removeEmitter(sub.getUserId());
-            }
+            send(sub, frame);
         });
     }
 
+    /**
+     * 이벤트 인코딩 (이벤트당 1회)
+     */
+    private SseFrame encode(SseEvent<?> event) {
+        SseFrame frame = eventEncoder.encode(event);
+        if (frame != null) {
+            framesEncoded.increment();
+        }
+        return frame;
+    }
+
+    /**
+     * 인코딩된 프레임을 구독자 전송 대기열에 추가
+     *
+     * @return 대기열 추가 여부 (대기열 초과 또는 전송 오류 시 연결 제거)
+     */
+    private boolean send(SseSubscription subscription, SseFrame frame) {
+        return dispatcher.dispatch(subscription, frame, this::removeSubscription);
+    }
+
     // =============================================
     // 하트비트
     // =============================================
 
     /**
      * 주기적 하트비트 전송 (연결 유지)
+     *
+     * 하트비트는 고정 프레임을 재사용하므로 직렬화 비용이 없습니다.
      */
     @Scheduled(fixedRate = HEARTBEAT_INTERVAL)
     public void sendHeartbeat() {
@@ -251,21 +708,8 @@ public class SseEmitterManager {
 
         log.debug("Sending heartbeat to {} connections", subscriptions.size());
 
-        SseEvent<String> heartbeat = SseEvent.heartbeat();
-        subscriptions.values().forEach(sub -> {
-            try {
-                String jsonData = objectMapper.writeValueAsString(heartbeat);
-                sub.getEmitter().send(
-                        SseEmitter.event()
-                                .name(heartbeat.getType())
-                                .data(jsonData)
-                );
-                sub.updateLastActiveAt();
-            } catch (IOException e) {
-                log.debug("Heartbeat failed for user: {}, removing connection", sub.getUserId());
-                removeEmitter(sub.getUserId());
-            }
-        });
+        SseFrame heartbeat = eventEncoder.heartbeat();
+        subscriptions.values().forEach(sub -> send(sub, heartbeat));
     }
 
     // =============================================
@@ -273,16 +717,75 @@ public class SseEmitterManager {
     // =============================================
 
     /**
-     * 연결된 사용자 수 조회
+     * 전체 연결 수 조회
      */
     public int getConnectionCount() {
         return subscriptions.size();
     }
 
+    /**
+     * 연결된 사용자 수 조회
+     */
+    public int getConnectedUserCount() {
+        return userConnections.size();
+    }
+
+    /**
+     * 사용자의 연결 수 조회
+     */
+    public int getUserConnectionCount(Long userId) {
+        Set<SseSubscription> connections = userConnections.get(userId);
+        return connections != null ? connections.size() : 0;
+    }
+
     /**
      * 사용자 연결 여부 확인
      */
     public boolean isConnected(Long userId) {
-        return subscriptions.containsKey(userId);
+        return getUserConnectionCount(userId) > 0;
+    }
+
+    /**
+     * 보드 구독자 수 조회
+     */
+    public int getBoardSubscriberCount(Long boardId) {
+        Set<SseSubscription> audience = boardSubscribers.get(boardId);
+        return audience != null ? audience.size() : 0;
+    }
+
+    /**
+     * SSE 전송 통계 조회
+     */
+    public SseStatsResponse getStats() {
+        int queuedFrames = 0;
+        int maxQueueDepth = 0;
+        for (SseSubscription sub : subscriptions.values()) {
+            int depth = sub.getOutbound().size();
+            queuedFrames += depth;
+            maxQueueDepth = Math.max(maxQueueDepth, depth);
+        }
+
+        return SseStatsResponse.builder()
+                .totalConnections(subscriptions.size())
+                .connectedUsers(userConnections.size())
+                .subscribedBoards(boardSubscribers.size())
+                .boardFanoutCount(boardFanoutCount.sum())
+                .boardFanoutVisited(boardFanoutVisited.sum())
+                .boardFanoutFullScan(boardFanoutFullScan.sum())
+                .framesEncoded(framesEncoded.sum())
+                .framesSent(dispatcher.getSentCount())
+                .writerThreads(dispatcher.getWriterThreads())
+                .queueCapacity(dispatcher.getQueueCapacity())
+                .queuedFrames(queuedFrames)
+                .maxQueueDepth(maxQueueDepth)
+                .framesEnqueued(dispatcher.getEnqueuedCount())
+                .framesDropped(dispatcher.getDroppedCount())
+                .evictedConnections(dispatcher.getEvictedCount())
+                .failedConnections(dispatcher.getFailedCount())
+                .replayBuffers(replayBuffers.size())
+                .framesReplayed(framesReplayed.sum())
+                .resyncRequired(resyncRequired.sum())
+                .heapUsedBytes(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed())
+                .build();
     }
 }
@@ -0,0 +1,41 @@
+package com.taskflow.sse;
+
+import com.taskflow.dto.sse.SseBusStatsResponse;
+import com.taskflow.dto.sse.SseEvent;
+
+/**
+ * SSE 이벤트 버스
+ *
+ * SseEventPublisher 가 발행한 보드 이벤트를 모든 서버 인스턴스에 전달합니다.
+ * 각 인스턴스는 자신에게 연결된 구독자에게만 이벤트를 전송합니다.
+ * 인스턴스별 인메모리 캐시의 무효화도 같은 경로로 다른 인스턴스에 전달합니다.
+ *
+ * 구현체 (sse.bus.type):
+ * - LOCAL: 단일 인스턴스 (기본값)
+ * - DATABASE: MySQL outbox 테이블 기반 다중 인스턴스 전달
+ */
+public interface SseEventBus {
+
+    /**
+     * 보드 이벤트 발행
+     *
+     * @param event 이벤트 (boardId 필수)
+     */
+    void publish(SseEvent<?> event);
+
+    /**
+     * 캐시 무효화를 다른 서버 인스턴스에 전달 (비동기)
+     *
+     * 현재 인스턴스의 캐시는 호출자가 이미 무효화했으므로 다른 인스턴스만 대상이며,
+     * 데이터 변경이 커밋된 이후에 호출해야 합니다. (LOCAL 은 전달 대상이 없어 무시)
+     *
+     * @param eviction 무효화 요청
+     */
+    default void publishEviction(CacheEviction eviction) {
+    }
+
+    /**
+     * 이벤트 버스 통계 조회
+     */
+    SseBusStatsResponse getStats();
+}
@@ -0,0 +1,56 @@
+package com.taskflow.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskflow.dto.sse.SseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 이벤트 인코더
+ *
+ * SseEvent 를 한 번만 직렬화하여 SseFrame 으로 변환합니다.
+ * 보드 구독자 수와 관계없이 이벤트당 직렬화는 1회만 수행됩니다.
+ */
+@Slf4j
+@Component
+public class SseEventEncoder {
+
+    /**
+     * SseEvent 전용 Writer (스레드 안전, 재사용)
+     */
+    private final ObjectWriter eventWriter;
+
+    /**
+     * 하트비트 프레임 (고정)
+     */
+    private final SseFrame heartbeatFrame;
+
+    public SseEventEncoder(ObjectMapper objectMapper) {
+        this.eventWriter = objectMapper.writerFor(SseEvent.class);
+        this.heartbeatFrame = encode(SseEvent.heartbeat());
+    }
+
+    /**
+     * 이벤트를 SSE 프레임으로 인코딩
+     *
+     * @param event 이벤트
+     * @return 인코딩된 프레임, 직렬화 실패 시 null
+     */
+    public SseFrame encode(SseEvent<?> event) {
+        try {
+            return new SseFrame(event.getType(), eventWriter.writeValueAsBytes(event));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode SSE event: {}", event.getType(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 하트비트 프레임 조회
+     */
+    public SseFrame heartbeat() {
+        return heartbeatFrame;
+    }
+}
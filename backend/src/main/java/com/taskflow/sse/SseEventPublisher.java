@@ -1,25 +1,38 @@
 package com.taskflow.sse;
 
 import com.taskflow.dto.comment.CommentResponse;
+import com.taskflow.dto.item.ItemDeltaResponse;
 import com.taskflow.dto.item.ItemResponse;
 import com.taskflow.dto.property.PropertyResponse;
 import com.taskflow.dto.sse.SseEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * SSE 이벤트 발행 서비스
  *
- * 비동기로 이벤트를 발행하여 메인 트랜잭션에 영향을 주지 않습니다.
+ * 이벤트는 SseTransactionalEventStage 에 등록되어 트랜잭션 커밋 이후 비동기로 발행되며,
+ * SseEventBus 를 통해 모든 서버 인스턴스의 구독자에게 전달됩니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SseEventPublisher {
 
-    private final SseEmitterManager emitterManager;
+    private final SseTransactionalEventStage eventStage;
+    private final SseItemDeltaBuilder deltaBuilder;
+    private final SseProperties properties;
+
+    /**
+     * 델타 모드 여부 (수정 전 아이템 스냅샷 필요)
+     */
+    public boolean isDeltaEnabled() {
+        return properties.getDelta().isEnabled();
+    }
 
     // =============================================
     // 아이템 이벤트
@@ -32,12 +45,11 @@ public class SseEventPublisher {
      * @param item        생성된 아이템
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishItemCreated(Long boardId, ItemResponse item, Long triggeredBy) {
         log.debug("Publishing item:created event for board {}, item {}", boardId, item.getItemId());
 
         SseEvent<ItemResponse> event = SseEvent.itemCreated(boardId, item, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
     }
 
     /**
@@ -47,12 +59,35 @@ public class SseEventPublisher {
      * @param item        수정된 아이템
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishItemUpdated(Long boardId, ItemResponse item, Long triggeredBy) {
         log.debug("Publishing item:updated event for board {}, item {}", boardId, item.getItemId());
 
         SseEvent<ItemResponse> event = SseEvent.itemUpdated(boardId, item, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
+    }
+
+    /**
+     * 아이템 수정 이벤트 발행 (델타 모드 지원)
+     *
+     * 델타 모드에서는 수정 전/후를 비교한 변경분만 item:updated 로 전송하며,
+     * 수정 전 스냅샷이 없거나 델타 모드가 아니면 전체 아이템을 전송합니다.
+     *
+     * @param boardId     보드 ID
+     * @param before      수정 전 아이템 (속성값 포함)
+     * @param after       수정된 아이템
+     * @param triggeredBy 이벤트 발생자 ID
+     */
+    public void publishItemChanged(Long boardId, ItemResponse before, ItemResponse after, Long triggeredBy) {
+        if (before == null || !isDeltaEnabled()) {
+            publishItemUpdated(boardId, after, triggeredBy);
+            return;
+        }
+
+        log.debug("Publishing item:updated (delta) event for board {}, item {}", boardId, after.getItemId());
+
+        ItemDeltaResponse delta = deltaBuilder.build(before, after);
+        SseEvent<ItemDeltaResponse> event = SseEvent.itemUpdated(boardId, delta, triggeredBy);
+        eventStage.stage(event);
     }
 
     /**
@@ -62,12 +97,37 @@ public class SseEventPublisher {
      * @param item        삭제된 아이템
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishItemDeleted(Long boardId, ItemResponse item, Long triggeredBy) {
         log.debug("Publishing item:deleted event for board {}, item {}", boardId, item.getItemId());
 
         SseEvent<ItemResponse> event = SseEvent.itemDeleted(boardId, item, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
+    }
+
+    /**
+     * 여러 아이템이 보드에서 빠진 경우 (이관 등) 삭제 이벤트를 batch 이벤트 하나로 발행
+     *
+     * 아이템마다 이벤트를 발행하지 않고, 보드 구독자에게 item:deleted 목록을 한 프레임으로 전송합니다.
+     *
+     * @param boardId     보드 ID
+     * @param itemIds     보드에서 빠진 아이템 ID 목록
+     * @param triggeredBy 이벤트 발생자 ID
+     */
+    public void publishItemsRemoved(Long boardId, List<Long> itemIds, Long triggeredBy) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return;
+        }
+        log.debug("Publishing batch of {} item:deleted events for board {}", itemIds.size(), boardId);
+
+        List<SseEvent<?>> events = new ArrayList<>(itemIds.size());
+        for (Long itemId : itemIds) {
+            ItemResponse removed = ItemResponse.builder()
+                    .itemId(itemId)
+                    .boardId(boardId)
+                    .build();
+            events.add(SseEvent.itemDeleted(boardId, removed, triggeredBy));
+        }
+        eventStage.stage(SseEvent.batch(boardId, events, triggeredBy));
     }
 
     /**
@@ -77,12 +137,11 @@ public class SseEventPublisher {
      * @param item        완료된 아이템
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishItemCompleted(Long boardId, ItemResponse item, Long triggeredBy) {
         log.debug("Publishing item:updated (completed) event for board {}, item {}", boardId, item.getItemId());
 
         SseEvent<ItemResponse> event = SseEvent.itemUpdated(boardId, item, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
     }
 
     /**
@@ -92,12 +151,11 @@ public class SseEventPublisher {
      * @param item        복원된 아이템
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishItemRestored(Long boardId, ItemResponse item, Long triggeredBy) {
         log.debug("Publishing item:updated (restored) event for board {}, item {}", boardId, item.getItemId());
 
         SseEvent<ItemResponse> event = SseEvent.itemUpdated(boardId, item, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
     }
 
     // =============================================
@@ -111,12 +169,11 @@ public class SseEventPublisher {
      * @param property    변경된 속성
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishPropertyUpdated(Long boardId, PropertyResponse property, Long triggeredBy) {
         log.debug("Publishing property:updated event for board {}, property {}", boardId, property.getPropertyId());
 
         SseEvent<PropertyResponse> event = SseEvent.propertyUpdated(boardId, property, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
     }
 
     /**
@@ -126,12 +183,11 @@ public class SseEventPublisher {
      * @param property    생성된 속성
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishPropertyCreated(Long boardId, PropertyResponse property, Long triggeredBy) {
         log.debug("Publishing property:updated (created) event for board {}, property {}", boardId, property.getPropertyId());
 
         SseEvent<PropertyResponse> event = SseEvent.propertyUpdated(boardId, property, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
     }
 
     /**
@@ -141,7 +197,6 @@ public class SseEventPublisher {
      * @param propertyId  삭제된 속성 ID
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishPropertyDeleted(Long boardId, Long propertyId, Long triggeredBy) {
         log.debug("Publishing property:updated (deleted) event for board {}, property {}", boardId, propertyId);
 
@@ -153,7 +208,7 @@ public class SseEventPublisher {
                 .build();
 
         SseEvent<PropertyResponse> event = SseEvent.propertyUpdated(boardId, deletedProperty, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
     }
 
     // =============================================
@@ -167,11 +222,10 @@ public class SseEventPublisher {
      * @param comment     생성된 댓글
      * @param triggeredBy 이벤트 발생자 ID
      */
-    @Async
     public void publishCommentCreated(Long boardId, CommentResponse comment, Long triggeredBy) {
         log.debug("Publishing comment:created event for board {}, comment {}", boardId, comment.getCommentId());
 
         SseEvent<CommentResponse> event = SseEvent.commentCreated(boardId, comment, triggeredBy);
-        emitterManager.sendToBoard(event);
+        eventStage.stage(event);
     }
 }
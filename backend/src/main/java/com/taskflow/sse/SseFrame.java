@@ -0,0 +1,67 @@
+package com.taskflow.sse;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 인코딩이 완료된 SSE 프레임
+ *
+ * 이벤트 이름과 UTF-8 로 직렬화된 JSON 데이터를 보관하며,
+ * 동일한 이벤트를 받는 모든 구독자가 같은 인스턴스를 공유합니다.
+ */
+@Getter
+public final class SseFrame {
+
+    /**
+     * 이벤트 이름 (SSE event 필드)
+     */
+    private final String eventName;
+
+    /**
+     * UTF-8 JSON 데이터 (SSE data 필드)
+     */
+    private final byte[] data;
+
+    /**
+     * 이벤트 ID (SSE id 필드, 재전송 대상 이벤트에만 부여)
+     */
+    private final Long id;
+
+    public SseFrame(String eventName, byte[] data) {
+        this(eventName, data, null);
+    }
+
+    private SseFrame(String eventName, byte[] data, Long id) {
+        this.eventName = eventName;
+        this.data = data;
+        this.id = id;
+    }
+
+    /**
+     * 이벤트 ID 가 부여된 프레임 생성 (데이터는 공유)
+     */
+    public SseFrame withId(long id) {
+        return new SseFrame(eventName, data, id);
+    }
+
+    /**
+     * 데이터 크기 (바이트)
+     */
+    public int size() {
+        return data.length;
+    }
+
+    /**
+     * SseEmitter 전송용 이벤트 빌더 생성
+     */
+    public SseEmitter.SseEventBuilder toEvent() {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (id != null) {
+            event.id(String.valueOf(id));
+        }
+        return event
+                .name(eventName)
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+}
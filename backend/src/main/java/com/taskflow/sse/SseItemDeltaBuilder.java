@@ -0,0 +1,102 @@
+package com.taskflow.sse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.taskflow.dto.item.ItemDeltaResponse;
+import com.taskflow.dto.item.ItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 아이템 변경분(델타) 생성기
+ *
+ * 수정 전/후 ItemResponse 를 비교하여 변경된 필드와 속성값만 추립니다.
+ * 필드명은 SSE 로 전송되는 JSON 과 같은 이름(ObjectMapper 명명 규칙)을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseItemDeltaBuilder {
+
+    private static final TypeReference<Map<String, Object>> FIELD_MAP = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 수정 전/후 아이템의 델타 생성
+     */
+    public ItemDeltaResponse build(ItemResponse before, ItemResponse after) {
+        Map<String, Object> beforeFields = toFields(before);
+        Map<String, Object> afterFields = toFields(after);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        afterFields.forEach((field, value) -> {
+            if (!Objects.equals(beforeFields.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+
+        Map<Long, Object> beforeValues = nullToEmpty(before.getPropertyValues());
+        Map<Long, Object> afterValues = nullToEmpty(after.getPropertyValues());
+
+        Map<Long, Object> changedValues = new LinkedHashMap<>();
+        afterValues.forEach((propertyId, value) -> {
+            if (!beforeValues.containsKey(propertyId) || !Objects.equals(beforeValues.get(propertyId), value)) {
+                changedValues.put(propertyId, value);
+            }
+        });
+
+        List<Long> removedPropertyIds = new ArrayList<>();
+        beforeValues.keySet().forEach(propertyId -> {
+            if (!afterValues.containsKey(propertyId)) {
+                removedPropertyIds.add(propertyId);
+            }
+        });
+
+        List<ItemResponse.PropertyValueResponse> changedProperties = new ArrayList<>();
+        if (after.getProperties() != null) {
+            after.getProperties().stream()
+                    .filter(p -> changedValues.containsKey(p.getPropertyId()))
+                    .forEach(changedProperties::add);
+        }
+
+        return ItemDeltaResponse.builder()
+                .itemId(after.getItemId())
+                .boardId(after.getBoardId())
+                .baseVersion(before.getVersion())
+                .version(after.getVersion())
+                .changes(changes)
+                .propertyValues(changedValues)
+                .properties(changedProperties)
+                .removedPropertyIds(removedPropertyIds)
+                .build();
+    }
+
+    /**
+     * 속성값을 제외한 필드를 JSON 필드명 기준 맵으로 변환
+     */
+    private Map<String, Object> toFields(ItemResponse item) {
+        Map<String, Object> fields = objectMapper.convertValue(item, FIELD_MAP);
+        fields.remove(fieldName("properties"));
+        fields.remove(fieldName("propertyValues"));
+        fields.remove(fieldName("version"));
+        return fields;
+    }
+
+    private String fieldName(String javaName) {
+        PropertyNamingStrategy strategy = objectMapper.getPropertyNamingStrategy();
+        return strategy == null ? javaName : strategy.nameForField(objectMapper.getSerializationConfig(), null, javaName);
+    }
+
+    private static Map<Long, Object> nullToEmpty(Map<Long, Object> values) {
+        return values != null ? values : Collections.emptyMap();
+    }
+}
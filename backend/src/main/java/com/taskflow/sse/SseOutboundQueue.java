@@ -0,0 +1,82 @@
+package com.taskflow.sse;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연결별 SSE 전송 대기열
+ *
+ * 크기가 제한된 프레임 대기열과 전송 작업 예약 상태를 보관합니다.
+ * 한 연결에 대해서는 항상 하나의 전송 작업만 실행되므로 프레임 순서가 보장됩니다.
+ */
+public class SseOutboundQueue {
+
+    private final BlockingQueue<SseFrame> frames;
+
+    /**
+     * 전송 작업 예약 여부
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * 종료 여부 (종료 후에는 프레임을 받지 않음)
+     */
+    private volatile boolean closed;
+
+    public SseOutboundQueue(int capacity) {
+        this.frames = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 프레임 추가
+     *
+     * @return 추가 성공 여부 (대기열이 가득 찼거나 종료된 경우 false)
+     */
+    public boolean offer(SseFrame frame) {
+        return !closed && frames.offer(frame);
+    }
+
+    /**
+     * 다음 프레임 조회 (없으면 null)
+     */
+    public SseFrame poll() {
+        return frames.poll();
+    }
+
+    /**
+     * 전송 작업 예약 시도
+     *
+     * @return 예약 성공 여부 (이미 예약된 경우 false)
+     */
+    public boolean trySchedule() {
+        return !closed && scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * 전송 작업 예약 해제
+     */
+    public void release() {
+        scheduled.set(false);
+    }
+
+    /**
+     * 대기열 종료 (남은 프레임 폐기)
+     */
+    public void close() {
+        closed = true;
+        frames.clear();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    public int size() {
+        return frames.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.sse;
+
+/**
+ * SSE 전송 대기열 초과 정책
+ * - DROP: 새 프레임을 버리고 연결은 유지
+ * - DISCONNECT: 느린 구독자로 판단하여 연결 종료 (클라이언트 재연결 유도)
+ */
+public enum SseOverflowPolicy {
+    DROP,
+    DISCONNECT
+}
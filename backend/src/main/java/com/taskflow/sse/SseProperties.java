@@ -0,0 +1,136 @@
+package com.taskflow.sse;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "sse")
+@Getter
+@Setter
+public class SseProperties {
+
+    /**
+     * 전송(dispatch) 설정
+     */
+    private Dispatch dispatch = new Dispatch();
+
+    /**
+     * 재전송(replay) 설정
+     */
+    private Replay replay = new Replay();
+
+    /**
+     * 이벤트 버스 설정 (다중 인스턴스)
+     */
+    private Bus bus = new Bus();
+
+    /**
+     * item:updated 병합 설정
+     */
+    private Coalesce coalesce = new Coalesce();
+
+    /**
+     * item:updated 델타 전송 설정
+     */
+    private Delta delta = new Delta();
+
+    @Getter
+    @Setter
+    public static class Dispatch {
+        /**
+         * 전송 작업 스레드 수
+         */
+        private int writerThreads = 4;
+
+        /**
+         * 연결별 전송 대기열 최대 크기
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * 한 번의 전송 작업에서 처리할 최대 프레임 수 (다른 연결에 스레드 양보)
+         */
+        private int drainBatchSize = 32;
+
+        /**
+         * 대기열 초과 시 정책 (DROP, DISCONNECT)
+         */
+        private SseOverflowPolicy overflowPolicy = SseOverflowPolicy.DISCONNECT;
+    }
+
+    @Getter
+    @Setter
+    public static class Replay {
+        /**
+         * 보드별 재전송 버퍼 크기 (최근 이벤트 수)
+         */
+        private int capacityPerBoard = 200;
+
+        /**
+         * 구독자가 없는 보드의 재전송 버퍼 유지 시간 (초, 마지막 이벤트 기준)
+         */
+        private long idleSeconds = 600;
+    }
+
+    @Getter
+    @Setter
+    public static class Bus {
+        /**
+         * 버스 타입 (LOCAL, DATABASE)
+         */
+        private String type = "LOCAL";
+
+        /**
+         * 인스턴스 ID (미지정 시 기동 시 무작위 생성)
+         */
+        private String nodeId;
+
+        /**
+         * outbox 폴링 간격 (ms)
+         */
+        private long pollIntervalMs = 200;
+
+        /**
+         * 1회 폴링 최대 건수
+         */
+        private int batchSize = 500;
+
+        /**
+         * 비어 있는 outbox ID 구간 대기 시간 (ms, 구간 뒤 이벤트의 기록 시각 기준)
+         */
+        private long gapTimeoutMs = 500;
+
+        /**
+         * outbox 보관 기간 (분)
+         */
+        private int retentionMinutes = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Coalesce {
+        /**
+         * 같은 아이템의 item:updated 를 모으는 시간 (ms, 0 이면 병합하지 않음)
+         */
+        private long windowMs = 300;
+
+        /**
+         * 동시에 보류할 수 있는 최대 아이템 수 (초과 시 즉시 전송)
+         */
+        private int maxPending = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Delta {
+        /**
+         * 아이템 수정 시 전체 아이템 대신 변경된 필드와 속성값만 전송
+         */
+        private boolean enabled = false;
+    }
+}
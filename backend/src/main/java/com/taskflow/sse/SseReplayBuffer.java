@@ -0,0 +1,122 @@
+package com.taskflow.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보드별 SSE 재전송 버퍼 (링 버퍼)
+ *
+ * 최근 이벤트 프레임을 ID 순서대로 보관하여, 재연결한 클라이언트가
+ * Last-Event-ID 이후의 이벤트만 다시 받을 수 있도록 합니다.
+ * 호출자는 버퍼 인스턴스로 동기화(synchronized)한 상태에서 사용해야 합니다.
+ */
+public class SseReplayBuffer {
+
+    /**
+     * 버퍼 항목
+     *
+     * @param frame       ID 가 부여된 프레임
+     * @param triggeredBy 이벤트 발생자 ID (재전송 시 제외 대상)
+     */
+    public record Entry(SseFrame frame, Long triggeredBy) {
+    }
+
+    private final Entry[] entries;
+
+    /**
+     * 다음 기록 위치
+     */
+    private int head;
+
+    /**
+     * 보관 중인 항목 수
+     */
+    private int size;
+
+    /**
+     * 버퍼에서 밀려난 가장 큰 이벤트 ID (이 ID 이하는 재전송 불가)
+     */
+    private long evictedUpTo;
+
+    /**
+     * 마지막 항목 추가 시각 (ms)
+     */
+    private long lastAppendedAt = System.currentTimeMillis();
+
+    /**
+     * 관리자에서 제거되었는지 여부 (제거된 버퍼에는 더 이상 기록하지 않음)
+     */
+    private boolean released;
+
+    public SseReplayBuffer(int capacity, long floor) {
+        this.entries = new Entry[capacity];
+        this.evictedUpTo = floor;
+    }
+
+    /**
+     * 항목 추가 (가득 찬 경우 가장 오래된 항목을 덮어씀)
+     */
+    public void append(SseFrame frame, Long triggeredBy) {
+        Entry evicted = entries[head];
+        if (size == entries.length && evicted != null) {
+            evictedUpTo = evicted.frame().getId();
+        } else {
+            size++;
+        }
+        entries[head] = new Entry(frame, triggeredBy);
+        head = (head + 1) % entries.length;
+        lastAppendedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 가장 최근 항목의 이벤트 ID (비어 있으면 생성 시 기준값)
+     */
+    public long newestId() {
+        if (size == 0) {
+            return evictedUpTo;
+        }
+        return entries[(head - 1 + entries.length) % entries.length].frame().getId();
+    }
+
+    /**
+     * 마지막 항목 추가 후 idleMillis 이상 지났는지 확인
+     */
+    public boolean isIdle(long now, long idleMillis) {
+        return now - lastAppendedAt >= idleMillis;
+    }
+
+    /**
+     * 제거 표시 (이후 이 버퍼를 잠근 호출자는 새 버퍼를 다시 조회)
+     */
+    public void release() {
+        released = true;
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * lastEventId 이후의 항목을 재전송할 수 있는지 확인
+     *
+     * @return 누락 구간이 버퍼 범위 안에 있으면 true
+     */
+    public boolean canReplayFrom(long lastEventId) {
+        return lastEventId >= evictedUpTo;
+    }
+
+    /**
+     * lastEventId 이후의 항목 조회 (오래된 순)
+     */
+    public List<Entry> entriesAfter(long lastEventId) {
+        List<Entry> result = new ArrayList<>();
+        int start = (head - size + entries.length) % entries.length;
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries[(start + i) % entries.length];
+            if (entry.frame().getId() > lastEventId) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,203 @@
+package com.taskflow.sse;
+
+import com.taskflow.dto.sse.SseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트랜잭션 단위 SSE 이벤트 스테이지
+ *
+ * 트랜잭션 안에서 발행된 이벤트를 모아 두었다가 커밋 이후 한 번에 전송합니다.
+ * - 롤백된 트랜잭션의 이벤트는 폐기되어 클라이언트에 전달되지 않습니다.
+ * - 커밋 전에 이벤트가 도착해 아직 보이지 않는 데이터를 재조회하는 문제를 방지합니다.
+ * - 같은 보드(발생자)의 이벤트가 여러 건이면 batch 이벤트 하나로 묶어 전송합니다.
+ *   item:updated 는 병합기로 넘어가므로, batch 는 한 트랜잭션에서 여러 서비스 메서드가 이벤트를
+ *   발행하는 경우에 만들어집니다. 이관 같은 일괄 처리는 발행 시점에 보드별 batch 이벤트를 직접 만듭니다.
+ *
+ * 트랜잭션 밖에서 발행된 이벤트는 즉시 비동기로 전송합니다.
+ * item:updated 는 SseUpdateCoalescer 를 거쳐 아이템별로 병합된 뒤 전송됩니다.
+ */
+@Slf4j
+@Component
+public class SseTransactionalEventStage {
+
+    private final SseEventBus eventBus;
+    private final SseUpdateCoalescer updateCoalescer;
+    private final TaskExecutor taskExecutor;
+
+    private final LongAdder staged = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder committedTransactions = new LongAdder();
+    private final LongAdder batchFrames = new LongAdder();
+
+    public SseTransactionalEventStage(SseEventBus eventBus,
+                                      SseUpdateCoalescer updateCoalescer,
+                                      @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.eventBus = eventBus;
+        this.updateCoalescer = updateCoalescer;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * 이벤트 등록
+     *
+     * 활성 트랜잭션이 있으면 커밋 시점까지 보류하고, 없으면 바로 전송합니다.
+     */
+    public void stage(SseEvent<?> event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            submit(List.of(event));
+            return;
+        }
+
+        staged.increment();
+        StagedEvents pending = (StagedEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new StagedEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new StageSynchronization(pending));
+        }
+        pending.events.add(event);
+    }
+
+    /**
+     * 커밋된 이벤트를 보드별로 묶어 전송 작업으로 넘김
+     */
+    private void submit(List<SseEvent<?>> events) {
+        try {
+            taskExecutor.execute(() -> deliver(events));
+        } catch (RejectedExecutionException e) {
+            log.warn("SSE event executor rejected {} events, delivering inline", events.size());
+            deliver(events);
+        }
+    }
+
+    private void deliver(List<SseEvent<?>> events) {
+        // item:updated 는 병합기로 넘기고 나머지만 즉시 전송
+        List<SseEvent<?>> immediate = new ArrayList<>(events.size());
+        for (SseEvent<?> event : events) {
+            if (!updateCoalescer.offer(event)) {
+                immediate.add(event);
+            }
+        }
+
+        for (SseEvent<?> event : coalesce(immediate)) {
+            if (SseEvent.BATCH.equals(event.getType())) {
+                batchFrames.increment();
+            }
+            try {
+                eventBus.publish(event);
+            } catch (Exception e) {
+                log.error("Failed to publish SSE event: type={}, boardId={}", event.getType(), event.getBoardId(), e);
+            }
+        }
+    }
+
+    /**
+     * 보드·발생자 단위로 이벤트 병합
+     *
+     * 한 건뿐인 그룹은 원래 이벤트 그대로 전송해 기존 클라이언트와 호환을 유지합니다.
+     */
+    static List<SseEvent<?>> coalesce(List<SseEvent<?>> events) {
+        if (events.size() <= 1) {
+            return events;
+        }
+
+        Map<BatchKey, List<SseEvent<?>>> grouped = new LinkedHashMap<>();
+        for (SseEvent<?> event : events) {
+            grouped.computeIfAbsent(new BatchKey(event.getBoardId(), event.getTriggeredBy()), k -> new ArrayList<>())
+                    .add(event);
+        }
+
+        List<SseEvent<?>> result = new ArrayList<>(grouped.size());
+        grouped.forEach((key, group) -> result.add(group.size() == 1
+                ? group.get(0)
+                : SseEvent.batch(key.boardId(), group, key.triggeredBy())));
+        return result;
+    }
+
+    // =============================================
+    // 통계
+    // =============================================
+
+    public long getStagedCount() {
+        return staged.sum();
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * 이벤트가 있는 커밋된 트랜잭션 수
+     */
+    public long getCommittedTransactionCount() {
+        return committedTransactions.sum();
+    }
+
+    /**
+     * 실제 전송된 batch 이벤트 수
+     */
+    public long getBatchFrameCount() {
+        return batchFrames.sum();
+    }
+
+    // =============================================
+    // 트랜잭션 동기화
+    // =============================================
+
+    private record BatchKey(Long boardId, Long triggeredBy) {
+    }
+
+    private static final class StagedEvents {
+        private final List<SseEvent<?>> events = new ArrayList<>();
+    }
+
+    private final class StageSynchronization implements TransactionSynchronization {
+
+        private final StagedEvents pending;
+
+        private StageSynchronization(StagedEvents pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SseTransactionalEventStage.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(SseTransactionalEventStage.this, pending);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SseTransactionalEventStage.this);
+
+            List<SseEvent<?>> events = pending.events;
+            if (events.isEmpty()) {
+                return;
+            }
+            if (status != STATUS_COMMITTED) {
+                discarded.add(events.size());
+                log.debug("Discarding {} SSE events of rolled back transaction", events.size());
+                return;
+            }
+
+            committedTransactions.increment();
+            submit(List.copyOf(events));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.taskflow.sse;
+
+import com.taskflow.dto.item.ItemDeltaResponse;
+import com.taskflow.dto.item.ItemResponse;
+import com.taskflow.dto.sse.SseEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * item:updated 이벤트 병합기
+ *
+ * 그리드 인라인 편집처럼 같은 아이템이 짧은 시간에 여러 번 수정되면
+ * (boardId, itemId) 별로 첫 이벤트부터 설정된 시간(window) 동안 이벤트를 모아
+ * 창이 닫힐 때 마지막 상태 한 건만 전송합니다.
+ * 델타 모드의 연속된 변경분은 하나의 델타로 합쳐 전송합니다.
+ *
+ * item:created, item:deleted 등 다른 이벤트는 병합하지 않고 즉시 전송되며,
+ * 삭제 이벤트가 지나가면 같은 아이템의 보류 중인 수정 이벤트는 폐기됩니다.
+ */
+@Slf4j
+@Component
+public class SseUpdateCoalescer {
+
+    private final SseEventBus eventBus;
+    private final SseProperties.Coalesce properties;
+
+    private final ScheduledExecutorService timer;
+
+    /**
+     * 아이템별 보류 중인 최신 이벤트
+     */
+    private final Map<ItemKey, SseEvent<?>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 병합 통계
+     * - held: 보류된 item:updated 이벤트 수
+     * - coalesced: 이후 이벤트로 대체되거나 삭제로 폐기되어 전송되지 않은 이벤트 수
+     */
+    private final LongAdder held = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SseUpdateCoalescer(SseEventBus eventBus, SseProperties sseProperties) {
+        this.eventBus = eventBus;
+        this.properties = sseProperties.getCoalesce();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("SSE update coalescer initialized: windowMs={}, maxPending={}",
+                properties.getWindowMs(), properties.getMaxPending());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        // 종료 시 보류 중인 이벤트는 바로 전송
+        pending.keySet().forEach(this::flush);
+    }
+
+    /**
+     * 이벤트 보류 시도
+     *
+     * @return 병합 대상으로 보류되었으면 true (호출자는 전송하지 않음)
+     */
+    public boolean offer(SseEvent<?> event) {
+        ItemKey key = updateKey(event);
+        if (key == null) {
+            if (SseEvent.ITEM_DELETED.equals(event.getType())) {
+                discard(event);
+            }
+            return false;
+        }
+
+        if (pending.size() >= properties.getMaxPending() && !pending.containsKey(key)) {
+            // 보류 한도 초과 - 병합하지 않고 바로 전송
+            return false;
+        }
+
+        held.increment();
+        while (true) {
+            SseEvent<?> previous = pending.get(key);
+            if (previous == null) {
+                if (pending.putIfAbsent(key, event) == null) {
+                    schedule(key);
+                    return true;
+                }
+                continue;
+            }
+
+            SseEvent<?> merged = merge(previous, event);
+            if (merged == null) {
+                // 병합할 수 없는 델타 - 보류 중인 이벤트를 먼저 전송하고 새 이벤트를 보류
+                if (pending.replace(key, previous, event)) {
+                    publish(key, previous);
+                    return true;
+                }
+                continue;
+            }
+
+            if (pending.replace(key, previous, merged)) {
+                coalesced.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 보류 중인 이벤트와 새 이벤트 병합
+     *
+     * - 새 이벤트가 전체 아이템이면 그대로 대체
+     * - 둘 다 연속된 델타이면 변경분을 합친 델타
+     * - 그 외(전체 아이템 뒤의 델타, 버전이 이어지지 않는 델타)는 병합 불가(null)
+     */
+    private SseEvent<?> merge(SseEvent<?> previous, SseEvent<?> next) {
+        if (!(next.getData() instanceof ItemDeltaResponse nextDelta)) {
+            return next;
+        }
+        if (!(previous.getData() instanceof ItemDeltaResponse previousDelta)) {
+            return null;
+        }
+
+        ItemDeltaResponse merged = previousDelta.then(nextDelta);
+        return merged == null ? null : SseEvent.itemUpdated(next.getBoardId(), merged, next.getTriggeredBy());
+    }
+
+    private void schedule(ItemKey key) {
+        try {
+            timer.schedule(() -> flush(key), properties.getWindowMs(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(key);
+        }
+    }
+
+    /**
+     * 삭제된 아이템의 보류 중인 수정 이벤트 폐기
+     */
+    private void discard(SseEvent<?> event) {
+        if (event.getData() instanceof ItemResponse item
+                && pending.remove(new ItemKey(event.getBoardId(), item.getItemId())) != null) {
+            coalesced.increment();
+        }
+    }
+
+    private void flush(ItemKey key) {
+        SseEvent<?> event = pending.remove(key);
+        if (event != null) {
+            publish(key, event);
+        }
+    }
+
+    private void publish(ItemKey key, SseEvent<?> event) {
+        try {
+            eventBus.publish(event);
+        } catch (Exception e) {
+            log.error("Failed to publish coalesced SSE event: boardId={}, itemId={}", key.boardId(), key.itemId(), e);
+        }
+    }
+
+    private ItemKey updateKey(SseEvent<?> event) {
+        if (properties.getWindowMs() <= 0
+                || !SseEvent.ITEM_UPDATED.equals(event.getType())
+                || event.getBoardId() == null) {
+            return null;
+        }
+
+        Long itemId = null;
+        if (event.getData() instanceof ItemResponse item) {
+            itemId = item.getItemId();
+        } else if (event.getData() instanceof ItemDeltaResponse delta) {
+            itemId = delta.getItemId();
+        }
+        return itemId != null ? new ItemKey(event.getBoardId(), itemId) : null;
+    }
+
+    // =============================================
+    // 통계
+    // =============================================
+
+    public long getHeldCount() {
+        return held.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private record ItemKey(Long boardId, Long itemId) {
+    }
+}
@@ -202,6 +202,9 @@ CREATE TABLE TB_ITEM (
     CREATED_BY BIGINT NOT NULL COMMENT '생성자',
     UPDATED_AT DATETIME NULL ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
     UPDATED_BY BIGINT NULL COMMENT '수정자',
+    VERSION INT NOT NULL DEFAULT 1 COMMENT '변경 버전 (수정 시 1씩 증가, SSE 델타 이벤트 누락 감지)',
+    COMMENT_COUNT INT NOT NULL DEFAULT 0 COMMENT '댓글 수 (비정규화, 댓글 등록/삭제 시 갱신)',
+    FILE_COUNT INT NOT NULL DEFAULT 0 COMMENT '첨부 파일 수 (비정규화, RELATED_TYPE=ITEM 사용 중 파일)',
     PRIMARY KEY (ITEM_ID)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='업무 아이템';
 
@@ -212,6 +215,14 @@ CREATE INDEX IDX_ITEM_GROUP ON TB_ITEM (GROUP_ID);
 CREATE INDEX IDX_ITEM_CREATED ON TB_ITEM (BOARD_ID, CREATED_AT);
 CREATE INDEX IDX_ITEM_END_TIME ON TB_ITEM (END_TIME);
 CREATE INDEX IDX_ITEM_TRANSFERRED ON TB_ITEM (TRANSFERRED_FROM);
+-- Keyset 페이징 (ORDER BY 정렬 컬럼, ITEM_ID): 보드 목록의 수정일/종료일 정렬을 커서 위치부터 인덱스 순서로 조회
+-- (생성일 정렬은 IDX_ITEM_CREATED 사용 - InnoDB 보조 인덱스 끝에 PK(ITEM_ID)가 포함됨)
+CREATE INDEX IDX_ITEM_BOARD_UPDATED ON TB_ITEM (BOARD_ID, UPDATED_AT, ITEM_ID);
+CREATE INDEX IDX_ITEM_BOARD_END_TIME ON TB_ITEM (BOARD_ID, END_TIME, ITEM_ID);
+-- 키워드 검색 (ngram 2글자 토큰, 한글 부분 문자열 검색): MATCH 로 후보를 좁힌 뒤 LIKE 로 확인
+-- 불용어가 포함된 토큰이 빠지지 않도록 불용어 없이 생성 (docker-compose.yml --innodb-ft-enable-stopword=OFF 와 동일)
+SET SESSION innodb_ft_enable_stopword = OFF;
+CREATE FULLTEXT INDEX FT_ITEM_CONTENT ON TB_ITEM (CONTENT) WITH PARSER ngram;
 
 -- ============================================
 -- 10. TB_ITEM_PROPERTY - 아이템 속성값
@@ -296,6 +307,8 @@ CREATE TABLE TB_TASK_TEMPLATE (
 -- TB_TASK_TEMPLATE 인덱스
 CREATE INDEX IDX_TASK_TEMPLATE_USE ON TB_TASK_TEMPLATE (USE_YN);
 CREATE INDEX IDX_TASK_TEMPLATE_CONTENT ON TB_TASK_TEMPLATE (CONTENT(100));
+SET SESSION innodb_ft_enable_stopword = OFF;
+CREATE FULLTEXT INDEX FT_TASK_TEMPLATE_CONTENT ON TB_TASK_TEMPLATE (CONTENT) WITH PARSER ngram;
 
 -- ============================================
 -- FOREIGN KEY 제약조건
@@ -523,11 +536,97 @@ ALTER TABLE TB_FILE
     FOREIGN KEY (CREATED_BY) REFERENCES TB_USER (USER_ID)
     ON DELETE RESTRICT ON UPDATE CASCADE;
 
+-- ============================================
+-- 17. TB_SSE_OUTBOX - SSE 이벤트 outbox (다중 인스턴스 전달)
+-- ============================================
+CREATE TABLE TB_SSE_OUTBOX (
+    OUTBOX_ID BIGINT NOT NULL AUTO_INCREMENT COMMENT 'outbox ID',
+    ORIGIN_NODE VARCHAR(64) NOT NULL COMMENT '발행 인스턴스 ID',
+    BOARD_ID BIGINT NOT NULL COMMENT '보드 ID',
+    EVENT_TYPE VARCHAR(50) NOT NULL COMMENT '이벤트 타입',
+    PAYLOAD MEDIUMTEXT NOT NULL COMMENT '직렬화된 이벤트 (JSON)',
+    TRIGGERED_BY BIGINT NULL COMMENT '이벤트 발생자 ID',
+    CREATED_AT DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성일시 (ms)',
+    PRIMARY KEY (OUTBOX_ID)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='SSE 이벤트 outbox';
+
+-- TB_SSE_OUTBOX 인덱스
+CREATE INDEX IDX_SSE_OUTBOX_CREATED ON TB_SSE_OUTBOX (CREATED_AT);
+
+-- ============================================
+-- 18. TB_BOARD_ACCESS - 사용자별 보드 접근 (비정규화)
+-- TB_BOARD.OWNER_ID + TB_BOARD_SHARE 를 (사용자, 보드) 단위로 펼친 테이블
+-- 보드 생성/공유/공유 해제/권한 변경/소유권 이전/삭제 시 애플리케이션이 보드 단위로 재구성
+-- Cross-board 조회는 USER_ID 로 시작하는 PK 범위 조회 후 TB_ITEM 과 조인
+-- ============================================
+CREATE TABLE TB_BOARD_ACCESS (
+    USER_ID BIGINT NOT NULL COMMENT '사용자 ID',
+    BOARD_ID BIGINT NOT NULL COMMENT '보드 ID',
+    PERMISSION VARCHAR(20) NOT NULL COMMENT '권한 (OWNER/VIEW/EDIT/FULL)',
+    PRIMARY KEY (USER_ID, BOARD_ID)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 보드 접근';
+
+-- TB_BOARD_ACCESS 인덱스
+CREATE INDEX IDX_BOARD_ACCESS_BOARD ON TB_BOARD_ACCESS (BOARD_ID);
+
+-- TB_BOARD_ACCESS FK
+ALTER TABLE TB_BOARD_ACCESS
+    ADD CONSTRAINT FK_BOARD_ACCESS_BOARD
+    FOREIGN KEY (BOARD_ID) REFERENCES TB_BOARD (BOARD_ID)
+    ON DELETE CASCADE ON UPDATE CASCADE;
+
+ALTER TABLE TB_BOARD_ACCESS
+    ADD CONSTRAINT FK_BOARD_ACCESS_USER
+    FOREIGN KEY (USER_ID) REFERENCES TB_USER (USER_ID)
+    ON DELETE CASCADE ON UPDATE CASCADE;
+
 -- ============================================
 -- 참고: TB_ITEM.TRANSFERRED_FROM, TRANSFERRED_AT 컬럼은
 -- CREATE TABLE TB_ITEM에 이미 포함되어 있음
 -- ============================================
 
+-- ============================================
+-- 참고: 기존 DB 에 TB_SSE_OUTBOX 적용 시 (sse.bus.type=DATABASE 사용 전에 필요)
+-- 위 17번 CREATE TABLE/INDEX 실행 (채울 데이터 없음):
+-- CREATE TABLE TB_SSE_OUTBOX (
+--     OUTBOX_ID BIGINT NOT NULL AUTO_INCREMENT COMMENT 'outbox ID',
+--     ORIGIN_NODE VARCHAR(64) NOT NULL COMMENT '발행 인스턴스 ID',
+--     BOARD_ID BIGINT NOT NULL COMMENT '보드 ID',
+--     EVENT_TYPE VARCHAR(50) NOT NULL COMMENT '이벤트 타입',
+--     PAYLOAD MEDIUMTEXT NOT NULL COMMENT '직렬화된 이벤트 (JSON)',
+--     TRIGGERED_BY BIGINT NULL COMMENT '이벤트 발생자 ID',
+--     CREATED_AT DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성일시 (ms)',
+--     PRIMARY KEY (OUTBOX_ID)
+-- ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='SSE 이벤트 outbox';
+-- CREATE INDEX IDX_SSE_OUTBOX_CREATED ON TB_SSE_OUTBOX (CREATED_AT);
+-- ============================================
+
+-- ============================================
+-- 참고: 기존 DB 에 TB_BOARD_ACCESS 적용 시
+-- 위 18번 CREATE TABLE/INDEX/FK 실행 후 아래 스크립트로 채움:
+-- INSERT INTO TB_BOARD_ACCESS (USER_ID, BOARD_ID, PERMISSION)
+-- SELECT OWNER_ID, BOARD_ID, 'OWNER' FROM TB_BOARD
+-- UNION ALL
+-- SELECT bs.USER_ID, bs.BOARD_ID, bs.PERMISSION
+-- FROM TB_BOARD_SHARE bs INNER JOIN TB_BOARD b ON b.BOARD_ID = bs.BOARD_ID
+-- WHERE bs.USER_ID <> b.OWNER_ID;
+-- ============================================
+
+-- ============================================
+-- 참고: 기존 DB 에 TB_ITEM.VERSION 적용 시 (아이템 조회/수정 전에 필요)
+-- ALTER TABLE TB_ITEM
+--     ADD COLUMN VERSION INT NOT NULL DEFAULT 1 COMMENT '변경 버전 (수정 시 1씩 증가, SSE 델타 이벤트 누락 감지)' AFTER UPDATED_BY;
+-- 기존 아이템은 1 에서 시작 (클라이언트는 재연결 시 전체 동기화)
+-- ============================================
+
+-- ============================================
+-- 참고: 기존 DB 에 TB_ITEM.COMMENT_COUNT, FILE_COUNT 적용 시
+-- ALTER TABLE TB_ITEM
+--     ADD COLUMN COMMENT_COUNT INT NOT NULL DEFAULT 0 COMMENT '댓글 수 (비정규화, 댓글 등록/삭제 시 갱신)' AFTER VERSION,
+--     ADD COLUMN FILE_COUNT INT NOT NULL DEFAULT 0 COMMENT '첨부 파일 수 (비정규화, RELATED_TYPE=ITEM 사용 중 파일)' AFTER COMMENT_COUNT;
+-- 이후 scripts/item-counter-backfill.sh 로 기존 아이템의 값을 채움 (컬럼이 없으면 스크립트가 추가)
+-- ============================================
+
 -- ============================================
 -- 참고: TB_BOARD_SHARE.PERMISSION
 -- 현재 스키마 기본값: 'VIEW' (VIEW/EDIT/FULL)
@@ -129,6 +129,16 @@ INSERT INTO TB_ITEM (ITEM_ID, BOARD_ID, CONTENT, DESCRIPTION, STATUS, PRIORITY,
 (4, 1, '프론트엔드 레이아웃 구현', NULL, 'NOT_STARTED', 'NORMAL', 1, 3, 1, 1),
 (5, 1, '로그인 기능 개발', NULL, 'NOT_STARTED', 'HIGH', 1, 3, 1, 1);
 
+-- ============================================
+-- 12. 사용자별 보드 접근 (소유 + 공유)
+-- ============================================
+INSERT INTO TB_BOARD_ACCESS (USER_ID, BOARD_ID, PERMISSION)
+SELECT OWNER_ID, BOARD_ID, 'OWNER' FROM TB_BOARD
+UNION ALL
+SELECT bs.USER_ID, bs.BOARD_ID, bs.PERMISSION
+FROM TB_BOARD_SHARE bs INNER JOIN TB_BOARD b ON b.BOARD_ID = bs.BOARD_ID
+WHERE bs.USER_ID <> b.OWNER_ID;
+
 -- ============================================
 -- AUTO_INCREMENT 재설정
 -- ============================================
@@ -7,6 +7,11 @@ export const userApi = {
     return get<PageResponse<User>>('/users', params)
   },
 
+  // 활성 사용자 검색 (이름/아이디/부서명, 초성 검색 가능)
+  searchUsers(params: { keyword: string; departmentId?: number; limit?: number }) {
+    return get<User[]>('/users/search', params)
+  },
+
   getUser(userId: number) {
     return get<User>(`/users/${userId}`)
   },
@@ -7,7 +7,7 @@ import { useItemStore } from '@/stores/item'
 import { usePropertyStore } from '@/stores/property'
 import { useAuthStore } from '@/stores/auth'
 import { useToast } from './useToast'
-import type { SseEventData, SseEventType } from '@/types/sse'
+import type { ItemDelta, SseEvent, SseEventData, SseEventType } from '@/types/sse'
 import type { Item, ItemUpdateRequest } from '@/types/item'
 import type { PropertyDef } from '@/types/property'
 import type { Comment } from '@/types/comment'
@@ -55,6 +55,10 @@ export function useSse() {
     if (boardId) {
       params.append('boardId', boardId.toString())
     }
+    // 재연결 시 마지막 이벤트 ID 전달 (누락 이벤트만 재전송)
+    if (boardId && sseStore.lastEventId) {
+      params.append('lastEventId', sseStore.lastEventId)
+    }
 
     if (params.toString()) {
       url += `?${params.toString()}`
@@ -87,35 +91,89 @@ export function useSse() {
   function setupEventHandlers(eventSource: EventSource) {
     // item:created
     eventSource.addEventListener('item:created', (event: MessageEvent) => {
+      trackEventId(event)
       handleItemCreated(JSON.parse(event.data))
     })
 
     // item:updated
     eventSource.addEventListener('item:updated', (event: MessageEvent) => {
+      trackEventId(event)
       handleItemUpdated(JSON.parse(event.data))
     })
 
     // item:deleted
     eventSource.addEventListener('item:deleted', (event: MessageEvent) => {
+      trackEventId(event)
       handleItemDeleted(JSON.parse(event.data))
     })
 
     // property:updated
     eventSource.addEventListener('property:updated', (event: MessageEvent) => {
+      trackEventId(event)
       handlePropertyUpdated(JSON.parse(event.data))
     })
 
     // comment:created
     eventSource.addEventListener('comment:created', (event: MessageEvent) => {
+      trackEventId(event)
       handleCommentCreated(JSON.parse(event.data))
     })
 
+    // batch (한 트랜잭션의 보드 이벤트 묶음 → 발생 순서대로 처리)
+    eventSource.addEventListener('batch', (event: MessageEvent) => {
+      trackEventId(event)
+      handleBatch(JSON.parse(event.data))
+    })
+
+    // resync:required (누락 이벤트가 재전송 범위를 벗어남 → 보드 재조회)
+    eventSource.addEventListener('resync:required', () => {
+      handleResyncRequired()
+    })
+
     // heartbeat (연결 유지)
     eventSource.addEventListener('heartbeat', () => {
       sseStore.setLastEventTime(new Date())
     })
   }
 
+  function trackEventId(event: MessageEvent) {
+    if (event.lastEventId) {
+      sseStore.setLastEventId(event.lastEventId)
+    }
+  }
+
+  function handleBatch(data: SseEventData) {
+    const events = (data.data as SseEvent[]) || []
+    for (const event of events) {
+      switch (event.type) {
+        case 'item:created':
+          handleItemCreated(event)
+          break
+        case 'item:updated':
+          handleItemUpdated(event)
+          break
+        case 'item:deleted':
+          handleItemDeleted(event)
+          break
+        case 'property:updated':
+          handlePropertyUpdated(event)
+          break
+        case 'comment:created':
+          handleCommentCreated(event)
+          break
+      }
+    }
+  }
+
+  function handleResyncRequired() {
+    sseStore.setLastEventTime(new Date())
+
+    const boardId = sseStore.subscribedBoardId
+    if (boardId && boardId === itemStore.currentBoardId) {
+      itemStore.fetchItems(boardId)
+    }
+  }
+
   function handleItemCreated(data: SseEventData) {
     const item = data.data as Item
     sseStore.setLastEventTime(new Date())
@@ -127,9 +185,17 @@ export function useSse() {
   }
 
   function handleItemUpdated(data: SseEventData) {
-    const item = data.data as Item
     sseStore.setLastEventTime(new Date())
 
+    let item = data.data as Item
+    if ((data.data as ItemDelta).delta) {
+      const merged = applyItemDelta(data.data as ItemDelta)
+      if (!merged) {
+        return
+      }
+      item = merged
+    }
+
     // 편집 중인 아이템인지 확인
     if (itemStore.isEditing(item.itemId)) {
       // 충돌 감지: 다른 사용자가 같은 아이템을 수정함
@@ -153,6 +219,39 @@ export function useSse() {
     itemStore.handleSseItemUpdated(item)
   }
 
+  /**
+   * 델타를 보유한 아이템에 적용한 결과 반환
+   * 버전이 이어지지 않으면(델타 누락) 아이템 전체를 다시 조회하고 null 반환
+   */
+  function applyItemDelta(delta: ItemDelta): Item | null {
+    const local = itemStore.getItemById(delta.itemId)
+    if (!local) {
+      return null
+    }
+
+    if (local.version !== delta.baseVersion) {
+      itemStore.fetchItem(delta.boardId, delta.itemId)
+      return null
+    }
+
+    const propertyValues: Record<number, unknown> = { ...(local.propertyValues || {}), ...delta.propertyValues }
+    delta.removedPropertyIds.forEach(id => delete propertyValues[id])
+
+    const changedIds = new Set([...delta.properties.map(p => p.propertyId), ...delta.removedPropertyIds])
+    const properties = [
+      ...(local.properties || []).filter(p => !changedIds.has(p.propertyId)),
+      ...delta.properties
+    ]
+
+    return {
+      ...local,
+      ...(delta.changes as Partial<Item>),
+      version: delta.version,
+      properties,
+      propertyValues
+    }
+  }
+
   function handleItemDeleted(data: SseEventData) {
     const item = data.data as Item
     sseStore.setLastEventTime(new Date())
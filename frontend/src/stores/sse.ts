@@ -27,6 +27,8 @@ export const useSseStore = defineStore('sse', () => {
   const reconnectAttempts = ref(0)
   const subscribedBoardId = ref<number | null>(null)
   const eventSource = ref<EventSource | null>(null)
+  // 마지막으로 받은 보드 이벤트 ID (재연결 시 누락 이벤트 재전송 요청용)
+  const lastEventId = ref<string | null>(null)
 
   // 충돌 상태
   const hasConflict = ref(false)
@@ -60,6 +62,10 @@ export const useSseStore = defineStore('sse', () => {
     eventSource.value = source
   }
 
+  function setLastEventId(id: string | null) {
+    lastEventId.value = id
+  }
+
   function disconnect() {
     if (eventSource.value) {
       eventSource.value.close()
@@ -67,6 +73,7 @@ export const useSseStore = defineStore('sse', () => {
     }
     status.value = 'disconnected'
     subscribedBoardId.value = null
+    lastEventId.value = null
   }
 
   function reset() {
@@ -94,6 +101,7 @@ export const useSseStore = defineStore('sse', () => {
     reconnectAttempts,
     subscribedBoardId,
     eventSource,
+    lastEventId,
     hasConflict,
     conflictInfo,
     isConnected,
@@ -105,6 +113,7 @@ export const useSseStore = defineStore('sse', () => {
     resetReconnectAttempts,
     setSubscribedBoardId,
     setEventSource,
+    setLastEventId,
     disconnect,
     reset,
     setConflict,
@@ -31,12 +31,14 @@ export interface Item {
   transferredFrom?: number  // 이관 원본 보드 ID
   transferredAt?: string    // 이관 일시
   commentCount?: number
+  fileCount?: number
   createdAt: string
   createdBy?: number
   createdByName?: string
   updatedAt?: string
   updatedBy?: number
   updatedByName?: string
+  version?: number          // 변경 버전 (SSE 델타 적용 기준)
   properties?: ItemProperty[]
   propertyValues?: Record<number, unknown>
 }
@@ -1,6 +1,7 @@
 /**
  * SSE 이벤트 타입 정의
  */
+import type { ItemProperty } from './item'
 
 export type SseEventType =
   | 'item:created'
@@ -8,6 +9,8 @@ export type SseEventType =
   | 'item:deleted'
   | 'property:updated'
   | 'comment:created'
+  | 'batch'
+  | 'resync:required'
   | 'connection'
   | 'heartbeat'
 
@@ -38,3 +41,16 @@ export interface SseEventData<T = unknown> {
   triggeredByName?: string
   timestamp?: string
 }
+
+// 아이템 변경분 (델타 모드의 item:updated data)
+export interface ItemDelta {
+  delta: true
+  itemId: number
+  boardId: number
+  baseVersion?: number
+  version?: number
+  changes: Record<string, unknown>
+  propertyValues: Record<number, unknown>
+  properties: ItemProperty[]
+  removedPropertyIds: number[]
+}
@@ -0,0 +1,164 @@
+#!/bin/bash
+# ============================================
+# TaskFlow Cross-board 조회 벤치마크 스크립트
+# ============================================
+# 사용법: ./scripts/cross-board-bench.sh [사용자 수] [보드 수] [보드당 공유 수] [아이템 수] [반복 횟수]
+# 예시: ./scripts/cross-board-bench.sh 5000 20000 5 2000000 20
+#
+# - docker compose 의 mysql 서비스에 벤치마크 전용 DB(taskflow_bench)를 만들고 합성 데이터를 적재합니다.
+# - 기존 EXISTS 방식과 TB_BOARD_ACCESS 방식의 Cross-board 쿼리를 같은 사용자로 반복 실행하여 평균 시간을 비교합니다.
+# - 각 쿼리의 EXPLAIN ANALYZE 결과는 build/cross-board-bench/ 에 저장됩니다.
+# - 운영 DB(taskflow)는 건드리지 않습니다. KEEP_DATA=1 이면 기존 벤치마크 데이터를 재사용합니다.
+
+set -e
+
+USERS=${1:-5000}
+BOARDS=${2:-20000}
+SHARES_PER_BOARD=${3:-5}
+ITEMS=${4:-2000000}
+REPEAT=${5:-20}
+BENCH_DB=taskflow_bench
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+SCHEMA_FILE="${PROJECT_ROOT}/docker/mysql/init/01_schema.sql"
+OUT_DIR="${PROJECT_ROOT}/backend/build/cross-board-bench"
+
+cd "${PROJECT_ROOT}"
+mkdir -p "${OUT_DIR}"
+
+mysql_exec() {
+    docker compose exec -T mysql sh -c 'exec mysql -uroot -p"$MYSQL_ROOT_PASSWORD" --default-character-set=utf8mb4 "$@"' -- "$@" 2> >(grep -v "Using a password" >&2)
+}
+
+echo "============================================"
+echo "TaskFlow Cross-board 조회 벤치마크"
+echo "사용자: ${USERS}, 보드: ${BOARDS}, 보드당 공유: ${SHARES_PER_BOARD}, 아이템: ${ITEMS}, 반복: ${REPEAT}"
+echo "============================================"
+
+echo "[1/4] MySQL 확인 중..."
+docker compose up -d mysql
+for i in $(seq 1 60); do
+    if docker compose exec -T mysql mysqladmin ping -h localhost --silent 2>/dev/null; then
+        break
+    fi
+    sleep 2
+done
+
+if [ "${KEEP_DATA}" != "1" ]; then
+    echo "[2/4] 합성 데이터 적재 중... (수 분 소요)"
+    mysql_exec -e "DROP DATABASE IF EXISTS ${BENCH_DB}; CREATE DATABASE ${BENCH_DB} CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;"
+    mysql_exec "${BENCH_DB}" < "${SCHEMA_FILE}"
+    mysql_exec "${BENCH_DB}" <<SQL
+SET SESSION cte_max_recursion_depth = 100000000;
+SET FOREIGN_KEY_CHECKS = 0;
+
+INSERT INTO TB_DEPARTMENT (DEPARTMENT_ID, DEPARTMENT_CODE, DEPARTMENT_NAME, CREATED_BY)
+VALUES (1, 'BENCH', '벤치마크', 1);
+
+INSERT INTO TB_USER (USER_ID, USERNAME, PASSWORD, NAME, DEPARTMENT_ID, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${USERS})
+SELECT n, CONCAT('bench', n), 'x', CONCAT('사용자', n), 1, 1 FROM seq;
+
+-- 보드: 소유자는 사용자에 고르게 분산, 5% 는 비활성
+INSERT INTO TB_BOARD (BOARD_ID, BOARD_NAME, OWNER_ID, USE_YN, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${BOARDS})
+SELECT n, CONCAT('보드', n), 1 + (n % ${USERS}), IF(n % 20 = 0, 'N', 'Y'), 1 FROM seq;
+
+-- 공유: 보드마다 의사 난수 사용자 ${SHARES_PER_BOARD}명
+INSERT IGNORE INTO TB_BOARD_SHARE (BOARD_ID, USER_ID, PERMISSION, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ${BOARDS} * ${SHARES_PER_BOARD} - 1)
+SELECT 1 + FLOOR(n / ${SHARES_PER_BOARD}),
+       1 + ((n * 7919 + 104729) % ${USERS}),
+       ELT(1 + n % 3, 'VIEW', 'EDIT', 'FULL'),
+       1
+FROM seq;
+
+-- 아이템: 완료 40%, 삭제 10%, 보류 10%, 진행 20%, 미시작 20% / 절반은 종료 시간 보유 (과거/미래)
+INSERT INTO TB_ITEM (BOARD_ID, CONTENT, STATUS, PRIORITY, END_TIME, CREATED_BY, CREATED_AT)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${ITEMS})
+SELECT 1 + ((n * 2654435761) % ${BOARDS}),
+       CONCAT('업무 ', n),
+       ELT(1 + n % 10, 'COMPLETED', 'COMPLETED', 'COMPLETED', 'COMPLETED', 'DELETED',
+           'PENDING', 'IN_PROGRESS', 'IN_PROGRESS', 'NOT_STARTED', 'NOT_STARTED'),
+       ELT(1 + n % 4, 'URGENT', 'HIGH', 'NORMAL', 'LOW'),
+       IF(n % 2 = 0, NOW() - INTERVAL ((n % 61) - 30) DAY, NULL),
+       1,
+       NOW() - INTERVAL (n % 365) DAY
+FROM seq;
+
+INSERT INTO TB_BOARD_ACCESS (USER_ID, BOARD_ID, PERMISSION)
+SELECT OWNER_ID, BOARD_ID, 'OWNER' FROM TB_BOARD
+UNION ALL
+SELECT bs.USER_ID, bs.BOARD_ID, bs.PERMISSION
+FROM TB_BOARD_SHARE bs INNER JOIN TB_BOARD b ON b.BOARD_ID = bs.BOARD_ID
+WHERE bs.USER_ID <> b.OWNER_ID;
+
+SET FOREIGN_KEY_CHECKS = 1;
+ANALYZE TABLE TB_USER, TB_BOARD, TB_BOARD_SHARE, TB_BOARD_ACCESS, TB_ITEM;
+SQL
+else
+    echo "[2/4] 기존 벤치마크 데이터 사용 (KEEP_DATA=1)"
+fi
+
+# 접근 가능한 보드가 가장 많은 사용자 (공유 분포상 대표 사용자)
+BENCH_USER=$(mysql_exec -N "${BENCH_DB}" -e "SELECT USER_ID FROM TB_BOARD_ACCESS GROUP BY USER_ID ORDER BY COUNT(*) DESC LIMIT 1;")
+BENCH_USER_BOARDS=$(mysql_exec -N "${BENCH_DB}" -e "SELECT COUNT(*) FROM TB_BOARD_ACCESS WHERE USER_ID = ${BENCH_USER};")
+echo "[3/4] 대상 사용자: ${BENCH_USER} (접근 가능 보드 ${BENCH_USER_BOARDS}개)"
+
+LEGACY_CONDITION="AND (b.OWNER_ID = ${BENCH_USER} OR EXISTS (SELECT 1 FROM TB_BOARD_SHARE bs WHERE bs.BOARD_ID = b.BOARD_ID AND bs.USER_ID = ${BENCH_USER})) AND b.USE_YN = 'Y'"
+ACCESS_CONDITION="AND i.BOARD_ID IN (SELECT ba.BOARD_ID FROM TB_BOARD_ACCESS ba WHERE ba.USER_ID = ${BENCH_USER}) AND b.USE_YN = 'Y'"
+
+# ItemMapper.xml 의 countOverdueItems / countActiveItemsCrossBoard / findActiveItemsCrossBoard 와 같은 조건
+query() {
+    local name=$1
+    local condition=$2
+    case "${name}" in
+        overdue_count)
+            echo "SELECT COUNT(*) FROM TB_ITEM i INNER JOIN TB_BOARD b ON i.BOARD_ID = b.BOARD_ID WHERE i.END_TIME IS NOT NULL AND i.END_TIME < CURRENT_TIMESTAMP AND i.STATUS NOT IN ('COMPLETED', 'DELETED') ${condition}" ;;
+        active_count)
+            echo "SELECT COUNT(*) FROM TB_ITEM i INNER JOIN TB_BOARD b ON i.BOARD_ID = b.BOARD_ID WHERE i.STATUS NOT IN ('COMPLETED', 'DELETED') ${condition}" ;;
+        active_page)
+            echo "SELECT i.ITEM_ID FROM TB_ITEM i INNER JOIN TB_BOARD b ON i.BOARD_ID = b.BOARD_ID WHERE i.STATUS NOT IN ('COMPLETED', 'DELETED') ${condition} ORDER BY i.CREATED_AT DESC LIMIT 20" ;;
+    esac
+}
+
+# 한 세션에서 워밍업 1회 후 REPEAT 회 실행한 평균 (ms)
+measure() {
+    local sql=$1
+    {
+        echo "SET @dummy := (SELECT COUNT(*) FROM (${sql}) w);"
+        echo "SET @started := NOW(6);"
+        for _ in $(seq 1 "${REPEAT}"); do
+            echo "SET @dummy := (SELECT COUNT(*) FROM (${sql}) r);"
+        done
+        echo "SELECT ROUND(TIMESTAMPDIFF(MICROSECOND, @started, NOW(6)) / ${REPEAT} / 1000, 2);"
+    } | mysql_exec -N "${BENCH_DB}"
+}
+
+echo "[4/4] 쿼리 측정 중..."
+printf "\n%-15s %15s %15s %10s\n" "query" "EXISTS (ms)" "ACCESS (ms)" "speedup"
+for name in overdue_count active_count active_page; do
+    legacy_sql=$(query "${name}" "${LEGACY_CONDITION}")
+    access_sql=$(query "${name}" "${ACCESS_CONDITION}")
+
+    if [ "${name}" != "active_page" ]; then
+        legacy_count=$(mysql_exec -N "${BENCH_DB}" -e "${legacy_sql}")
+        access_count=$(mysql_exec -N "${BENCH_DB}" -e "${access_sql}")
+        if [ "${legacy_count}" != "${access_count}" ]; then
+            echo "결과 불일치: ${name} (EXISTS ${legacy_count}, ACCESS ${access_count})"
+            exit 1
+        fi
+    fi
+
+    mysql_exec "${BENCH_DB}" -e "EXPLAIN ANALYZE ${legacy_sql}" > "${OUT_DIR}/${name}-exists.txt"
+    mysql_exec "${BENCH_DB}" -e "EXPLAIN ANALYZE ${access_sql}" > "${OUT_DIR}/${name}-access.txt"
+
+    legacy_ms=$(measure "${legacy_sql}")
+    access_ms=$(measure "${access_sql}")
+    speedup=$(awk -v a="${legacy_ms}" -v b="${access_ms}" 'BEGIN { if (b > 0) printf "%.1fx", a / b; else print "-" }')
+    printf "%-15s %15s %15s %10s\n" "${name}" "${legacy_ms}" "${access_ms}" "${speedup}"
+done
+
+echo ""
+echo "실행 계획: ${OUT_DIR}"
@@ -0,0 +1,98 @@
+#!/bin/bash
+# ============================================
+# TaskFlow 아이템 댓글/첨부 파일 수 재집계 스크립트 (TB_ITEM.COMMENT_COUNT, FILE_COUNT)
+# ============================================
+# 사용법: ./scripts/item-counter-backfill.sh [배치 크기]
+# 예시: ./scripts/item-counter-backfill.sh 5000
+#
+# - docker compose 의 mysql 서비스에서 DB(MYSQL_DATABASE, 기본 taskflow)의 카운터 컬럼을 원본 테이블 기준으로 다시 계산합니다.
+#   (댓글: TB_COMMENT, 첨부 파일: TB_FILE 중 RELATED_TYPE = 'ITEM' 이고 USE_YN = 'Y')
+# - 카운터 컬럼(및 그 앞의 VERSION 컬럼)이 없으면 먼저 추가합니다. (기존 DB 마이그레이션)
+# - ITEM_ID 범위 단위로 나누어 갱신하므로 긴 잠금 없이 운영 중에도 실행할 수 있습니다.
+# - UPDATED_AT / VERSION 은 변경하지 않으며, 여러 번 실행해도 결과가 같습니다.
+
+set -e
+
+BATCH=${1:-5000}
+DB=${MYSQL_DATABASE:-taskflow}
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+
+cd "${PROJECT_ROOT}"
+
+mysql_exec() {
+    docker compose exec -T mysql sh -c 'exec mysql -uroot -p"$MYSQL_ROOT_PASSWORD" --default-character-set=utf8mb4 "$@"' -- "$@" 2> >(grep -v "Using a password" >&2)
+}
+
+echo "============================================"
+echo "TaskFlow 아이템 카운터 재집계"
+echo "DB: ${DB}, 배치 크기: ${BATCH}"
+echo "============================================"
+
+echo "[1/3] 카운터 컬럼 확인 중..."
+# 01_schema.sql 의 TB_ITEM 정의와 같은 컬럼
+add_column_if_missing() {
+    local column=$1 definition=$2
+    exists=$(mysql_exec -N "${DB}" -e "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'TB_ITEM' AND COLUMN_NAME = '${column}'")
+    if [ "${exists}" = "0" ]; then
+        echo "  ${column} 컬럼 추가"
+        mysql_exec "${DB}" -e "ALTER TABLE TB_ITEM ADD COLUMN ${column} ${definition}"
+    fi
+}
+add_column_if_missing VERSION "INT NOT NULL DEFAULT 1 COMMENT '변경 버전 (수정 시 1씩 증가, SSE 델타 이벤트 누락 감지)' AFTER UPDATED_BY"
+add_column_if_missing COMMENT_COUNT "INT NOT NULL DEFAULT 0 COMMENT '댓글 수 (비정규화, 댓글 등록/삭제 시 갱신)' AFTER VERSION"
+add_column_if_missing FILE_COUNT "INT NOT NULL DEFAULT 0 COMMENT '첨부 파일 수 (비정규화, RELATED_TYPE=ITEM 사용 중 파일)' AFTER COMMENT_COUNT"
+
+read -r min_id max_id <<< "$(mysql_exec -N "${DB}" -e "SELECT COALESCE(MIN(ITEM_ID), 0), COALESCE(MAX(ITEM_ID), 0) FROM TB_ITEM")"
+if [ "${max_id}" = "0" ]; then
+    echo "아이템이 없습니다."
+    exit 0
+fi
+
+echo "[2/3] 재집계 중... (ITEM_ID ${min_id} ~ ${max_id})"
+updated=0
+start=${min_id}
+while [ "${start}" -le "${max_id}" ]; do
+    end=$((start + BATCH - 1))
+    rows=$(mysql_exec -N "${DB}" <<SQL
+UPDATE TB_ITEM i
+LEFT JOIN (
+    SELECT c.ITEM_ID, COUNT(*) AS CNT
+    FROM TB_COMMENT c
+    WHERE c.ITEM_ID BETWEEN ${start} AND ${end}
+    GROUP BY c.ITEM_ID
+) cc ON cc.ITEM_ID = i.ITEM_ID
+LEFT JOIN (
+    SELECT f.RELATED_ID, COUNT(*) AS CNT
+    FROM TB_FILE f
+    WHERE f.RELATED_TYPE = 'ITEM'
+      AND f.USE_YN = 'Y'
+      AND f.RELATED_ID BETWEEN ${start} AND ${end}
+    GROUP BY f.RELATED_ID
+) fc ON fc.RELATED_ID = i.ITEM_ID
+SET i.COMMENT_COUNT = COALESCE(cc.CNT, 0),
+    i.FILE_COUNT = COALESCE(fc.CNT, 0),
+    i.UPDATED_AT = i.UPDATED_AT
+WHERE i.ITEM_ID BETWEEN ${start} AND ${end}
+  AND (i.COMMENT_COUNT != COALESCE(cc.CNT, 0) OR i.FILE_COUNT != COALESCE(fc.CNT, 0));
+SELECT ROW_COUNT();
+SQL
+)
+    updated=$((updated + rows))
+    start=$((end + 1))
+done
+
+echo "[3/3] 검증 중..."
+mismatch=$(mysql_exec -N "${DB}" -e "
+SELECT COUNT(*)
+FROM TB_ITEM i
+WHERE i.COMMENT_COUNT != (SELECT COUNT(*) FROM TB_COMMENT c WHERE c.ITEM_ID = i.ITEM_ID)
+   OR i.FILE_COUNT != (SELECT COUNT(*) FROM TB_FILE f WHERE f.RELATED_TYPE = 'ITEM' AND f.USE_YN = 'Y' AND f.RELATED_ID = i.ITEM_ID)")
+
+echo ""
+echo "갱신된 아이템: ${updated}, 불일치: ${mismatch}"
+if [ "${mismatch}" != "0" ]; then
+    echo "재집계 중 변경된 아이템이 있을 수 있습니다. 다시 실행하세요."
+    exit 1
+fi
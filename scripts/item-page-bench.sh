@@ -0,0 +1,162 @@
+#!/bin/bash
+# ============================================
+# TaskFlow 아이템 목록 페이징 벤치마크 스크립트 (OFFSET vs Keyset)
+# ============================================
+# 사용법: ./scripts/item-page-bench.sh [보드 수] [아이템 수] [페이지 크기] [반복 횟수]
+# 예시: ./scripts/item-page-bench.sh 50 2000000 20 20
+#
+# - docker compose 의 mysql 서비스에 벤치마크 전용 DB(taskflow_page_bench)를 만들고 합성 데이터를 적재합니다.
+#   (사용자 1명이 모든 보드를 소유, 아이템의 절반은 1번 보드에 집중)
+# - 보드 목록(findByBoardIdWithFilter)과 Cross-board 활성 업무(findActiveItemsCrossBoard) 쿼리를
+#   페이지 깊이별로 OFFSET 방식과 커서(Keyset) 방식으로 실행하여 평균 시간을 비교합니다.
+# - 측정할 페이지 번호는 환경변수 PAGES 로 지정합니다. (기본 "0 50 500 5000")
+# - 각 쿼리의 EXPLAIN ANALYZE 결과는 build/item-page-bench/ 에 저장됩니다.
+# - 운영 DB(taskflow)는 건드리지 않습니다. KEEP_DATA=1 이면 기존 벤치마크 데이터를 재사용합니다.
+
+set -e
+
+BOARDS=${1:-50}
+ITEMS=${2:-2000000}
+SIZE=${3:-20}
+REPEAT=${4:-20}
+PAGES=${PAGES:-"0 50 500 5000"}
+BENCH_DB=taskflow_page_bench
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+SCHEMA_FILE="${PROJECT_ROOT}/docker/mysql/init/01_schema.sql"
+OUT_DIR="${PROJECT_ROOT}/backend/build/item-page-bench"
+
+cd "${PROJECT_ROOT}"
+mkdir -p "${OUT_DIR}"
+
+mysql_exec() {
+    docker compose exec -T mysql sh -c 'exec mysql -uroot -p"$MYSQL_ROOT_PASSWORD" --default-character-set=utf8mb4 "$@"' -- "$@" 2> >(grep -v "Using a password" >&2)
+}
+
+echo "============================================"
+echo "TaskFlow 아이템 목록 페이징 벤치마크"
+echo "보드: ${BOARDS}, 아이템: ${ITEMS}, 페이지 크기: ${SIZE}, 반복: ${REPEAT}, 페이지: ${PAGES}"
+echo "============================================"
+
+echo "[1/3] MySQL 확인 중..."
+docker compose up -d mysql
+for i in $(seq 1 60); do
+    if docker compose exec -T mysql mysqladmin ping -h localhost --silent 2>/dev/null; then
+        break
+    fi
+    sleep 2
+done
+
+if [ "${KEEP_DATA}" != "1" ]; then
+    echo "[2/3] 합성 데이터 적재 중... (수 분 소요)"
+    mysql_exec -e "DROP DATABASE IF EXISTS ${BENCH_DB}; CREATE DATABASE ${BENCH_DB} CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;"
+    mysql_exec "${BENCH_DB}" < "${SCHEMA_FILE}"
+    mysql_exec "${BENCH_DB}" <<SQL
+SET SESSION cte_max_recursion_depth = 100000000;
+SET FOREIGN_KEY_CHECKS = 0;
+
+INSERT INTO TB_DEPARTMENT (DEPARTMENT_ID, DEPARTMENT_CODE, DEPARTMENT_NAME, CREATED_BY)
+VALUES (1, 'BENCH', '벤치마크', 1);
+
+INSERT INTO TB_USER (USER_ID, USERNAME, PASSWORD, NAME, DEPARTMENT_ID, CREATED_BY)
+VALUES (1, 'bench1', 'x', '사용자1', 1, 1);
+
+INSERT INTO TB_BOARD (BOARD_ID, BOARD_NAME, OWNER_ID, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${BOARDS})
+SELECT n, CONCAT('보드', n), 1, 1 FROM seq;
+
+-- 아이템: 절반은 1번 보드, 완료 40%, 삭제 10% / 생성일은 3건씩 같은 값 (ITEM_ID 보조 정렬 확인)
+INSERT INTO TB_ITEM (BOARD_ID, CONTENT, STATUS, PRIORITY, END_TIME, CREATED_BY, CREATED_AT, UPDATED_AT)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${ITEMS})
+SELECT IF(n % 2 = 0, 1, 2 + n % GREATEST(${BOARDS} - 1, 1)),
+       CONCAT('업무 ', n),
+       ELT(1 + n % 10, 'COMPLETED', 'COMPLETED', 'COMPLETED', 'COMPLETED', 'DELETED',
+           'PENDING', 'IN_PROGRESS', 'IN_PROGRESS', 'NOT_STARTED', 'NOT_STARTED'),
+       ELT(1 + n % 4, 'URGENT', 'HIGH', 'NORMAL', 'LOW'),
+       IF(n % 2 = 0, NOW() - INTERVAL ((n % 61) - 30) DAY, NULL),
+       1,
+       NOW() - INTERVAL (n DIV 3) SECOND,
+       IF(n % 5 = 0, NULL, NOW() - INTERVAL ((n * 7919) % 31536000) SECOND)
+FROM seq;
+
+INSERT INTO TB_BOARD_ACCESS (USER_ID, BOARD_ID, PERMISSION)
+SELECT OWNER_ID, BOARD_ID, 'OWNER' FROM TB_BOARD;
+
+SET FOREIGN_KEY_CHECKS = 1;
+ANALYZE TABLE TB_USER, TB_BOARD, TB_BOARD_ACCESS, TB_ITEM;
+SQL
+else
+    echo "[2/3] 기존 벤치마크 데이터 사용 (KEEP_DATA=1)"
+fi
+
+# ItemMapper.xml 의 selectItem 중 조인/댓글 수 컬럼을 포함한 목록 조회
+SELECT_LIST="i.ITEM_ID, i.CONTENT, i.STATUS, b.BOARD_NAME, uc.NAME AS CREATED_BY_NAME, i.COMMENT_COUNT"
+FROM_CLAUSE="FROM TB_ITEM i INNER JOIN TB_BOARD b ON i.BOARD_ID = b.BOARD_ID LEFT JOIN TB_USER uc ON i.CREATED_BY = uc.USER_ID"
+ORDER_BY="ORDER BY i.CREATED_AT DESC, i.ITEM_ID DESC"
+
+# 기본 조건 (board: 보드 목록 기본 필터, cross: Cross-board 활성 업무)
+where_clause() {
+    case "$1" in
+        board)
+            echo "WHERE i.BOARD_ID = 1 AND i.STATUS != 'COMPLETED' AND i.STATUS != 'DELETED'" ;;
+        cross)
+            echo "WHERE i.STATUS NOT IN ('COMPLETED', 'DELETED') AND i.BOARD_ID IN (SELECT ba.BOARD_ID FROM TB_BOARD_ACCESS ba WHERE ba.USER_ID = 1) AND b.USE_YN = 'Y'" ;;
+    esac
+}
+
+# 한 세션에서 워밍업 1회 후 REPEAT 회 실행한 평균 (ms)
+measure() {
+    local sql=$1
+    {
+        echo "SET @dummy := (SELECT COUNT(*) FROM (${sql}) w);"
+        echo "SET @started := NOW(6);"
+        for _ in $(seq 1 "${REPEAT}"); do
+            echo "SET @dummy := (SELECT COUNT(*) FROM (${sql}) r);"
+        done
+        echo "SELECT ROUND(TIMESTAMPDIFF(MICROSECOND, @started, NOW(6)) / ${REPEAT} / 1000, 2);"
+    } | mysql_exec -N "${BENCH_DB}"
+}
+
+echo "[3/3] 쿼리 측정 중..."
+printf "\n%-8s %8s %12s %15s %15s %10s\n" "query" "page" "offset" "OFFSET (ms)" "KEYSET (ms)" "speedup"
+for name in board cross; do
+    where=$(where_clause "${name}")
+    for page in ${PAGES}; do
+        offset=$((page * SIZE))
+        offset_sql="SELECT ${SELECT_LIST} ${FROM_CLAUSE} ${where} ${ORDER_BY} LIMIT ${SIZE} OFFSET ${offset}"
+
+        # 이전 페이지 마지막 행 = 커서 (첫 페이지는 커서 없음)
+        keyset_condition=""
+        if [ "${page}" -gt 0 ]; then
+            boundary=$(mysql_exec -N "${BENCH_DB}" -e "SELECT CONCAT(DATE_FORMAT(i.CREATED_AT, '%Y-%m-%d %H:%i:%s'), ',', i.ITEM_ID) ${FROM_CLAUSE} ${where} ${ORDER_BY} LIMIT 1 OFFSET $((offset - 1))")
+            if [ -z "${boundary}" ]; then
+                printf "%-8s %8s %12s %15s\n" "${name}" "${page}" "${offset}" "(데이터 부족)"
+                continue
+            fi
+            cursor_time=${boundary%,*}
+            cursor_id=${boundary#*,}
+            keyset_condition="AND (i.CREATED_AT < '${cursor_time}' OR (i.CREATED_AT = '${cursor_time}' AND i.ITEM_ID < ${cursor_id}))"
+        fi
+        keyset_sql="SELECT ${SELECT_LIST} ${FROM_CLAUSE} ${where} ${keyset_condition} ${ORDER_BY} LIMIT $((SIZE + 1))"
+
+        # 같은 페이지를 반환하는지 확인 (Keyset 은 다음 페이지 확인용 1건 제외)
+        offset_ids=$(mysql_exec -N "${BENCH_DB}" -e "SELECT ITEM_ID FROM (${offset_sql}) p" | tr '\n' ' ')
+        keyset_ids=$(mysql_exec -N "${BENCH_DB}" -e "SELECT ITEM_ID FROM (${keyset_sql}) p" | head -n "${SIZE}" | tr '\n' ' ')
+        if [ "${offset_ids}" != "${keyset_ids}" ]; then
+            echo "결과 불일치: ${name} page ${page}"
+            exit 1
+        fi
+
+        mysql_exec "${BENCH_DB}" -e "EXPLAIN ANALYZE ${offset_sql}" > "${OUT_DIR}/${name}-page${page}-offset.txt"
+        mysql_exec "${BENCH_DB}" -e "EXPLAIN ANALYZE ${keyset_sql}" > "${OUT_DIR}/${name}-page${page}-keyset.txt"
+
+        offset_ms=$(measure "${offset_sql}")
+        keyset_ms=$(measure "${keyset_sql}")
+        speedup=$(awk -v a="${offset_ms}" -v b="${keyset_ms}" 'BEGIN { if (b > 0) printf "%.1fx", a / b; else print "-" }')
+        printf "%-8s %8s %12s %15s %15s %10s\n" "${name}" "${page}" "${offset}" "${offset_ms}" "${keyset_ms}" "${speedup}"
+    done
+done
+
+echo ""
+echo "실행 계획: ${OUT_DIR}"
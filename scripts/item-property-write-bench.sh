@@ -0,0 +1,192 @@
+#!/bin/bash
+# ============================================
+# TaskFlow 아이템 속성값 저장 벤치마크 스크립트 (행 단위 SQL vs 다중 행 SQL)
+# ============================================
+# 사용법: ./scripts/item-property-write-bench.sh [저장 횟수] [단일값 속성 수] [다중선택 속성 수] [선택 옵션 수]
+# 예시: ./scripts/item-property-write-bench.sh 500 6 4 3
+#
+# - docker compose 의 mysql 서비스에 벤치마크 전용 DB(taskflow_property_bench)를 만들고 보드 1개에 속성을 정의합니다.
+# - 아이템 한 건의 속성 저장(ItemServiceImpl.saveItemProperties)을 두 방식으로 재현합니다.
+#   legacy : 속성마다 UPSERT, 다중선택마다 DELETE + 옵션별 INSERT + UPSERT (변경 전)
+#   batched: 여러 속성 DELETE / 다중선택 DELETE / 다중 행 INSERT / 다중 행 UPSERT (ItemPropertyMapper.*Batch)
+# - 저장 1회는 한 트랜잭션이며, 서버 상태 변수(Questions, Com_*)로 저장당 SQL 수와 평균 시간을 측정합니다.
+# - 운영 DB(taskflow)는 건드리지 않습니다.
+
+set -e
+
+SAVES=${1:-500}
+SINGLE_PROPS=${2:-6}
+MULTI_PROPS=${3:-4}
+OPTIONS=${4:-3}
+BENCH_DB=taskflow_property_bench
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+SCHEMA_FILE="${PROJECT_ROOT}/docker/mysql/init/01_schema.sql"
+OUT_DIR="${PROJECT_ROOT}/backend/build/item-property-write-bench"
+
+cd "${PROJECT_ROOT}"
+mkdir -p "${OUT_DIR}"
+
+mysql_exec() {
+    docker compose exec -T mysql sh -c 'exec mysql -uroot -p"$MYSQL_ROOT_PASSWORD" --default-character-set=utf8mb4 "$@"' -- "$@" 2> >(grep -v "Using a password" >&2)
+}
+
+echo "============================================"
+echo "TaskFlow 아이템 속성값 저장 벤치마크"
+echo "저장: ${SAVES}, 단일값 속성: ${SINGLE_PROPS}, 다중선택 속성: ${MULTI_PROPS}, 선택 옵션: ${OPTIONS}"
+echo "============================================"
+
+echo "[1/3] MySQL 확인 중..."
+docker compose up -d mysql
+for i in $(seq 1 60); do
+    if docker compose exec -T mysql mysqladmin ping -h localhost --silent 2>/dev/null; then
+        break
+    fi
+    sleep 2
+done
+
+echo "[2/3] 벤치마크 데이터 준비 중..."
+mysql_exec -e "DROP DATABASE IF EXISTS ${BENCH_DB}; CREATE DATABASE ${BENCH_DB} CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;"
+mysql_exec "${BENCH_DB}" < "${SCHEMA_FILE}"
+mysql_exec "${BENCH_DB}" <<SQL
+SET SESSION cte_max_recursion_depth = 1000000;
+
+INSERT INTO TB_DEPARTMENT (DEPARTMENT_ID, DEPARTMENT_CODE, DEPARTMENT_NAME, CREATED_BY)
+VALUES (1, 'BENCH', '벤치마크', 1);
+
+INSERT INTO TB_USER (USER_ID, USERNAME, PASSWORD, NAME, DEPARTMENT_ID, CREATED_BY)
+VALUES (1, 'bench1', 'x', '사용자1', 1, 1);
+
+INSERT INTO TB_BOARD (BOARD_ID, BOARD_NAME, OWNER_ID, CREATED_BY)
+VALUES (1, '보드1', 1, 1);
+
+-- 속성 ID 1..S: 단일값(TEXT), S+1..S+M: 다중선택
+INSERT INTO TB_PROPERTY_DEF (PROPERTY_ID, BOARD_ID, PROPERTY_NAME, PROPERTY_TYPE, SORT_ORDER, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${SINGLE_PROPS} + ${MULTI_PROPS})
+SELECT n, CONCAT('속성', n), IF(n <= ${SINGLE_PROPS}, 'TEXT', 'MULTI_SELECT'), n, 1 FROM seq;
+
+-- 다중선택 속성마다 옵션 (선택 옵션 수 x 2)개, 옵션 ID = (다중선택 순번 - 1) * 옵션 수 + 순번
+INSERT INTO TB_PROPERTY_OPTION (OPTION_ID, PROPERTY_ID, OPTION_LABEL, SORT_ORDER, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${MULTI_PROPS} * ${OPTIONS} * 2)
+SELECT n, ${SINGLE_PROPS} + 1 + (n - 1) DIV (${OPTIONS} * 2), CONCAT('옵션', n), n, 1 FROM seq;
+
+INSERT INTO TB_ITEM (ITEM_ID, BOARD_ID, CONTENT, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${SAVES})
+SELECT n, 1, CONCAT('아이템 ', n), 1 FROM seq;
+SQL
+
+# 저장 SQL 생성 (round: 회차마다 다른 값/옵션을 선택하여 실제 변경이 일어나도록 함)
+generate_saves() {
+    local mode=$1 round=$2
+    awk -v mode="${mode}" -v round="${round}" -v saves="${SAVES}" \
+        -v singles="${SINGLE_PROPS}" -v multis="${MULTI_PROPS}" -v options="${OPTIONS}" '
+    function upsert_row(item, prop, text) {
+        return sprintf("(%d, %d, '\''%s'\'', NULL, NULL, NULL, NULL, NULL, 1)", item, prop, text)
+    }
+    BEGIN {
+        cols = "INSERT INTO TB_ITEM_PROPERTY (ITEM_ID, PROPERTY_ID, VALUE_TEXT, VALUE_NUMBER, VALUE_DATE, VALUE_USER_ID, VALUE_OPTION_ID, VALUE_CHECKBOX, CREATED_BY) VALUES "
+        single_update = " ON DUPLICATE KEY UPDATE VALUE_TEXT = VALUES(VALUE_TEXT), VALUE_NUMBER = VALUES(VALUE_NUMBER), VALUE_DATE = VALUES(VALUE_DATE), VALUE_USER_ID = VALUES(VALUE_USER_ID), VALUE_OPTION_ID = VALUES(VALUE_OPTION_ID), VALUE_CHECKBOX = VALUES(VALUE_CHECKBOX), UPDATED_BY = 1, UPDATED_AT = CURRENT_TIMESTAMP"
+        batch_update = " AS incoming ON DUPLICATE KEY UPDATE VALUE_TEXT = incoming.VALUE_TEXT, VALUE_NUMBER = incoming.VALUE_NUMBER, VALUE_DATE = incoming.VALUE_DATE, VALUE_USER_ID = incoming.VALUE_USER_ID, VALUE_OPTION_ID = incoming.VALUE_OPTION_ID, VALUE_CHECKBOX = incoming.VALUE_CHECKBOX, UPDATED_BY = 1, UPDATED_AT = CURRENT_TIMESTAMP"
+        for (item = 1; item <= saves; item++) {
+            print "START TRANSACTION;"
+            rows = ""; multi_ids = ""; multi_rows = ""
+            for (p = 1; p <= singles; p++) {
+                text = "값 " round "-" item "-" p
+                if (mode == "legacy") {
+                    print cols upsert_row(item, p, text) single_update ";"
+                } else {
+                    rows = rows (rows == "" ? "" : ", ") upsert_row(item, p, text)
+                }
+            }
+            for (m = 1; m <= multis; m++) {
+                prop = singles + m
+                # 회차에 따라 옵션 묶음 앞쪽/뒤쪽 절반을 번갈아 선택
+                base = (m - 1) * options * 2 + (round % 2) * options
+                text = ""
+                if (mode == "legacy") {
+                    print "DELETE FROM TB_ITEM_PROPERTY_MULTI WHERE ITEM_ID = " item " AND PROPERTY_ID = " prop ";"
+                } else {
+                    multi_ids = multi_ids (multi_ids == "" ? "" : ", ") prop
+                }
+                for (o = 1; o <= options; o++) {
+                    option = base + o
+                    text = text (text == "" ? "" : ",") option
+                    row = sprintf("(%d, %d, %d, 1)", item, prop, option)
+                    if (mode == "legacy") {
+                        print "INSERT INTO TB_ITEM_PROPERTY_MULTI (ITEM_ID, PROPERTY_ID, OPTION_ID, CREATED_BY) VALUES " row ";"
+                    } else {
+                        multi_rows = multi_rows (multi_rows == "" ? "" : ", ") row
+                    }
+                }
+                if (mode == "legacy") {
+                    print cols upsert_row(item, prop, text) single_update ";"
+                } else {
+                    rows = rows (rows == "" ? "" : ", ") upsert_row(item, prop, text)
+                }
+            }
+            if (mode == "batched") {
+                if (multi_ids != "") {
+                    print "DELETE FROM TB_ITEM_PROPERTY_MULTI WHERE ITEM_ID = " item " AND PROPERTY_ID IN (" multi_ids ");"
+                }
+                if (multi_rows != "") {
+                    print "INSERT INTO TB_ITEM_PROPERTY_MULTI (ITEM_ID, PROPERTY_ID, OPTION_ID, CREATED_BY) VALUES " multi_rows ";"
+                }
+                if (rows != "") {
+                    print cols rows batch_update ";"
+                }
+            }
+            print "COMMIT;"
+        }
+    }'
+}
+
+STATUS_SQL="SELECT SUM(IF(VARIABLE_NAME = 'Questions', VARIABLE_VALUE, 0)), SUM(IF(VARIABLE_NAME IN ('Com_insert', 'Com_delete', 'Com_update'), VARIABLE_VALUE, 0)) FROM performance_schema.session_status"
+
+# 한 세션에서 실행: 전체 시간(ms), 상태 변수 전/후 출력
+measure() {
+    local mode=$1 round=$2
+    {
+        echo "${STATUS_SQL};"
+        echo "SET @started := NOW(6);"
+        generate_saves "${mode}" "${round}"
+        echo "SELECT TIMESTAMPDIFF(MICROSECOND, @started, NOW(6)) / 1000;"
+        echo "${STATUS_SQL};"
+    } | mysql_exec -N "${BENCH_DB}" | tr '\t' ' ' | tr '\n' ' '
+}
+
+echo "[3/3] 측정 중..."
+# 워밍업: 모든 아이템에 속성값을 만들어 두어 두 방식 모두 갱신 경로를 측정
+measure batched 0 > /dev/null
+
+printf "\n%-8s %12s %14s %14s %14s\n" "mode" "saves" "SQL/save" "DML/save" "avg ms/save"
+for mode in legacy batched; do
+    round=$([ "${mode}" = "legacy" ] && echo 1 || echo 2)
+    generate_saves "${mode}" "${round}" | head -n 40 > "${OUT_DIR}/${mode}-sample.sql"
+    read -r q_before dml_before total_ms q_after dml_after <<< "$(measure "${mode}" "${round}")"
+    # Questions 차이에서 측정용 SQL(SET, SELECT x2)을 제외
+    awk -v m="${mode}" -v n="${SAVES}" -v qb="${q_before}" -v qa="${q_after}" -v db="${dml_before}" -v da="${dml_after}" -v ms="${total_ms}" \
+        'BEGIN { printf "%-8s %12d %14.1f %14.1f %14.3f\n", m, n, (qa - qb - 3) / n, (da - db) / n, ms / n }'
+done
+
+# 두 방식의 최종 상태가 같은지 확인 (같은 회차 값으로 다시 저장 후 비교)
+checksum() {
+    mysql_exec -N "${BENCH_DB}" -e "
+SELECT CONCAT(
+    (SELECT COUNT(*) FROM TB_ITEM_PROPERTY), '/',
+    (SELECT SUM(CRC32(CONCAT(ITEM_ID, ':', PROPERTY_ID, ':', VALUE_TEXT))) FROM TB_ITEM_PROPERTY), '/',
+    (SELECT COUNT(*) FROM TB_ITEM_PROPERTY_MULTI), '/',
+    (SELECT SUM(CRC32(CONCAT(ITEM_ID, ':', PROPERTY_ID, ':', OPTION_ID))) FROM TB_ITEM_PROPERTY_MULTI))"
+}
+generate_saves legacy 3 | mysql_exec "${BENCH_DB}"
+legacy_state=$(checksum)
+generate_saves batched 3 | mysql_exec "${BENCH_DB}"
+batched_state=$(checksum)
+if [ "${legacy_state}" != "${batched_state}" ]; then
+    echo "결과 불일치: legacy=${legacy_state}, batched=${batched_state}"
+    exit 1
+fi
+
+echo ""
+echo "SQL/save: 트랜잭션 시작/커밋을 포함한 저장 1회의 SQL 수 (애플리케이션 기준 DB 왕복 수)"
+echo "생성된 SQL 예시: ${OUT_DIR}/<mode>-sample.sql"
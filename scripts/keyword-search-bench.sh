@@ -0,0 +1,194 @@
+#!/bin/bash
+# ============================================
+# TaskFlow 키워드 검색 벤치마크 스크립트 (LIKE vs ngram FULLTEXT)
+# ============================================
+# 사용법: ./scripts/keyword-search-bench.sh [보드 수] [아이템 수] [반복 횟수]
+# 예시: ./scripts/keyword-search-bench.sh 200 2000000 20
+#
+# - docker compose 의 mysql 서비스에 벤치마크 전용 DB(taskflow_search_bench)를 만들고 한글 합성 데이터를 적재합니다.
+#   (사용자 1명이 모든 보드를 소유, 아이템의 1/4 은 1번 보드)
+# - 보드 목록 / Cross-board 활성 업무 / 작업 처리 이력의 키워드 조건을 기존 LIKE 방식과
+#   FULLTEXT(ngram) 후보 + LIKE 확인 방식으로 각각 실행하여 평균 시간을 비교합니다.
+# - 검색어는 환경변수 KEYWORDS 로 지정합니다. ('|' 구분, 기본 "긴급패치|보고서|설계 검토")
+# - 각 쿼리의 EXPLAIN ANALYZE 결과는 build/keyword-search-bench/ 에 저장됩니다.
+# - 운영 DB(taskflow)는 건드리지 않습니다. KEEP_DATA=1 이면 기존 벤치마크 데이터를 재사용합니다.
+
+set -e
+export LC_ALL=C.UTF-8
+
+BOARDS=${1:-200}
+ITEMS=${2:-2000000}
+REPEAT=${3:-20}
+KEYWORDS=${KEYWORDS:-"긴급패치|보고서|설계 검토"}
+BENCH_DB=taskflow_search_bench
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+SCHEMA_FILE="${PROJECT_ROOT}/docker/mysql/init/01_schema.sql"
+OUT_DIR="${PROJECT_ROOT}/backend/build/keyword-search-bench"
+
+cd "${PROJECT_ROOT}"
+mkdir -p "${OUT_DIR}"
+
+mysql_exec() {
+    docker compose exec -T mysql sh -c 'exec mysql -uroot -p"$MYSQL_ROOT_PASSWORD" --default-character-set=utf8mb4 "$@"' -- "$@" 2> >(grep -v "Using a password" >&2)
+}
+
+echo "============================================"
+echo "TaskFlow 키워드 검색 벤치마크"
+echo "보드: ${BOARDS}, 아이템: ${ITEMS}, 반복: ${REPEAT}, 검색어: ${KEYWORDS}"
+echo "============================================"
+
+echo "[1/3] MySQL 확인 중..."
+docker compose up -d mysql
+for i in $(seq 1 60); do
+    if docker compose exec -T mysql mysqladmin ping -h localhost --silent 2>/dev/null; then
+        break
+    fi
+    sleep 2
+done
+
+if [ "${KEEP_DATA}" != "1" ]; then
+    echo "[2/3] 합성 데이터 적재 중... (수 분 소요)"
+    mysql_exec -e "DROP DATABASE IF EXISTS ${BENCH_DB}; CREATE DATABASE ${BENCH_DB} CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;"
+    mysql_exec "${BENCH_DB}" < "${SCHEMA_FILE}"
+    mysql_exec "${BENCH_DB}" <<SQL
+SET SESSION cte_max_recursion_depth = 100000000;
+SET FOREIGN_KEY_CHECKS = 0;
+
+-- 대량 적재 중에는 FULLTEXT 인덱스를 내려 두고 적재 후 한 번에 생성
+ALTER TABLE TB_ITEM DROP INDEX FT_ITEM_CONTENT;
+
+INSERT INTO TB_DEPARTMENT (DEPARTMENT_ID, DEPARTMENT_CODE, DEPARTMENT_NAME, CREATED_BY)
+VALUES (1, 'BENCH', '벤치마크', 1);
+
+INSERT INTO TB_USER (USER_ID, USERNAME, PASSWORD, NAME, DEPARTMENT_ID, CREATED_BY)
+VALUES (1, 'bench1', 'x', '사용자1', 1, 1);
+
+INSERT INTO TB_BOARD (BOARD_ID, BOARD_NAME, OWNER_ID, CREATED_BY)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${BOARDS})
+SELECT n, CONCAT('보드', n), 1, 1 FROM seq;
+
+-- 아이템 내용: 업무 단어 3개 조합 + 0.02% 에만 '긴급패치' / 완료 40%, 삭제 10%
+INSERT INTO TB_ITEM (BOARD_ID, CONTENT, STATUS, PRIORITY, CREATED_BY, CREATED_AT, UPDATED_BY, UPDATED_AT, END_TIME, DELETED_AT)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${ITEMS})
+SELECT IF(n % 4 = 0, 1, 2 + n % GREATEST(${BOARDS} - 1, 1)),
+       CONCAT(ELT(1 + n % 20, '회의', '보고서', '설계', '배포', '점검', '계약', '예산', '교육', '채용', '마감',
+                  '검토', '승인', '요청', '개선', '장애', '분석', '일정', '구매', '견적', '정산'),
+              ' ',
+              ELT(1 + (n DIV 20) % 17, '작성', '검토', '준비', '공유', '정리', '확인', '수정', '보완', '취합',
+                  '등록', '요청', '회신', '협의', '점검', '배포', '완료', '보고'),
+              ' ',
+              ELT(1 + (n DIV 340) % 7, '1차', '2차', '최종', '초안', '긴급', '정기', '추가'),
+              IF(n % 5000 = 0, ' 긴급패치', ''),
+              ' #', n),
+       ELT(1 + n % 10, 'COMPLETED', 'COMPLETED', 'COMPLETED', 'COMPLETED', 'DELETED',
+           'PENDING', 'IN_PROGRESS', 'IN_PROGRESS', 'NOT_STARTED', 'NOT_STARTED'),
+       ELT(1 + n % 4, 'URGENT', 'HIGH', 'NORMAL', 'LOW'),
+       1,
+       NOW() - INTERVAL (n DIV 3) SECOND,
+       1,
+       NOW() - INTERVAL (n DIV 5) SECOND,
+       IF(n % 10 < 4, NOW() - INTERVAL (n DIV 4) SECOND, NULL),
+       IF(n % 10 = 4, NOW() - INTERVAL (n DIV 4) SECOND, NULL)
+FROM seq;
+
+INSERT INTO TB_BOARD_ACCESS (USER_ID, BOARD_ID, PERMISSION)
+SELECT OWNER_ID, BOARD_ID, 'OWNER' FROM TB_BOARD;
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+CREATE FULLTEXT INDEX FT_ITEM_CONTENT ON TB_ITEM (CONTENT) WITH PARSER ngram;
+
+SET FOREIGN_KEY_CHECKS = 1;
+ANALYZE TABLE TB_USER, TB_BOARD, TB_BOARD_ACCESS, TB_ITEM;
+SQL
+else
+    echo "[2/3] 기존 벤치마크 데이터 사용 (KEEP_DATA=1)"
+fi
+
+# FullTextQuery.ngramBoolean 과 같은 변환: 공백 단위 단어 중 2글자 이상을 필수 구문으로
+ngram_boolean() {
+    local result=""
+    for term in $1; do
+        if [ "${#term}" -ge 2 ]; then
+            result="${result} +\"${term}\""
+        fi
+    done
+    echo "${result# }"
+}
+
+# 시나리오별 기본 조건 (ItemMapper.xml / ItemHistoryMapper.xml 과 같은 조건)
+base_where() {
+    case "$1" in
+        board)
+            echo "WHERE i.BOARD_ID = 1 AND i.STATUS != 'COMPLETED' AND i.STATUS != 'DELETED'" ;;
+        cross)
+            echo "WHERE i.STATUS NOT IN ('COMPLETED', 'DELETED') AND i.BOARD_ID IN (SELECT ba.BOARD_ID FROM TB_BOARD_ACCESS ba WHERE ba.USER_ID = 1) AND b.USE_YN = 'Y'" ;;
+        history)
+            echo "WHERE i.STATUS IN ('COMPLETED', 'DELETED')" ;;
+    esac
+}
+
+FROM_CLAUSE="FROM TB_ITEM i INNER JOIN TB_BOARD b ON i.BOARD_ID = b.BOARD_ID"
+
+# 한 세션에서 워밍업 1회 후 REPEAT 회 실행한 평균 (ms)
+measure() {
+    local sql=$1
+    {
+        echo "SET @dummy := (SELECT COUNT(*) FROM (${sql}) w);"
+        echo "SET @started := NOW(6);"
+        for _ in $(seq 1 "${REPEAT}"); do
+            echo "SET @dummy := (SELECT COUNT(*) FROM (${sql}) r);"
+        done
+        echo "SELECT ROUND(TIMESTAMPDIFF(MICROSECOND, @started, NOW(6)) / ${REPEAT} / 1000, 2);"
+    } | mysql_exec -N "${BENCH_DB}"
+}
+
+echo "[3/3] 쿼리 측정 중..."
+printf "\n%-8s %-14s %-6s %10s %12s %15s %10s\n" "scope" "keyword" "query" "rows" "LIKE (ms)" "FULLTEXT (ms)" "speedup"
+IFS='|' read -r -a keyword_list <<< "${KEYWORDS}"
+case_no=0
+for scope in board cross history; do
+    where=$(base_where "${scope}")
+    for keyword in "${keyword_list[@]}"; do
+        case_no=$((case_no + 1))
+        escaped=${keyword//\'/\'\'}
+        like_condition="AND i.CONTENT LIKE CONCAT('%', '${escaped}', '%')"
+        ft_query=$(ngram_boolean "${keyword}")
+        if [ -n "${ft_query}" ]; then
+            ft_condition="AND MATCH(i.CONTENT) AGAINST ('${ft_query//\'/\'\'}' IN BOOLEAN MODE) ${like_condition}"
+        else
+            ft_condition="${like_condition}"
+        fi
+
+        for query in count page; do
+            if [ "${query}" = "count" ]; then
+                like_sql="SELECT COUNT(*) ${FROM_CLAUSE} ${where} ${like_condition}"
+                ft_sql="SELECT COUNT(*) ${FROM_CLAUSE} ${where} ${ft_condition}"
+            else
+                like_sql="SELECT i.ITEM_ID ${FROM_CLAUSE} ${where} ${like_condition} ORDER BY i.CREATED_AT DESC LIMIT 20"
+                ft_sql="SELECT i.ITEM_ID ${FROM_CLAUSE} ${where} ${ft_condition} ORDER BY i.CREATED_AT DESC LIMIT 20"
+            fi
+
+            # 두 방식의 결과가 같은지 확인
+            like_result=$(mysql_exec -N "${BENCH_DB}" -e "${like_sql}" | tr '\n' ' ')
+            ft_result=$(mysql_exec -N "${BENCH_DB}" -e "${ft_sql}" | tr '\n' ' ')
+            if [ "${like_result}" != "${ft_result}" ]; then
+                echo "결과 불일치: ${scope} '${keyword}' ${query}"
+                exit 1
+            fi
+            rows=$( [ "${query}" = "count" ] && echo "${like_result}" || echo "-" )
+
+            mysql_exec "${BENCH_DB}" -e "EXPLAIN ANALYZE ${like_sql}" > "${OUT_DIR}/${case_no}-${scope}-${query}-like.txt"
+            mysql_exec "${BENCH_DB}" -e "EXPLAIN ANALYZE ${ft_sql}" > "${OUT_DIR}/${case_no}-${scope}-${query}-fulltext.txt"
+
+            like_ms=$(measure "${like_sql}")
+            ft_ms=$(measure "${ft_sql}")
+            speedup=$(awk -v a="${like_ms}" -v b="${ft_ms}" 'BEGIN { if (b > 0) printf "%.1fx", a / b; else print "-" }')
+            printf "%-8s %-14s %-6s %10s %12s %15s %10s\n" "${scope}" "${keyword}" "${query}" "${rows}" "${like_ms}" "${ft_ms}" "${speedup}"
+        done
+    done
+done
+
+echo ""
+echo "실행 계획: ${OUT_DIR} (번호-범위-쿼리-방식.txt)"
@@ -0,0 +1,69 @@
+#!/bin/bash
+# ============================================
+# TaskFlow SSE 부하 테스트 스크립트
+# ============================================
+# 사용법: ./scripts/sse-loadtest.sh [연결 수] [보드 수] [초당 변경 수] [측정 시간(초)]
+# 예시: ./scripts/sse-loadtest.sh 10000 50 50 60
+#
+# - localhost:3306 에 MySQL 이 없으면 docker compose 로 mysql 서비스만 시작합니다.
+# - 백엔드를 local,loadtest 프로파일로 시작한 뒤 부하 테스트를 수행하고 종료합니다.
+# - 그 외 설정은 환경변수 LOADTEST_OPTS 로 전달합니다. (예: "-Dloadtest.itemsPerBoard=50")
+
+set -e
+
+CONNECTIONS=${1:-10000}
+BOARDS=${2:-50}
+MUTATION_RATE=${3:-50}
+DURATION=${4:-60}
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+BACKEND_DIR="${PROJECT_ROOT}/backend"
+LOG_FILE="${BACKEND_DIR}/build/sse-loadtest-server.log"
+SERVER_PID=""
+
+cleanup() {
+    if [ -n "${SERVER_PID}" ]; then
+        echo "백엔드 종료 중... (pid ${SERVER_PID})"
+        kill "${SERVER_PID}" 2>/dev/null || true
+        wait "${SERVER_PID}" 2>/dev/null || true
+    fi
+}
+trap cleanup EXIT
+
+# 연결 수만큼 파일 디스크립터 필요 (클라이언트/서버 각각)
+ulimit -n 65536 2>/dev/null || echo "Warning: ulimit -n 65536 설정 실패 (현재 $(ulimit -n))"
+
+echo "============================================"
+echo "TaskFlow SSE 부하 테스트"
+echo "연결: ${CONNECTIONS}, 보드: ${BOARDS}, 초당 변경: ${MUTATION_RATE}, 측정: ${DURATION}s"
+echo "============================================"
+
+echo "[1/4] MySQL 확인 중..."
+if ! (exec 3<>/dev/tcp/127.0.0.1/3306) 2>/dev/null; then
+    cd "${PROJECT_ROOT}"
+    docker compose up -d mysql
+    for i in $(seq 1 60); do
+        if docker compose exec -T mysql mysqladmin ping -h localhost --silent 2>/dev/null; then
+            break
+        fi
+        sleep 2
+    done
+fi
+
+echo "[2/4] 백엔드 빌드 중..."
+cd "${BACKEND_DIR}"
+bash ./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+echo "[3/4] 백엔드 시작 중... (로그: ${LOG_FILE})"
+java -Xmx2g -jar "${JAR}" --spring.profiles.active=local,loadtest > "${LOG_FILE}" 2>&1 &
+SERVER_PID=$!
+
+echo "[4/4] 부하 테스트 실행 중..."
+bash ./gradlew -q sseLoadTest \
+    -Dloadtest.connections="${CONNECTIONS}" \
+    -Dloadtest.boards="${BOARDS}" \
+    -Dloadtest.mutationRate="${MUTATION_RATE}" \
+    -Dloadtest.durationSeconds="${DURATION}" \
+    ${LOADTEST_OPTS}